@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.infra.parser.sql.parameterized.SQLAutoParameterizationStatistics;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Proxy SQL auto parameterization exporter.
+ */
+public final class ProxySQLAutoParameterizationExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_sql_auto_parameterization",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "SQL auto parameterization of ShardingSphere-Proxy. hit_count, miss_count, unparameterized_count and hit_rate per database type",
+            Arrays.asList("database_type", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<DatabaseType, SQLStatementParserEngine> entry : SQLStatementParserEngineFactory.getSQLStatementParserEngines().entrySet()) {
+            addMetrics(result, entry.getKey().getType(), entry.getValue().getAutoParameterizationStatistics());
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final GaugeMetricFamilyMetricsCollector collector, final String databaseType, final SQLAutoParameterizationStatistics statistics) {
+        collector.addMetric(Arrays.asList(databaseType, "hit_count"), statistics.getHitCount());
+        collector.addMetric(Arrays.asList(databaseType, "miss_count"), statistics.getMissCount());
+        collector.addMetric(Arrays.asList(databaseType, "unparameterized_count"), statistics.getUnparameterizedCount());
+        collector.addMetric(Arrays.asList(databaseType, "hit_rate"), statistics.getHitRate());
+    }
+}
@@ -33,7 +33,10 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -59,15 +62,58 @@ public final class MetaDataLoader {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
+        return load(materials, 0);
+    }
+    
+    /**
+     * Load meta data.
+     *
+     * @param materials meta data loader materials
+     * @param maxConcurrencyPerStorageUnit max concurrent loading materials of each storage unit, zero means unlimited
+     * @return meta data map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials, final int maxConcurrencyPerStorageUnit) throws SQLException {
         Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
-        Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
+        for (Collection<SchemaMetaData> each : loadByStorageUnit(materials, maxConcurrencyPerStorageUnit).values()) {
+            merge(result, each);
+        }
+        return result;
+    }
+    
+    /**
+     * Load meta data grouped by storage unit.
+     *
+     * @param materials meta data loader materials
+     * @param maxConcurrencyPerStorageUnit max concurrent loading materials of each storage unit, zero means unlimited
+     * @return loaded schema meta data of each storage unit, key is storage unit name
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, Collection<SchemaMetaData>> loadByStorageUnit(final Collection<MetaDataLoaderMaterial> materials, final int maxConcurrencyPerStorageUnit) throws SQLException {
         for (MetaDataLoaderMaterial each : materials) {
             DataTypeRegistry.load(each.getDataSource(), each.getStorageType().getType());
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
         }
+        Map<String, Collection<Future<Collection<SchemaMetaData>>>> futures = new LinkedHashMap<>();
+        for (Entry<String, Queue<MetaDataLoaderMaterial>> entry : groupByStorageUnit(materials).entrySet()) {
+            Collection<Future<Collection<SchemaMetaData>>> storageUnitFutures = futures.computeIfAbsent(entry.getKey(), key -> new LinkedList<>());
+            if (maxConcurrencyPerStorageUnit > 0) {
+                for (int i = 0; i < Math.min(maxConcurrencyPerStorageUnit, entry.getValue().size()); i++) {
+                    storageUnitFutures.add(EXECUTOR_SERVICE.submit(() -> drain(entry.getValue())));
+                }
+            } else {
+                for (MetaDataLoaderMaterial each : entry.getValue()) {
+                    storageUnitFutures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+                }
+            }
+        }
+        Map<String, Collection<SchemaMetaData>> result = new LinkedHashMap<>(futures.size(), 1F);
         try {
-            for (Future<Collection<SchemaMetaData>> each : futures) {
-                merge(result, each.get());
+            for (Entry<String, Collection<Future<Collection<SchemaMetaData>>>> entry : futures.entrySet()) {
+                Collection<SchemaMetaData> schemaMetaDataList = new LinkedList<>();
+                for (Future<Collection<SchemaMetaData>> each : entry.getValue()) {
+                    schemaMetaDataList.addAll(each.get());
+                }
+                result.put(entry.getKey(), schemaMetaDataList);
             }
         } catch (final InterruptedException ex) {
             Thread.currentThread().interrupt();
@@ -80,6 +126,23 @@ public final class MetaDataLoader {
         return result;
     }
     
+    private static Map<String, Queue<MetaDataLoaderMaterial>> groupByStorageUnit(final Collection<MetaDataLoaderMaterial> materials) {
+        Map<String, Queue<MetaDataLoaderMaterial>> result = new LinkedHashMap<>();
+        for (MetaDataLoaderMaterial each : materials) {
+            result.computeIfAbsent(each.getStorageUnitName(), key -> new ConcurrentLinkedQueue<>()).add(each);
+        }
+        return result;
+    }
+    
+    private static Collection<SchemaMetaData> drain(final Queue<MetaDataLoaderMaterial> materials) throws SQLException {
+        Collection<SchemaMetaData> result = new LinkedList<>();
+        MetaDataLoaderMaterial material;
+        while (null != (material = materials.poll())) {
+            result.addAll(load(material));
+        }
+        return result;
+    }
+    
     private static Collection<SchemaMetaData> load(final MetaDataLoaderMaterial material) throws SQLException {
         Optional<DialectMetaDataLoader> dialectLoader = DatabaseTypedSPILoader.findService(DialectMetaDataLoader.class, material.getStorageType());
         if (dialectLoader.isPresent()) {
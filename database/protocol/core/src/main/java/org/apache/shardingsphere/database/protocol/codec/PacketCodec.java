@@ -24,6 +24,7 @@ import io.netty.handler.codec.ByteToMessageCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacketBatch;
 
 import java.util.List;
 
@@ -32,7 +33,7 @@ import java.util.List;
  */
 @RequiredArgsConstructor
 @Slf4j
-public final class PacketCodec extends ByteToMessageCodec<DatabasePacket> {
+public final class PacketCodec extends ByteToMessageCodec<Object> {
     
     private final DatabasePacketCodecEngine databasePacketCodecEngine;
     
@@ -49,10 +50,28 @@ public final class PacketCodec extends ByteToMessageCodec<DatabasePacket> {
     }
     
     @Override
-    protected void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
-        databasePacketCodecEngine.encode(context, message, out);
+    public boolean acceptOutboundMessage(final Object message) {
+        return message instanceof DatabasePacket || message instanceof DatabasePacketBatch;
+    }
+    
+    @Override
+    protected void encode(final ChannelHandlerContext context, final Object message, final ByteBuf out) {
+        if (message instanceof DatabasePacketBatch) {
+            encodeBatch(context, (DatabasePacketBatch) message, out);
+        } else {
+            databasePacketCodecEngine.encode(context, (DatabasePacket) message, out);
+        }
         if (log.isDebugEnabled()) {
             log.debug("Write to client {} :\n{}", context.channel().id().asShortText(), ByteBufUtil.prettyHexDump(out));
         }
     }
+    
+    private void encodeBatch(final ChannelHandlerContext context, final DatabasePacketBatch batch, final ByteBuf out) {
+        out.ensureWritable(batch.getEstimatedBytes());
+        int startWriterIndex = out.writerIndex();
+        for (DatabasePacket each : batch.getPackets()) {
+            databasePacketCodecEngine.encode(context, each, out);
+        }
+        batch.getEncodedBytesConsumer().accept(out.writerIndex() - startWriterIndex);
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.packet;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Database packet batch.
+ *
+ * <p>A batch is an outbound message of packet codec rather than a packet itself: packets of a batch are encoded one after another into one buffer,
+ * and the encoded bytes of the batch are reported to the encoded bytes consumer.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DatabasePacketBatch {
+    
+    private final List<DatabasePacket> packets;
+    
+    private final int estimatedBytes;
+    
+    private final IntConsumer encodedBytesConsumer;
+}
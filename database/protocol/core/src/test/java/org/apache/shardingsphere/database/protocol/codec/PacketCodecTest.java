@@ -20,14 +20,22 @@ package org.apache.shardingsphere.database.protocol.codec;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacketBatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -74,4 +82,24 @@ class PacketCodecTest {
         packetCodec.encode(context, databasePacket, byteBuf);
         verify(databasePacketCodecEngine).encode(context, databasePacket, byteBuf);
     }
+    
+    @Test
+    void assertEncodeBatch() {
+        DatabasePacket firstPacket = mock(DatabasePacket.class);
+        DatabasePacket secondPacket = mock(DatabasePacket.class);
+        AtomicInteger encodedBytes = new AtomicInteger();
+        when(byteBuf.writerIndex()).thenReturn(0, 10);
+        packetCodec.encode(context, new DatabasePacketBatch(Arrays.asList(firstPacket, secondPacket), 16, encodedBytes::set), byteBuf);
+        verify(byteBuf).ensureWritable(16);
+        verify(databasePacketCodecEngine).encode(context, firstPacket, byteBuf);
+        verify(databasePacketCodecEngine).encode(context, secondPacket, byteBuf);
+        assertThat(encodedBytes.get(), is(10));
+    }
+    
+    @Test
+    void assertAcceptOutboundMessage() {
+        assertTrue(packetCodec.acceptOutboundMessage(mock(DatabasePacket.class)));
+        assertTrue(packetCodec.acceptOutboundMessage(new DatabasePacketBatch(Collections.emptyList(), 16, mock(IntConsumer.class))));
+        assertFalse(packetCodec.acceptOutboundMessage(new Object()));
+    }
 }
@@ -86,6 +86,7 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
     
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        int headerIndex = out.writerIndex();
         MySQLPacketPayload payload = new MySQLPacketPayload(prepareMessageHeader(out).markWriterIndex(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
         try {
             message.write(payload);
@@ -95,10 +96,10 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
             out.resetWriterIndex();
             new MySQLErrPacket(new UnknownSQLException(ex).toSQLException()).write(payload);
         } finally {
-            if (out.readableBytes() - PAYLOAD_LENGTH - SEQUENCE_LENGTH < MAX_PACKET_LENGTH) {
-                updateMessageHeader(out, context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().getAndIncrement());
+            if (out.writerIndex() - headerIndex - PAYLOAD_LENGTH - SEQUENCE_LENGTH < MAX_PACKET_LENGTH) {
+                updateMessageHeader(out, headerIndex, context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().getAndIncrement());
             } else {
-                writeMultiPackets(context, out);
+                writeMultiPackets(context, out, headerIndex);
             }
         }
     }
@@ -107,12 +108,15 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
         return out.writeInt(0);
     }
     
-    private void updateMessageHeader(final ByteBuf byteBuf, final int sequenceId) {
-        byteBuf.setMediumLE(0, byteBuf.readableBytes() - PAYLOAD_LENGTH - SEQUENCE_LENGTH);
-        byteBuf.setByte(3, sequenceId);
+    private void updateMessageHeader(final ByteBuf byteBuf, final int headerIndex, final int sequenceId) {
+        byteBuf.setMediumLE(headerIndex, byteBuf.writerIndex() - headerIndex - PAYLOAD_LENGTH - SEQUENCE_LENGTH);
+        byteBuf.setByte(headerIndex + PAYLOAD_LENGTH, sequenceId);
     }
     
-    private void writeMultiPackets(final ChannelHandlerContext context, final ByteBuf byteBuf) {
+    private void writeMultiPackets(final ChannelHandlerContext context, final ByteBuf byteBuf, final int headerIndex) {
+        if (headerIndex > byteBuf.readerIndex()) {
+            context.write(byteBuf.readRetainedSlice(headerIndex - byteBuf.readerIndex()));
+        }
         int packetCount = byteBuf.skipBytes(PAYLOAD_LENGTH + SEQUENCE_LENGTH).readableBytes() / MAX_PACKET_LENGTH + 1;
         CompositeByteBuf result = context.alloc().compositeBuffer(packetCount * 2);
         AtomicInteger sequenceId = context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get();
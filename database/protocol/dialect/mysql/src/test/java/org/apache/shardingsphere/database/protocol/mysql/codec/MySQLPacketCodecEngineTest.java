@@ -30,6 +30,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -49,8 +50,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -133,7 +136,7 @@ class MySQLPacketCodecEngineTest {
     void assertEncode() {
         when(byteBuf.writeInt(anyInt())).thenReturn(byteBuf);
         when(byteBuf.markWriterIndex()).thenReturn(byteBuf);
-        when(byteBuf.readableBytes()).thenReturn(8);
+        when(byteBuf.writerIndex()).thenReturn(0, 8);
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().set(1);
         new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
@@ -149,8 +152,7 @@ class MySQLPacketCodecEngineTest {
         CompositeByteBuf expected = new CompositeByteBuf(UnpooledByteBufAllocator.DEFAULT, false, 6);
         when(context.alloc().compositeBuffer(6)).thenReturn(expected);
         when(context.alloc().ioBuffer(4, 4)).thenReturn(Unpooled.buffer(4, 4), Unpooled.buffer(4, 4), Unpooled.buffer(4, 4));
-        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
-        engine.encode(context, mock(MySQLPacket.class), prepareByteBufAlmost32MB());
+        new MySQLPacketCodecEngine().encode(context, mockPacketAlmost32MB(), Unpooled.buffer());
         verify(context).write(expected);
         assertThat(expected.numComponents(), is(5));
         assertThat(expected.component(0).getUnsignedByte(3), is((short) 0));
@@ -160,18 +162,32 @@ class MySQLPacketCodecEngineTest {
         assertThat(expected.component(4).getUnsignedByte(3), is((short) 2));
     }
     
-    private ByteBuf prepareByteBufAlmost32MB() {
-        int max = 0xFFFFFF << 1;
-        ByteBuf result = Unpooled.buffer(max + 4);
-        result.writerIndex(max);
-        return result.retain();
+    @Test
+    void assertEncodePacketMoreThan16MBAfterEncodedPackets() {
+        CompositeByteBuf expected = new CompositeByteBuf(UnpooledByteBufAllocator.DEFAULT, false, 6);
+        when(context.alloc().compositeBuffer(6)).thenReturn(expected);
+        when(context.alloc().ioBuffer(4, 4)).thenReturn(Unpooled.buffer(4, 4), Unpooled.buffer(4, 4), Unpooled.buffer(4, 4));
+        ByteBuf out = Unpooled.buffer().writeZero(5);
+        new MySQLPacketCodecEngine().encode(context, mockPacketAlmost32MB(), out);
+        ArgumentCaptor<Object> messageCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(2)).write(messageCaptor.capture());
+        assertThat(((ByteBuf) messageCaptor.getAllValues().get(0)).readableBytes(), is(5));
+        assertThat(messageCaptor.getAllValues().get(1), is(expected));
+        assertThat(expected.numComponents(), is(5));
+        assertFalse(out.isReadable());
+    }
+    
+    private MySQLPacket mockPacketAlmost32MB() {
+        MySQLPacket result = mock(MySQLPacket.class);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(0xFFFFFF << 1)).when(result).write(any(MySQLPacketPayload.class));
+        return result;
     }
     
     @Test
     void assertEncodeOccursException() {
         when(byteBuf.writeInt(anyInt())).thenReturn(byteBuf);
         when(byteBuf.markWriterIndex()).thenReturn(byteBuf);
-        when(byteBuf.readableBytes()).thenReturn(12);
+        when(byteBuf.writerIndex()).thenReturn(0, 12);
         RuntimeException ex = mock(RuntimeException.class);
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         doThrow(ex).when(actualMessage).write(any(MySQLPacketPayload.class));
@@ -105,6 +105,8 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
     
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        int headerIndex = out.writerIndex();
+        out.markWriterIndex();
         boolean isIdentifierPacket = message instanceof PostgreSQLIdentifierPacket;
         if (isIdentifierPacket) {
             prepareMessageHeader(out, ((PostgreSQLIdentifierPacket) message).getIdentifier().getValue());
@@ -124,7 +126,7 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
             errorResponsePacket.write(payload);
         } finally {
             if (isIdentifierPacket) {
-                updateMessageLength(out);
+                updateMessageLength(out, headerIndex);
             }
         }
     }
@@ -134,8 +136,8 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
         out.writeInt(0);
     }
     
-    private void updateMessageLength(final ByteBuf out) {
-        out.setInt(1, out.readableBytes() - MESSAGE_TYPE_LENGTH);
+    private void updateMessageLength(final ByteBuf out, final int headerIndex) {
+        out.setInt(headerIndex + MESSAGE_TYPE_LENGTH, out.writerIndex() - headerIndex - MESSAGE_TYPE_LENGTH);
     }
     
     @Override
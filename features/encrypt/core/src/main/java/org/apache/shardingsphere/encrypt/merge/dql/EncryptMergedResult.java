@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
-import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.exception.external.sql.identifier.SQLExceptionIdentifier;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
@@ -30,6 +33,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.bound.ColumnSegmentBoundInfo;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Optional;
 
 /**
@@ -43,6 +47,10 @@ public final class EncryptMergedResult extends DecoratorMergedResult {
     
     private final SelectStatementContext selectStatementContext;
     
+    private ColumnDecryptor[] columnDecryptors = new ColumnDecryptor[0];
+    
+    private boolean[] resolvedColumns = new boolean[0];
+    
     public EncryptMergedResult(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) {
         super(mergedResult);
         this.database = database;
@@ -50,11 +58,33 @@ public final class EncryptMergedResult extends DecoratorMergedResult {
         this.selectStatementContext = selectStatementContext;
     }
     
+    @HighFrequencyInvocation
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ColumnDecryptor columnDecryptor = getColumnDecryptor(columnIndex);
+        return null == columnDecryptor ? getMergedResult().getValue(columnIndex, type) : columnDecryptor.decrypt(getMergedResult().getValue(columnIndex, Object.class));
+    }
+    
+    @HighFrequencyInvocation
+    private ColumnDecryptor getColumnDecryptor(final int columnIndex) {
+        if (columnIndex < resolvedColumns.length && resolvedColumns[columnIndex]) {
+            return columnDecryptors[columnIndex];
+        }
+        if (columnIndex >= resolvedColumns.length) {
+            int capacity = Math.max(columnIndex, selectStatementContext.getProjectionsContext().getExpandProjections().size()) + 1;
+            columnDecryptors = Arrays.copyOf(columnDecryptors, capacity);
+            resolvedColumns = Arrays.copyOf(resolvedColumns, capacity);
+        }
+        ColumnDecryptor result = createColumnDecryptor(columnIndex).orElse(null);
+        columnDecryptors[columnIndex] = result;
+        resolvedColumns[columnIndex] = true;
+        return result;
+    }
+    
+    private Optional<ColumnDecryptor> createColumnDecryptor(final int columnIndex) {
         Optional<ColumnSegmentBoundInfo> columnSegmentBoundInfo = selectStatementContext.findColumnBoundInfo(columnIndex);
         if (!columnSegmentBoundInfo.isPresent()) {
-            return getMergedResult().getValue(columnIndex, type);
+            return Optional.empty();
         }
         String originalTableName = columnSegmentBoundInfo.get().getOriginalTable().getValue();
         String originalColumnName = columnSegmentBoundInfo.get().getOriginalColumn().getValue();
@@ -63,18 +93,34 @@ public final class EncryptMergedResult extends DecoratorMergedResult {
                 : this.database;
         Optional<EncryptRule> rule = database.getRuleMetaData().findSingleRule(EncryptRule.class);
         if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return getMergedResult().getValue(columnIndex, type);
+            return Optional.empty();
         }
-        Object cipherValue = getMergedResult().getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
+        EncryptAlgorithm encryptor = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName).getCipher().getEncryptor();
         String schemaName = selectStatementContext.getTablesContext().getSchemaName()
                 .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getSqlStatement().getDatabaseType()).getDefaultSchemaName(database.getName()));
-        try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
+        return Optional.of(new ColumnDecryptor(encryptor, new AlgorithmSQLContext(database.getName(), schemaName, originalTableName, originalColumnName)));
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ColumnDecryptor {
+        
+        private final EncryptAlgorithm encryptor;
+        
+        private final AlgorithmSQLContext algorithmSQLContext;
+        
+        @HighFrequencyInvocation
+        Object decrypt(final Object cipherValue) {
+            if (null == cipherValue) {
+                return null;
+            }
+            try {
+                return encryptor.decrypt(cipherValue, algorithmSQLContext);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                throw new DecryptFailedException(String.valueOf(cipherValue),
+                        new SQLExceptionIdentifier(algorithmSQLContext.getDatabaseName(), algorithmSQLContext.getTableName(), algorithmSQLContext.getColumnName()), ex);
+            }
         }
     }
 }
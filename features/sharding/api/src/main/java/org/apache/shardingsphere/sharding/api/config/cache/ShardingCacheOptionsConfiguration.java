@@ -34,4 +34,10 @@ public final class ShardingCacheOptionsConfiguration {
     private final int initialCapacity;
     
     private final int maximumSize;
+    
+    private final long expireAfterAccessMilliseconds;
+    
+    public ShardingCacheOptionsConfiguration(final boolean softValues, final int initialCapacity, final int maximumSize) {
+        this(softValues, initialCapacity, maximumSize, 0L);
+    }
 }
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline sharding expression.
+ *
+ * <p>Compiles the common single placeholder shapes of inline sharding expression, such as {@code t_order_${order_id % 16}},
+ * into a specialised evaluator, so that precise sharding does not need to go through Groovy closure.
+ * Evaluation results are the same as Groovy, values which can not be evaluated equivalently are left to Groovy.
+ * Only expressions without type name or with {@code <GROOVY>} type name are compiled, expressions of other types are left to their own parsers.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineShardingExpression {
+    
+    private static final String TYPE_NAME_BEGIN_SYMBOL = "<";
+    
+    private static final String TYPE_NAME_END_SYMBOL = ">";
+    
+    private static final String GROOVY_TYPE_NAME = "GROOVY";
+    
+    private static final boolean GROOVY_DEFAULT_TYPE = null == System.getProperty("org.graalvm.nativeimage.imagecode");
+    
+    private static final String PLACEHOLDER_BEGIN = "${";
+    
+    private static final String PLACEHOLDER_END = "}";
+    
+    private static final Pattern LITERAL_PATTERN = Pattern.compile("[^$\"\\\\{}<>]*");
+    
+    private static final String COLUMN = "\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*";
+    
+    private static final String MODULUS = "\\s*%\\s*([1-9][0-9]{0,9})\\s*";
+    
+    private static final Pattern IDENTITY_PATTERN = Pattern.compile(COLUMN);
+    
+    private static final Pattern MODULO_PATTERN = Pattern.compile(COLUMN + MODULUS);
+    
+    private static final Pattern ABS_MODULO_PATTERN = Pattern.compile("\\s*(?:\\(" + COLUMN + MODULUS + "\\)\\.abs\\(\\)|Math\\.abs\\(" + COLUMN + MODULUS + "\\))\\s*");
+    
+    private static final Pattern HASH_MODULO_PATTERN = Pattern.compile(COLUMN + "\\.hashCode\\(\\)" + MODULUS);
+    
+    private static final Pattern ABS_HASH_MODULO_PATTERN = Pattern.compile("\\s*Math\\.abs\\(" + COLUMN + "\\.hashCode\\(\\)\\s*\\)" + MODULUS);
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList(
+            "it", "this", "super", "null", "true", "false", "Math", "owner", "delegate", "thisObject", "directive", "resolveStrategy", "metaClass", "class"));
+    
+    private final String prefix;
+    
+    private final String suffix;
+    
+    private final String columnName;
+    
+    private final Operation operation;
+    
+    private final int modulus;
+    
+    /**
+     * Compile inline sharding expression.
+     *
+     * @param algorithmExpression algorithm expression, type name is allowed
+     * @return compiled inline sharding expression, empty if expression can not be compiled
+     */
+    public static Optional<CompiledInlineShardingExpression> compile(final String algorithmExpression) {
+        if (!algorithmExpression.startsWith(TYPE_NAME_BEGIN_SYMBOL)) {
+            return GROOVY_DEFAULT_TYPE ? compileGroovyExpression(algorithmExpression) : Optional.empty();
+        }
+        int typeEndIndex = algorithmExpression.indexOf(TYPE_NAME_END_SYMBOL);
+        return typeEndIndex > 0 && GROOVY_TYPE_NAME.equalsIgnoreCase(algorithmExpression.substring(TYPE_NAME_BEGIN_SYMBOL.length(), typeEndIndex).trim())
+                ? compileGroovyExpression(algorithmExpression.substring(typeEndIndex + TYPE_NAME_END_SYMBOL.length()))
+                : Optional.empty();
+    }
+    
+    private static Optional<CompiledInlineShardingExpression> compileGroovyExpression(final String groovyExpression) {
+        String algorithmExpression = groovyExpression.replace("$->{", PLACEHOLDER_BEGIN);
+        int beginIndex = algorithmExpression.indexOf(PLACEHOLDER_BEGIN);
+        if (beginIndex < 0) {
+            return Optional.empty();
+        }
+        int endIndex = algorithmExpression.indexOf(PLACEHOLDER_END, beginIndex);
+        if (endIndex < 0) {
+            return Optional.empty();
+        }
+        String prefix = algorithmExpression.substring(0, beginIndex);
+        String suffix = algorithmExpression.substring(endIndex + 1);
+        if (!LITERAL_PATTERN.matcher(prefix).matches() || !LITERAL_PATTERN.matcher(suffix).matches()) {
+            return Optional.empty();
+        }
+        return compileBody(prefix, suffix, algorithmExpression.substring(beginIndex + PLACEHOLDER_BEGIN.length(), endIndex));
+    }
+    
+    private static Optional<CompiledInlineShardingExpression> compileBody(final String prefix, final String suffix, final String body) {
+        Matcher matcher = IDENTITY_PATTERN.matcher(body);
+        if (matcher.matches()) {
+            return create(prefix, suffix, matcher.group(1), Operation.IDENTITY, null);
+        }
+        matcher = MODULO_PATTERN.matcher(body);
+        if (matcher.matches()) {
+            return create(prefix, suffix, matcher.group(1), Operation.MODULO, matcher.group(2));
+        }
+        matcher = ABS_MODULO_PATTERN.matcher(body);
+        if (matcher.matches()) {
+            return null == matcher.group(1)
+                    ? create(prefix, suffix, matcher.group(3), Operation.ABS_MODULO, matcher.group(4))
+                    : create(prefix, suffix, matcher.group(1), Operation.ABS_MODULO, matcher.group(2));
+        }
+        matcher = HASH_MODULO_PATTERN.matcher(body);
+        if (matcher.matches()) {
+            return create(prefix, suffix, matcher.group(1), Operation.HASH_MODULO, matcher.group(2));
+        }
+        matcher = ABS_HASH_MODULO_PATTERN.matcher(body);
+        if (matcher.matches()) {
+            return create(prefix, suffix, matcher.group(1), Operation.ABS_HASH_MODULO, matcher.group(2));
+        }
+        return Optional.empty();
+    }
+    
+    private static Optional<CompiledInlineShardingExpression> create(final String prefix, final String suffix, final String columnName, final Operation operation, final String modulus) {
+        if (RESERVED_WORDS.contains(columnName)) {
+            return Optional.empty();
+        }
+        if (null == modulus) {
+            return Optional.of(new CompiledInlineShardingExpression(prefix, suffix, columnName, operation, 0));
+        }
+        long modulusValue = Long.parseLong(modulus);
+        return modulusValue > Integer.MAX_VALUE ? Optional.empty() : Optional.of(new CompiledInlineShardingExpression(prefix, suffix, columnName, operation, (int) modulusValue));
+    }
+    
+    /**
+     * Evaluate sharding target name.
+     *
+     * @param columnName sharding column name
+     * @param value sharding value
+     * @return evaluated target name, empty if column or value type is not supported by compiled expression
+     */
+    public Optional<String> evaluate(final String columnName, final Comparable<?> value) {
+        if (!this.columnName.equals(columnName) || !isSupportedValue(value)) {
+            return Optional.empty();
+        }
+        return Optional.of(prefix + operation.apply(value, modulus) + suffix);
+    }
+    
+    private boolean isSupportedValue(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || (value instanceof String && operation.isStringSupported());
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private enum Operation {
+        
+        IDENTITY(true) {
+            
+            @Override
+            String apply(final Comparable<?> value, final int modulus) {
+                return value.toString();
+            }
+        },
+        
+        MODULO(false) {
+            
+            @Override
+            String apply(final Comparable<?> value, final int modulus) {
+                return value instanceof Long ? String.valueOf((Long) value % modulus) : String.valueOf(((Number) value).intValue() % modulus);
+            }
+        },
+        
+        ABS_MODULO(false) {
+            
+            @Override
+            String apply(final Comparable<?> value, final int modulus) {
+                return value instanceof Long ? String.valueOf(Math.abs((Long) value % modulus)) : String.valueOf(Math.abs(((Number) value).intValue() % modulus));
+            }
+        },
+        
+        HASH_MODULO(true) {
+            
+            @Override
+            String apply(final Comparable<?> value, final int modulus) {
+                return String.valueOf(value.hashCode() % modulus);
+            }
+        },
+        
+        ABS_HASH_MODULO(true) {
+            
+            @Override
+            String apply(final Comparable<?> value, final int modulus) {
+                return String.valueOf(Math.abs(value.hashCode()) % modulus);
+            }
+        };
+        
+        private final boolean stringSupported;
+        
+        abstract String apply(Comparable<?> value, int modulus);
+    }
+}
@@ -46,10 +46,13 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private boolean allowRangeQuery;
     
+    private CompiledInlineShardingExpression compiledExpression;
+    
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
         allowRangeQuery = isAllowRangeQuery(props);
+        compiledExpression = CompiledInlineShardingExpression.compile(props.getProperty(ALGORITHM_EXPRESSION_KEY).trim()).orElse(null);
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -67,6 +70,12 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
         String columnName = shardingValue.getColumnName();
         ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(columnName, shardingValue.getValue());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         try {
             return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(Collections.singletonMap(columnName, shardingValue.getValue()));
         } catch (final MissingMethodException ignored) {
@@ -68,8 +68,13 @@ public final class CachedShardingSQLRouter {
         }
         Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams))
                 .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
-        RouteContext result = cachedResult.orElseGet(() -> originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), tableNames, props));
-        if (!cachedResult.isPresent() && hitOneShardOnly(result)) {
+        if (cachedResult.isPresent()) {
+            return cachedResult;
+        }
+        long startNanos = System.nanoTime();
+        RouteContext result = originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), tableNames, props);
+        shardingCache.getRouteCache().recordLoad(System.nanoTime() - startNanos);
+        if (hitOneShardOnly(result)) {
             shardingCache.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
         }
         return Optional.of(result);
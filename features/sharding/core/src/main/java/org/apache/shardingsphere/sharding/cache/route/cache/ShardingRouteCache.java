@@ -19,9 +19,12 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Cache for sharding route.
@@ -30,15 +33,22 @@ public final class ShardingRouteCache {
     
     private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
     
+    private final LongAdder loadCount = new LongAdder();
+    
+    private final LongAdder totalLoadNanos = new LongAdder();
+    
     public ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
         cache = buildRouteCache(cacheOptions);
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize()).recordStats();
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
+        if (cacheOptions.getExpireAfterAccessMilliseconds() > 0L) {
+            result.expireAfterAccess(cacheOptions.getExpireAfterAccessMilliseconds(), TimeUnit.MILLISECONDS);
+        }
         return result.build();
     }
     
@@ -61,4 +71,24 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Record time spent on calculating a route result which was not cached.
+     *
+     * @param loadNanos load time in nanoseconds
+     */
+    public void recordLoad(final long loadNanos) {
+        loadCount.increment();
+        totalLoadNanos.add(loadNanos);
+    }
+    
+    /**
+     * Get statistics of route cache.
+     *
+     * @return route cache statistics
+     */
+    public ShardingRouteCacheStatistics getStatistics() {
+        CacheStats stats = cache.stats();
+        return new ShardingRouteCacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), loadCount.sum(), totalLoadNanos.sum(), cache.estimatedSize());
+    }
 }
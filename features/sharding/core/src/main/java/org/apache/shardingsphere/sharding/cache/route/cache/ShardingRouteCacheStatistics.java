@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Statistics of sharding route cache.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ShardingRouteCacheStatistics {
+    
+    private final long hitCount;
+    
+    private final long missCount;
+    
+    private final long evictionCount;
+    
+    private final long loadCount;
+    
+    private final long totalLoadNanos;
+    
+    private final long estimatedSize;
+    
+    /**
+     * Get hit rate.
+     *
+     * @return hit rate, 1.0 if there is no request
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return 0L == requestCount ? 1.0D : (double) hitCount / requestCount;
+    }
+    
+    /**
+     * Get average load time in nanoseconds.
+     *
+     * @return average load time in nanoseconds, 0 if there is no load
+     */
+    public double getAverageLoadNanos() {
+        return 0L == loadCount ? 0.0D : (double) totalLoadNanos / loadCount;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.exception.core.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRowStore;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Group by row aggregator, aggregates query result rows into memory groups.
+ */
+public final class GroupByRowAggregator {
+    
+    private static final int BATCH_SIZE = 256;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final AggregationProjection[] aggregationProjections;
+    
+    private final boolean approximateDistinctCount;
+    
+    private final Comparable<?>[][][] batchColumns;
+    
+    private final Map<GroupByValue, AggregatedGroup> groups = new HashMap<>(1024, 1F);
+    
+    private MemoryQueryResultRowStore rowStore;
+    
+    private AggregatedGroup batchGroup;
+    
+    private int batchRowCount;
+    
+    public GroupByRowAggregator(final SelectStatementContext selectStatementContext) {
+        this.selectStatementContext = selectStatementContext;
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+        approximateDistinctCount = AggregationUnitFactory.isApproximateDistinctCountAllowed(selectStatementContext.getSqlStatement());
+        batchColumns = new Comparable<?>[aggregationProjections.length][][];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            batchColumns[i] = new Comparable<?>[Math.max(aggregationProjections[i].getDerivedAggregationProjections().size(), 1)][BATCH_SIZE];
+        }
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     *
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult) throws SQLException {
+        aggregate(queryResult, new GroupByValue(queryResult, selectStatementContext.getGroupByContext().getItems()));
+    }
+    
+    /**
+     * Aggregate current row of query result into group.
+     *
+     * <p>Aggregation values of consecutive rows in the same group are buffered in columns and merged in batch.</p>
+     *
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        AggregatedGroup group = groups.get(groupByValue);
+        if (null == group) {
+            group = new AggregatedGroup(getRowStore(queryResult).append(queryResult), createAggregationUnits());
+            groups.put(groupByValue, group);
+        }
+        if (group != batchGroup || BATCH_SIZE == batchRowCount) {
+            flushBatch();
+            batchGroup = group;
+        }
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            if (aggregationProjections[i].getDerivedAggregationProjections().isEmpty()) {
+                batchColumns[i][0][batchRowCount] = getAggregationValue(queryResult, aggregationProjections[i]);
+            } else {
+                List<AggregationProjection> derivedAggregationProjections = aggregationProjections[i].getDerivedAggregationProjections();
+                for (int j = 0; j < derivedAggregationProjections.size(); j++) {
+                    batchColumns[i][j][batchRowCount] = getAggregationValue(queryResult, derivedAggregationProjections.get(j));
+                }
+            }
+        }
+        batchRowCount++;
+    }
+    
+    private void flushBatch() {
+        if (0 == batchRowCount) {
+            return;
+        }
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            batchGroup.getAggregationUnits()[i].merge(batchColumns[i], batchRowCount);
+        }
+        batchRowCount = 0;
+    }
+    
+    private MemoryQueryResultRowStore getRowStore(final QueryResult queryResult) throws SQLException {
+        if (null == rowStore) {
+            rowStore = new MemoryQueryResultRowStore(queryResult.getMetaData().getColumnCount());
+        }
+        return rowStore;
+    }
+    
+    private AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            AggregationProjection each = aggregationProjections[i];
+            result[i] = AggregationUnitFactory.create(each.getType(), each instanceof AggregationDistinctProjection, each.getSeparator().orElse(null), approximateDistinctCount);
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Judge whether group exists.
+     *
+     * @param groupByValue group by value
+     * @return group exists or not
+     */
+    public boolean contains(final GroupByValue groupByValue) {
+        return groups.containsKey(groupByValue);
+    }
+    
+    /**
+     * Get group count.
+     *
+     * @return group count
+     */
+    public int size() {
+        return groups.size();
+    }
+    
+    /**
+     * Judge whether there is no group.
+     *
+     * @return is empty or not
+     */
+    public boolean isEmpty() {
+        return groups.isEmpty();
+    }
+    
+    /**
+     * Get aggregated rows sorted by comparator.
+     *
+     * @param rowComparator row comparator
+     * @return aggregated rows
+     */
+    public List<MemoryQueryResultRow> getSortedRows(final GroupByRowComparator rowComparator) {
+        flushBatch();
+        List<MemoryQueryResultRow> result = new ArrayList<>(groups.size());
+        for (AggregatedGroup each : groups.values()) {
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                each.getRow().setCell(aggregationProjections[i].getIndex(), each.getAggregationUnits()[i].getResult());
+            }
+            result.add(each.getRow());
+        }
+        result.sort(rowComparator);
+        return result;
+    }
+    
+    /**
+     * Get value case sensitive of every column, index 0 is placeholder.
+     *
+     * @param queryResult query result
+     * @param selectStatementContext select statement context
+     * @param schema schema
+     * @return value case sensitive
+     * @throws SQLException SQL exception
+     */
+    public static List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        List<Boolean> result = new ArrayList<>(columnCount + 1);
+        result.add(false);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, selectStatementContext, schema, columnIndex));
+        }
+        return result;
+    }
+    
+    private static boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
+                                                           final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getTablesContext().getSimpleTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            ShardingSpherePreconditions.checkState(schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
+            ShardingSphereTable table = schema.getTable(tableName);
+            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+            if (table.containsColumn(columnName)) {
+                return table.getColumn(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class AggregatedGroup {
+        
+        private final MemoryQueryResultRow row;
+        
+        private final AggregationUnit[] aggregationUnits;
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Spillable merged result for group by.
+ *
+ * <p>Groups are aggregated in memory until the count of groups reaches max memory rows.
+ * Rows of new groups after that are hash partitioned into local temporary files.
+ * When iterating the first time, every partition is aggregated alone with the same group limit and re-partitioned with another hash seed if it still overflows,
+ * then all sorted partitions are merged lazily.
+ * Temporary files are deleted when the result is exhausted or closed.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private static final int PARTITION_COUNT = 32;
+    
+    private static final int MAX_PARTITION_DEPTH = 4;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final QueryResultMetaData metaData;
+    
+    private final GroupByRowComparator rowComparator;
+    
+    private final int columnCount;
+    
+    private final int maxMemoryRows;
+    
+    private final PriorityQueue<SortedRun> sortedRuns;
+    
+    private final Collection<Path> tempFiles = new LinkedList<>();
+    
+    private GroupByRowAggregator memoryAggregator;
+    
+    private List<Path> partitionFiles;
+    
+    private boolean merged;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final int maxMemoryRows) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.maxMemoryRows = maxMemoryRows;
+        metaData = queryResults.get(0).getMetaData();
+        columnCount = metaData.getColumnCount();
+        rowComparator = new GroupByRowComparator(selectStatementContext, GroupByRowAggregator.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema));
+        sortedRuns = new PriorityQueue<>(PARTITION_COUNT + 1, (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        try {
+            memoryAggregator = new GroupByRowAggregator(selectStatementContext);
+            partitionFiles = aggregate(queryResults, memoryAggregator, 0);
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    private List<Path> aggregate(final Collection<? extends QueryResult> queryResults, final GroupByRowAggregator aggregator, final int depth) throws SQLException {
+        SpillWriter[] partitionWriters = null;
+        try {
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                    if (aggregator.size() < maxMemoryRows || depth >= MAX_PARTITION_DEPTH || aggregator.contains(groupByValue)) {
+                        aggregator.aggregate(each, groupByValue);
+                        continue;
+                    }
+                    if (null == partitionWriters) {
+                        partitionWriters = new SpillWriter[PARTITION_COUNT];
+                    }
+                    int partition = getPartition(groupByValue, depth);
+                    if (null == partitionWriters[partition]) {
+                        partitionWriters[partition] = new SpillWriter(createTempFile());
+                    }
+                    partitionWriters[partition].write(loadRow(each));
+                }
+            }
+        } finally {
+            closeWriters(partitionWriters);
+        }
+        List<Path> result = new LinkedList<>();
+        if (null != partitionWriters) {
+            for (SpillWriter each : partitionWriters) {
+                if (null != each) {
+                    result.add(each.getFile());
+                }
+            }
+        }
+        return result;
+    }
+    
+    private int getPartition(final GroupByValue groupByValue, final int depth) {
+        int hash = groupByValue.hashCode() ^ depth * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return (hash & Integer.MAX_VALUE) % PARTITION_COUNT;
+    }
+    
+    private void closeWriters(final SpillWriter[] partitionWriters) {
+        if (null == partitionWriters) {
+            return;
+        }
+        for (SpillWriter each : partitionWriters) {
+            if (null != each) {
+                each.close();
+            }
+        }
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private void mergeSortedRuns() throws SQLException {
+        merged = true;
+        addSortedRun(memoryAggregator.getSortedRows(rowComparator).iterator());
+        memoryAggregator = null;
+        for (Path each : partitionFiles) {
+            mergePartition(each, 1);
+        }
+        partitionFiles = null;
+    }
+    
+    private void mergePartition(final Path partitionFile, final int depth) throws SQLException {
+        GroupByRowAggregator aggregator = new GroupByRowAggregator(selectStatementContext);
+        List<Path> subPartitionFiles;
+        try (SpillQueryResult partitionQueryResult = new SpillQueryResult(new SpillReader(partitionFile, columnCount), metaData)) {
+            subPartitionFiles = aggregate(Collections.singleton(partitionQueryResult), aggregator, depth);
+        }
+        deleteTempFile(partitionFile);
+        addSortedRun(writeSortedRun(aggregator.getSortedRows(rowComparator)));
+        for (Path each : subPartitionFiles) {
+            mergePartition(each, depth + 1);
+        }
+    }
+    
+    private SpillReader writeSortedRun(final List<MemoryQueryResultRow> sortedRows) throws SQLException {
+        Path file = createTempFile();
+        try (SpillWriter writer = new SpillWriter(file)) {
+            for (MemoryQueryResultRow each : sortedRows) {
+                Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = each.getCell(i + 1);
+                }
+                writer.write(row);
+            }
+        }
+        return new SpillReader(file, columnCount);
+    }
+    
+    private void addSortedRun(final Iterator<MemoryQueryResultRow> rows) {
+        if (rows.hasNext()) {
+            sortedRuns.offer(new SortedRun(rows));
+        } else if (rows instanceof SpillReader) {
+            ((SpillReader) rows).close();
+        }
+    }
+    
+    @SneakyThrows(IOException.class)
+    private Path createTempFile() {
+        Path result = Files.createTempFile("shardingsphere-group-by-", ".spill");
+        tempFiles.add(result);
+        return result;
+    }
+    
+    @SneakyThrows(IOException.class)
+    private void deleteTempFile(final Path file) {
+        Files.deleteIfExists(file);
+        tempFiles.remove(file);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (!merged) {
+            try {
+                mergeSortedRuns();
+            } catch (final SQLException | RuntimeException ex) {
+                close();
+                throw ex;
+            }
+        }
+        SortedRun sortedRun = sortedRuns.poll();
+        if (null == sortedRun) {
+            currentRow = null;
+            close();
+            return false;
+        }
+        currentRow = sortedRun.getCurrentRow();
+        if (sortedRun.next()) {
+            sortedRuns.offer(sortedRun);
+        } else {
+            sortedRun.close();
+        }
+        return true;
+    }
+    
+    @Override
+    public void close() {
+        merged = true;
+        memoryAggregator = null;
+        partitionFiles = null;
+        for (SortedRun each : sortedRuns) {
+            each.close();
+        }
+        sortedRuns.clear();
+        for (Path each : new ArrayList<>(tempFiles)) {
+            deleteTempFile(each);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkNotContains(INVALID_MEMORY_TYPES, type, () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, @SuppressWarnings("UseOfObsoleteDateTimeApi") final Calendar calendar) {
+        // TODO implement with calendar
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    private static final class SortedRun {
+        
+        private final Iterator<MemoryQueryResultRow> rows;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        SortedRun(final Iterator<MemoryQueryResultRow> rows) {
+            this.rows = rows;
+            currentRow = rows.next();
+        }
+        
+        MemoryQueryResultRow getCurrentRow() {
+            return currentRow;
+        }
+        
+        boolean next() {
+            if (rows.hasNext()) {
+                currentRow = rows.next();
+                return true;
+            }
+            return false;
+        }
+        
+        void close() {
+            if (rows instanceof SpillReader) {
+                ((SpillReader) rows).close();
+            }
+        }
+    }
+    
+    private static final class SpillWriter implements AutoCloseable {
+        
+        private static final int ROW_MARKER = 1;
+        
+        private final Path file;
+        
+        private final DataOutputStream outputStream;
+        
+        @SneakyThrows(IOException.class)
+        SpillWriter(final Path file) {
+            this.file = file;
+            outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        }
+        
+        Path getFile() {
+            return file;
+        }
+        
+        @SneakyThrows(IOException.class)
+        void write(final Object[] row) throws SQLFeatureNotSupportedException {
+            outputStream.writeByte(ROW_MARKER);
+            GroupBySpillRowCodec.writeRow(outputStream, row);
+        }
+        
+        @SneakyThrows(IOException.class)
+        @Override
+        public void close() {
+            outputStream.close();
+        }
+    }
+    
+    private static final class SpillReader implements Iterator<MemoryQueryResultRow>, AutoCloseable {
+        
+        private final DataInputStream inputStream;
+        
+        private final int columnCount;
+        
+        private Object[] nextRow;
+        
+        @SneakyThrows(IOException.class)
+        SpillReader(final Path file, final int columnCount) {
+            inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+            this.columnCount = columnCount;
+            nextRow = read();
+        }
+        
+        @SneakyThrows(IOException.class)
+        private Object[] read() {
+            return -1 == inputStream.read() ? null : GroupBySpillRowCodec.readRow(inputStream, columnCount);
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return null != nextRow;
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            return new MemoryQueryResultRow(nextValues());
+        }
+        
+        Object[] nextValues() {
+            Object[] result = nextRow;
+            nextRow = read();
+            return result;
+        }
+        
+        @SneakyThrows(IOException.class)
+        @Override
+        public void close() {
+            inputStream.close();
+        }
+    }
+    
+    private static final class SpillQueryResult implements QueryResult {
+        
+        private final SpillReader reader;
+        
+        private final QueryResultMetaData metaData;
+        
+        private Object[] currentRow;
+        
+        SpillQueryResult(final SpillReader reader, final QueryResultMetaData metaData) {
+            this.reader = reader;
+            this.metaData = metaData;
+        }
+        
+        @Override
+        public boolean next() {
+            currentRow = reader.hasNext() ? reader.nextValues() : null;
+            return null != currentRow;
+        }
+        
+        @Override
+        public Object getValue(final int columnIndex, final Class<?> type) {
+            return currentRow[columnIndex - 1];
+        }
+        
+        @Override
+        public Object getCalendarValue(final int columnIndex, final Class<?> type, @SuppressWarnings("UseOfObsoleteDateTimeApi") final Calendar calendar) {
+            return currentRow[columnIndex - 1];
+        }
+        
+        @Override
+        public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+            throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+        }
+        
+        @Override
+        public Reader getCharacterStream(final int columnIndex) throws SQLException {
+            throw new SQLFeatureNotSupportedException("Get Character stream");
+        }
+        
+        @Override
+        public boolean wasNull() {
+            return false;
+        }
+        
+        @Override
+        public QueryResultMetaData getMetaData() {
+            return metaData;
+        }
+        
+        @Override
+        public void close() {
+            reader.close();
+        }
+    }
+}
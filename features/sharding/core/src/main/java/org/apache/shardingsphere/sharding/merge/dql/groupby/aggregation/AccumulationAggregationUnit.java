@@ -19,7 +19,6 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -28,21 +27,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AccumulationAggregationUnit implements AggregationUnit {
     
-    private BigDecimal result;
+    private final DecimalAccumulator accumulator = new DecimalAccumulator();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0)) {
+        if (null == values) {
             return;
         }
-        if (null == result) {
-            result = BigDecimal.ZERO;
+        accumulator.add(values.get(0));
+    }
+    
+    @Override
+    public void merge(final Comparable<?>[][] columns, final int rowCount) {
+        Comparable<?>[] column = columns[0];
+        for (int row = 0; row < rowCount; row++) {
+            accumulator.add(column[row]);
         }
-        result = result.add(new BigDecimal(values.get(0).toString()));
     }
     
     @Override
     public Comparable<?> getResult() {
-        return result;
+        return accumulator.getSum();
     }
 }
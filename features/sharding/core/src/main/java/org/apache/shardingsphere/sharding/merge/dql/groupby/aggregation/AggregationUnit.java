@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -31,6 +32,23 @@ public interface AggregationUnit {
      */
     void merge(List<Comparable<?>> values);
     
+    /**
+     * Merge aggregation values in columnar batch.
+     *
+     * @param columns aggregation value columns, every column contains values of one aggregation argument in row order
+     * @param rowCount row count of batch
+     */
+    default void merge(final Comparable<?>[][] columns, final int rowCount) {
+        List<Comparable<?>> values = new ArrayList<>(columns.length);
+        for (int row = 0; row < rowCount; row++) {
+            values.clear();
+            for (Comparable<?>[] each : columns) {
+                values.add(each[row]);
+            }
+            merge(values);
+        }
+    }
+    
     /**
      * Get aggregation result.
      *
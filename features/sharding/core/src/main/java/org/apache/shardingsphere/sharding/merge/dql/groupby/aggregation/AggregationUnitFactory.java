@@ -20,7 +20,10 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.hint.SQLHintUtils;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.CommentSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
 /**
  * Aggregation unit factory.
@@ -38,6 +41,20 @@ public final class AggregationUnitFactory {
      * @throws UnsupportedSQLOperationException unsupported SQL operation exception
      */
     public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final String separator) {
+        return create(type, isDistinct, separator, false);
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     *
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param separator is separator for group_concat
+     * @param approximateDistinctCount whether to estimate distinct count approximately or not
+     * @return aggregation unit instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final String separator, final boolean approximateDistinctCount) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
@@ -46,7 +63,10 @@ public final class AggregationUnitFactory {
             case SUM:
                 return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                if (isDistinct) {
+                    return approximateDistinctCount ? new ApproximateDistinctCountAggregationUnit() : new DistinctCountAggregationUnit();
+                }
+                return new AccumulationAggregationUnit();
             case AVG:
                 return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
             case BIT_XOR:
@@ -57,4 +77,19 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedSQLOperationException(type.name());
         }
     }
+    
+    /**
+     * Judge whether approximate distinct count is allowed by SQL hint or not.
+     *
+     * @param sqlStatement SQL statement
+     * @return approximate distinct count is allowed or not
+     */
+    public static boolean isApproximateDistinctCountAllowed(final SQLStatement sqlStatement) {
+        for (CommentSegment each : sqlStatement.getComments()) {
+            if (SQLHintUtils.extractHint(each.getText()).isApproximateDistinctCount()) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
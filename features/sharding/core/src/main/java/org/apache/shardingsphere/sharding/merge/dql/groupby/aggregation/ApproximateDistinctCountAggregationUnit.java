@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Approximate distinct count aggregation unit, estimates distinct count by HyperLogLog.
+ *
+ * <p>Registers are kept sparsely while few of them are set, and are converted to 2^14 dense registers (16 KB) when they grow.
+ * Relative standard error of estimation is about 0.81%.</p>
+ */
+public final class ApproximateDistinctCountAggregationUnit implements AggregationUnit {
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private static final int PRECISION = 14;
+    
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    
+    private static final double ALPHA = 0.7213D / (1D + 1.079D / REGISTER_COUNT);
+    
+    private static final int INITIAL_SPARSE_CAPACITY = 16;
+    
+    private static final int MAX_SPARSE_REGISTER_COUNT = REGISTER_COUNT >> 4;
+    
+    private int[] sparseRegisters = new int[INITIAL_SPARSE_CAPACITY];
+    
+    private int sparseRegisterCount;
+    
+    private byte[] denseRegisters;
+    
+    private boolean merged;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        long hash = hash(values.get(0));
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (null == denseRegisters) {
+            mergeSparse(index, rank);
+        } else if (rank > denseRegisters[index]) {
+            denseRegisters[index] = rank;
+        }
+        merged = true;
+    }
+    
+    private long hash(final Comparable<?> value) {
+        if (value instanceof Long) {
+            return HASH_FUNCTION.hashLong((Long) value).asLong();
+        }
+        if (value instanceof Integer) {
+            return HASH_FUNCTION.hashInt((Integer) value).asLong();
+        }
+        if (value instanceof String) {
+            return HASH_FUNCTION.hashString((String) value, StandardCharsets.UTF_8).asLong();
+        }
+        return HASH_FUNCTION.newHasher().putString(value.getClass().getName(), StandardCharsets.UTF_8).putString(value.toString(), StandardCharsets.UTF_8).hash().asLong();
+    }
+    
+    private void mergeSparse(final int index, final byte rank) {
+        int mask = sparseRegisters.length - 1;
+        int slot = index & mask;
+        while (0 != sparseRegisters[slot]) {
+            if (getSparseIndex(sparseRegisters[slot]) == index) {
+                if (rank > getSparseRank(sparseRegisters[slot])) {
+                    sparseRegisters[slot] = toSparseRegister(index, rank);
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        sparseRegisters[slot] = toSparseRegister(index, rank);
+        if (++sparseRegisterCount > MAX_SPARSE_REGISTER_COUNT) {
+            convertToDense();
+        } else if (sparseRegisterCount << 1 > sparseRegisters.length) {
+            resizeSparse();
+        }
+    }
+    
+    private void resizeSparse() {
+        int[] oldRegisters = sparseRegisters;
+        sparseRegisters = new int[oldRegisters.length << 1];
+        int mask = sparseRegisters.length - 1;
+        for (int each : oldRegisters) {
+            if (0 != each) {
+                int slot = getSparseIndex(each) & mask;
+                while (0 != sparseRegisters[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                sparseRegisters[slot] = each;
+            }
+        }
+    }
+    
+    private void convertToDense() {
+        denseRegisters = new byte[REGISTER_COUNT];
+        for (int each : sparseRegisters) {
+            if (0 != each) {
+                denseRegisters[getSparseIndex(each)] = getSparseRank(each);
+            }
+        }
+        sparseRegisters = null;
+    }
+    
+    private static int toSparseRegister(final int index, final byte rank) {
+        return (index + 1) << Byte.SIZE | rank;
+    }
+    
+    private static int getSparseIndex(final int sparseRegister) {
+        return (sparseRegister >>> Byte.SIZE) - 1;
+    }
+    
+    private static byte getSparseRank(final int sparseRegister) {
+        return (byte) sparseRegister;
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (!merged) {
+            return 0L;
+        }
+        double sum = 0D;
+        int zeroRegisterCount = 0;
+        if (null == denseRegisters) {
+            for (int each : sparseRegisters) {
+                if (0 != each) {
+                    sum += 1D / (1L << getSparseRank(each));
+                }
+            }
+            zeroRegisterCount = REGISTER_COUNT - sparseRegisterCount;
+            sum += zeroRegisterCount;
+        } else {
+            for (byte each : denseRegisters) {
+                sum += 1D / (1L << each);
+                if (0 == each) {
+                    zeroRegisterCount++;
+                }
+            }
+        }
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5D * REGISTER_COUNT && zeroRegisterCount > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisterCount);
+        }
+        return Math.round(estimate);
+    }
+}
@@ -29,30 +29,42 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AverageAggregationUnit implements AggregationUnit {
     
-    private BigDecimal count;
+    private final DecimalAccumulator countAccumulator = new DecimalAccumulator();
     
-    private BigDecimal sum;
+    private final DecimalAccumulator sumAccumulator = new DecimalAccumulator();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0) || null == values.get(1)) {
+        if (null == values) {
             return;
         }
-        if (null == count) {
-            count = BigDecimal.ZERO;
+        merge(values.get(0), values.get(1));
+    }
+    
+    @Override
+    public void merge(final Comparable<?>[][] columns, final int rowCount) {
+        Comparable<?>[] countColumn = columns[0];
+        Comparable<?>[] sumColumn = columns[1];
+        for (int row = 0; row < rowCount; row++) {
+            merge(countColumn[row], sumColumn[row]);
         }
-        if (null == sum) {
-            sum = BigDecimal.ZERO;
+    }
+    
+    private void merge(final Comparable<?> count, final Comparable<?> sum) {
+        if (null == count || null == sum) {
+            return;
         }
-        count = count.add(new BigDecimal(values.get(0).toString()));
-        sum = sum.add(new BigDecimal(values.get(1).toString()));
+        countAccumulator.add(count);
+        sumAccumulator.add(sum);
     }
     
     @Override
     public Comparable<?> getResult() {
+        BigDecimal count = countAccumulator.getSum();
         if (null == count || BigDecimal.ZERO.compareTo(count) == 0) {
             return count;
         }
+        BigDecimal sum = sumAccumulator.getSum();
         // TODO use metadata to fetch float number precise for database field
         return sum.divide(count, 4, RoundingMode.HALF_UP);
     }
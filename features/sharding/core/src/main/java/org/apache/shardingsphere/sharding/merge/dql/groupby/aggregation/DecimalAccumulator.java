@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Decimal accumulator.
+ *
+ * <p>Integral values are summed into primitive long until overflow, decimal values are summed into big decimal,
+ * so accumulating does not allocate for integral values.</p>
+ */
+public final class DecimalAccumulator {
+    
+    private long longSum;
+    
+    private BigDecimal decimalSum;
+    
+    private boolean present;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added, null will be ignored
+     */
+    public void add(final Comparable<?> value) {
+        if (null == value) {
+            return;
+        }
+        present = true;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            add(((Number) value).longValue());
+            return;
+        }
+        BigDecimal decimalValue = toBigDecimal(value);
+        decimalSum = null == decimalSum ? decimalValue : decimalSum.add(decimalValue);
+    }
+    
+    private void add(final long value) {
+        long result = longSum + value;
+        if (((longSum ^ result) & (value ^ result)) < 0L) {
+            decimalSum = null == decimalSum ? BigDecimal.valueOf(longSum) : decimalSum.add(BigDecimal.valueOf(longSum));
+            longSum = value;
+            return;
+        }
+        longSum = result;
+    }
+    
+    private BigDecimal toBigDecimal(final Comparable<?> value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof Double) {
+            return BigDecimal.valueOf((Double) value);
+        }
+        return new BigDecimal(value.toString());
+    }
+    
+    /**
+     * Judge whether any value added.
+     *
+     * @return any value added or not
+     */
+    public boolean isPresent() {
+        return present;
+    }
+    
+    /**
+     * Get sum.
+     *
+     * @return sum, null if no value added
+     */
+    public BigDecimal getSum() {
+        if (!present) {
+            return null;
+        }
+        return null == decimalSum ? BigDecimal.valueOf(longSum) : decimalSum.add(BigDecimal.valueOf(longSum));
+    }
+}
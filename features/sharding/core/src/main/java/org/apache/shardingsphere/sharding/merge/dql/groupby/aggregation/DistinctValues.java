@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Distinct values of aggregation.
+ *
+ * <p>Long and integer values are kept in open addressing hash sets of primitive longs separately, other values are kept in hash set.
+ * Values of different types are never equal, which is the same as comparing them with {@link Object#equals(Object)}.</p>
+ */
+final class DistinctValues {
+    
+    private final Collection<Comparable<?>> objectValues = new HashSet<>();
+    
+    private final PrimitiveLongSet longValues = new PrimitiveLongSet();
+    
+    private final PrimitiveLongSet integerValues = new PrimitiveLongSet();
+    
+    /**
+     * Add value.
+     *
+     * @param value value
+     * @return whether value is not contained before
+     */
+    boolean add(final Comparable<?> value) {
+        if (value instanceof Long) {
+            return longValues.add((Long) value);
+        }
+        if (value instanceof Integer) {
+            return integerValues.add((Integer) value);
+        }
+        return objectValues.add(value);
+    }
+    
+    /**
+     * Get size.
+     *
+     * @return size
+     */
+    int size() {
+        return longValues.size() + integerValues.size() + objectValues.size();
+    }
+    
+    private static final class PrimitiveLongSet {
+        
+        private static final int INITIAL_CAPACITY = 64;
+        
+        private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+        
+        private long[] values = new long[INITIAL_CAPACITY];
+        
+        private boolean containsZero;
+        
+        private int count;
+        
+        boolean add(final long value) {
+            if (0L == value) {
+                if (containsZero) {
+                    return false;
+                }
+                containsZero = true;
+                return true;
+            }
+            int mask = values.length - 1;
+            int index = hash(value) & mask;
+            while (0L != values[index]) {
+                if (value == values[index]) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            values[index] = value;
+            if (++count << 1 > values.length) {
+                rehash();
+            }
+            return true;
+        }
+        
+        private void rehash() {
+            long[] oldValues = values;
+            values = new long[oldValues.length << 1];
+            int mask = values.length - 1;
+            for (long each : oldValues) {
+                if (0L != each) {
+                    int index = hash(each) & mask;
+                    while (0L != values[index]) {
+                        index = (index + 1) & mask;
+                    }
+                    values[index] = each;
+                }
+            }
+        }
+        
+        private static int hash(final long value) {
+            long result = value * HASH_MULTIPLIER;
+            return (int) (result ^ (result >>> 32));
+        }
+        
+        int size() {
+            return count + (containsZero ? 1 : 0);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stream merged result for order by with loser tree.
+ *
+ * <p>Every internal node of the loser tree keeps the loser of its sub-tree, so advancing the winner only needs to replay
+ * the matches on its path to root, which takes {@code log2(k)} comparisons for {@code k} query results.</p>
+ */
+public final class OrderByLoserTreeMergedResult extends StreamMergedResult {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    private boolean isFirstNext;
+    
+    public OrderByLoserTreeMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        orderByValues = new OrderByValue[queryResults.size()];
+        exhausted = new boolean[queryResults.size()];
+        int i = 0;
+        for (QueryResult each : queryResults) {
+            orderByValues[i] = new OrderByValue(each, orderByItems, selectStatementContext, schema);
+            exhausted[i] = !orderByValues[i].next();
+            i++;
+        }
+        losers = new int[orderByValues.length];
+        winner = buildLoserTree();
+        setCurrentQueryResult(exhausted[winner] ? queryResults.get(0) : orderByValues[winner].getQueryResult());
+        isFirstNext = true;
+    }
+    
+    private int buildLoserTree() {
+        int leafCount = orderByValues.length;
+        int[] winners = new int[leafCount * 2];
+        for (int node = leafCount * 2 - 1; node > 0; node--) {
+            if (node >= leafCount) {
+                winners[node] = node - leafCount;
+                continue;
+            }
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                losers[node] = right;
+            } else {
+                winners[node] = right;
+                losers[node] = left;
+            }
+        }
+        return winners[1];
+    }
+    
+    private boolean beats(final int candidate, final int opponent) {
+        if (exhausted[candidate]) {
+            return false;
+        }
+        if (exhausted[opponent]) {
+            return true;
+        }
+        int result = orderByValues[candidate].compareTo(orderByValues[opponent]);
+        return result < 0 || 0 == result && candidate < opponent;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (exhausted[winner]) {
+            return false;
+        }
+        if (isFirstNext) {
+            isFirstNext = false;
+            return true;
+        }
+        exhausted[winner] = !orderByValues[winner].next();
+        replay();
+        if (exhausted[winner]) {
+            return false;
+        }
+        setCurrentQueryResult(orderByValues[winner].getQueryResult());
+        return true;
+    }
+    
+    private void replay() {
+        int candidate = winner;
+        for (int node = (candidate + orderByValues.length) / 2; node > 0; node /= 2) {
+            if (beats(losers[node], candidate)) {
+                int loser = candidate;
+                candidate = losers[node];
+                losers[node] = loser;
+            }
+        }
+        winner = candidate;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule.attribute;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.rule.attribute.cache.CacheStatisticsRuleAttribute;
+import org.apache.shardingsphere.sharding.cache.ShardingCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheStatistics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sharding cache statistics rule attribute.
+ */
+@RequiredArgsConstructor
+public final class ShardingCacheStatisticsRuleAttribute implements CacheStatisticsRuleAttribute {
+    
+    private final ShardingCache shardingCache;
+    
+    @Override
+    public Map<String, Map<String, Number>> getCacheStatistics() {
+        return null == shardingCache ? Collections.emptyMap() : Collections.singletonMap("sharding_route", createStatistics(shardingCache.getRouteCache().getStatistics()));
+    }
+    
+    private Map<String, Number> createStatistics(final ShardingRouteCacheStatistics statistics) {
+        Map<String, Number> result = new LinkedHashMap<>(7, 1F);
+        result.put("hit_count", statistics.getHitCount());
+        result.put("miss_count", statistics.getMissCount());
+        result.put("eviction_count", statistics.getEvictionCount());
+        result.put("load_count", statistics.getLoadCount());
+        result.put("total_load_nanos", statistics.getTotalLoadNanos());
+        result.put("estimated_size", statistics.getEstimatedSize());
+        result.put("hit_rate", statistics.getHitRate());
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.apache.shardingsphere.infra.expr.entry.InlineExpressionParserFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.support.ParameterDeclarations;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineShardingExpressionTest {
+    
+    @ParameterizedTest(name = "{0} with {1}")
+    @ArgumentsSource(TestCaseArgumentsProvider.class)
+    void assertEvaluateSameAsGroovy(final String expression, final Comparable<?> value) {
+        Optional<CompiledInlineShardingExpression> compiledExpression = CompiledInlineShardingExpression.compile(expression);
+        assertTrue(compiledExpression.isPresent());
+        Optional<String> actual = compiledExpression.get().evaluate("order_id", value);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(InlineExpressionParserFactory.newInstance(expression).evaluateWithArgs(Collections.singletonMap("order_id", value))));
+    }
+    
+    @Test
+    void assertCompileWithUnsupportedExpression() {
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_0").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${order_id % 4}_${user_id % 2}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${order_id / 4}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${order_id % 0}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${order_id % 010}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${it % 4}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${order_id % 4294967296}").isPresent());
+    }
+    
+    @Test
+    void assertCompileWithOtherTypeName() {
+        assertFalse(CompiledInlineShardingExpression.compile("<LITERAL>t_order_${order_id % 16}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("<ESPRESSO>t_order_${order_id % 16}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("<GROOVY t_order_${order_id % 16}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_<GROOVY>${order_id % 16}").isPresent());
+    }
+    
+    @Test
+    void assertEvaluateWithGroovyTypeName() {
+        assertThat(CompiledInlineShardingExpression.compile("<GROOVY>t_order_${order_id % 16}").get().evaluate("order_id", 35), is(Optional.of("t_order_3")));
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineShardingExpression compiledExpression = CompiledInlineShardingExpression.compile("t_order_${order_id % 4}").get();
+        assertFalse(compiledExpression.evaluate("order_id", new BigInteger("787694822390497280787694822390497280")).isPresent());
+        assertFalse(compiledExpression.evaluate("order_id", "1").isPresent());
+        assertFalse(compiledExpression.evaluate("user_id", 1).isPresent());
+    }
+    
+    private static final class TestCaseArgumentsProvider implements ArgumentsProvider {
+        
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ParameterDeclarations parameters, final ExtensionContext context) {
+            return Stream.of(
+                    Arguments.of("t_order_${order_id}", 7),
+                    Arguments.of("t_order_${ order_id }_bak", "foo"),
+                    Arguments.of("t_order_${order_id % 16}", 35),
+                    Arguments.of("<GROOVY>t_order_${order_id % 16}", 35),
+                    Arguments.of("<groovy>t_order_$->{order_id % 16}", 35),
+                    Arguments.of("t_order_${order_id % 16}", -35),
+                    Arguments.of("t_order_${order_id % 16}", 787694822390497283L),
+                    Arguments.of("t_order_${order_id % 4}", (short) 6),
+                    Arguments.of("t_order_${order_id % 4}", (byte) 7),
+                    Arguments.of("t_order_${(order_id % 4).abs()}", -7),
+                    Arguments.of("t_order_${(order_id % 4).abs()}", -7L),
+                    Arguments.of("t_order_${Math.abs(order_id % 4)}", -5),
+                    Arguments.of("t_order_${order_id.hashCode() % 8}", "foo_order"),
+                    Arguments.of("t_order_${order_id.hashCode() % 8}", 787694822390497283L),
+                    Arguments.of("t_order_${Math.abs(order_id.hashCode()) % 8}", "bar_order"),
+                    Arguments.of("t_order_${Math.abs(order_id.hashCode()) % 8}", -13L));
+        }
+    }
+}
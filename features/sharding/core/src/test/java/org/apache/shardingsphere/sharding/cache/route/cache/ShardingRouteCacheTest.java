@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,4 +38,30 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertGetStatistics() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 16));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("SELECT name FROM t WHERE id = ?", Collections.singletonList(1));
+        assertFalse(cache.get(key).isPresent());
+        cache.recordLoad(100L);
+        cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        assertTrue(cache.get(key).isPresent());
+        assertTrue(cache.get(key).isPresent());
+        ShardingRouteCacheStatistics actual = cache.getStatistics();
+        assertThat(actual.getHitCount(), is(2L));
+        assertThat(actual.getMissCount(), is(1L));
+        assertThat(actual.getLoadCount(), is(1L));
+        assertThat(actual.getTotalLoadNanos(), is(100L));
+        assertThat(actual.getEstimatedSize(), is(1L));
+        assertThat(actual.getHitRate(), is(2D / 3D));
+        assertThat(actual.getAverageLoadNanos(), is(100D));
+    }
+    
+    @Test
+    void assertGetStatisticsWithoutRequest() {
+        ShardingRouteCacheStatistics actual = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 16)).getStatistics();
+        assertThat(actual.getHitRate(), is(1D));
+        assertThat(actual.getAverageLoadNanos(), is(0D));
+    }
 }
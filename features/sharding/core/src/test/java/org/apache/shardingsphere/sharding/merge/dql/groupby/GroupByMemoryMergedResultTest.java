@@ -53,6 +53,7 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -114,6 +115,35 @@ class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextForRowsOfSameGroupMoreThanBatchSize() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResult queryResult1 = createQueryResult();
+        AtomicInteger remainingRows = new AtomicInteger(300);
+        when(queryResult1.next()).thenAnswer(invocation -> remainingRows.getAndDecrement() > 0);
+        when(queryResult1.getValue(1, Object.class)).thenReturn(1);
+        when(queryResult1.getValue(2, Object.class)).thenReturn(10);
+        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(4, Object.class)).thenReturn(1);
+        when(queryResult1.getValue(5, Object.class)).thenReturn(10);
+        QueryResult queryResult2 = createQueryResult();
+        when(queryResult2.next()).thenReturn(true, false);
+        when(queryResult2.getValue(1, Object.class)).thenReturn(100);
+        when(queryResult2.getValue(2, Object.class)).thenReturn(7);
+        when(queryResult2.getValue(3, Object.class)).thenReturn(2);
+        when(queryResult2.getValue(4, Object.class)).thenReturn(100);
+        when(queryResult2.getValue(5, Object.class)).thenReturn(700);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(databaseType);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(400)));
+        assertThat(actual.getValue(2, Object.class), is(new BigDecimal("9.2500")));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(400)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(3700)));
+        assertFalse(actual.next());
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         SelectStatement selectStatement = new SelectStatement(databaseType);
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
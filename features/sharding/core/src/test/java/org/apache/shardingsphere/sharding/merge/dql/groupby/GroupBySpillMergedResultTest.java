@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.isA;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupBySpillMergedResultTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "SQL92");
+    
+    @Test
+    void assertNextWithSpilledGroups() throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_MAX_ROWS.getKey(), "1")));
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(Arrays.asList(1L, 10), Arrays.asList(2L, 20), Arrays.asList(3L, 30)),
+                createQueryResult(Arrays.asList(4L, 20), Arrays.asList(1L, 40), Arrays.asList(1L, 10)));
+        MergedResult actual = new ShardingDQLResultMerger(databaseType, props).merge(queryResults, createSelectStatementContext(database), database, mock(ConnectionContext.class));
+        assertThat(actual, isA(GroupBySpillMergedResult.class));
+        assertRow(actual, 6, 20);
+        assertRow(actual, 3, 30);
+        assertRow(actual, 2, 10);
+        assertRow(actual, 1, 40);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithoutSpilledGroups() throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_MAX_ROWS.getKey(), "10")));
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(Arrays.asList(1L, 10), Arrays.asList(2L, 20)), createQueryResult(Arrays.asList(4L, 10)));
+        MergedResult actual = new ShardingDQLResultMerger(databaseType, props).merge(queryResults, createSelectStatementContext(database), database, mock(ConnectionContext.class));
+        assertRow(actual, 5, 10);
+        assertRow(actual, 2, 20);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithRepartitionedGroups() throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_MAX_ROWS.getKey(), "1")));
+        List<List<?>> firstRows = new ArrayList<>(100);
+        List<List<?>> secondRows = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            firstRows.add(Arrays.asList(1L, i));
+            secondRows.add(Arrays.asList((long) i, i));
+        }
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(firstRows.toArray(new List<?>[0])), createQueryResult(secondRows.toArray(new List<?>[0])));
+        MergedResult actual = new ShardingDQLResultMerger(databaseType, props).merge(queryResults, createSelectStatementContext(database), database, mock(ConnectionContext.class));
+        assertThat(actual, isA(GroupBySpillMergedResult.class));
+        for (int i = 99; i >= 0; i--) {
+            assertRow(actual, i + 1, i);
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertCloseBeforeIteration() throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.GROUP_BY_MEMORY_MERGE_MAX_ROWS.getKey(), "1")));
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(Arrays.asList(1L, 10), Arrays.asList(2L, 20)), createQueryResult(Arrays.asList(4L, 30)));
+        MergedResult actual = new ShardingDQLResultMerger(databaseType, props).merge(queryResults, createSelectStatementContext(database), database, mock(ConnectionContext.class));
+        actual.close();
+        assertFalse(actual.next());
+    }
+    
+    private void assertRow(final MergedResult actual, final int expectedCount, final int expectedUserId) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(expectedCount)));
+        assertThat(actual.getValue(2, Object.class), is(expectedUserId));
+    }
+    
+    private QueryResult createQueryResult(final List<?>... rows) {
+        RawQueryResultMetaData metaData = new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("", "COUNT(*)", "COUNT(*)", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0)));
+        List<MemoryQueryResultDataRow> dataRows = new ArrayList<>(rows.length);
+        for (List<?> each : rows) {
+            dataRows.add(new MemoryQueryResultDataRow(new ArrayList<>(each)));
+        }
+        return new RawMemoryQueryResult(metaData, dataRows);
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final ShardingSphereDatabase database) {
+        SelectStatement selectStatement = new SelectStatement(databaseType);
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, NullsOrderType.FIRST))));
+        return new SelectStatementContext(selectStatement, new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock()), "foo_db", Collections.emptyList());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GroupBySpillRowCodecTest {
+    
+    @Test
+    void assertWriteAndReadRow() throws IOException, SQLException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] expected = {null, true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.5D, BigInteger.TEN, new BigDecimal("-12.340"), "foo", 'c', new byte[]{1, 2},
+                new Date(0L), timestamp, LocalDateTime.of(2024, 1, 1, 12, 30, 15, 1), OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHours(8)), new UUID(1L, 2L)};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GroupBySpillRowCodec.writeRow(new DataOutputStream(bytes), expected);
+        Object[] actual = GroupBySpillRowCodec.readRow(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), expected.length);
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertWriteRowWithUnsupportedValue() {
+        assertThrows(SQLFeatureNotSupportedException.class, () -> GroupBySpillRowCodec.writeRow(new DataOutputStream(new ByteArrayOutputStream()), new Object[]{new Object()}));
+    }
+}
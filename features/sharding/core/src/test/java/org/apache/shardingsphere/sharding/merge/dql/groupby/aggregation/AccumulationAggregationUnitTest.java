@@ -19,10 +19,12 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class AccumulationAggregationUnitTest {
     
@@ -36,4 +38,28 @@ class AccumulationAggregationUnitTest {
         accumulationAggregationUnit.merge(Collections.singletonList(10));
         assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
     }
+    
+    @Test
+    void assertAccumulationAggregationWithColumnarBatch() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(new Comparable<?>[][]{{1, null, 10L, new BigDecimal("1.5"), 100}}, 4);
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal("12.5")));
+    }
+    
+    @Test
+    void assertAccumulationAggregationWithMixedTypes() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        accumulationAggregationUnit.merge(Collections.singletonList(null));
+        accumulationAggregationUnit.merge(Collections.singletonList(10L));
+        accumulationAggregationUnit.merge(Collections.singletonList(new BigDecimal("1.5")));
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal("12.5")));
+    }
+    
+    @Test
+    void assertAccumulationAggregationWithoutValue() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(null));
+        assertNull(accumulationAggregationUnit.getResult());
+    }
 }
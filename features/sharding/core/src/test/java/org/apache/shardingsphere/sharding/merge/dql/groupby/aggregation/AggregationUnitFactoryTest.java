@@ -18,10 +18,18 @@
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.CommentSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.isA;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class AggregationUnitFactoryTest {
     
@@ -52,6 +60,12 @@ class AggregationUnitFactoryTest {
         assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, null), isA(DistinctCountAggregationUnit.class));
     }
     
+    @Test
+    void assertCreateApproximateDistinctCountAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, null, true), isA(ApproximateDistinctCountAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, null, true), isA(AccumulationAggregationUnit.class));
+    }
+    
     @Test
     void assertCreateDistinctAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG, true, null), isA(DistinctAverageAggregationUnit.class));
@@ -73,4 +87,18 @@ class AggregationUnitFactoryTest {
         assertThat(AggregationUnitFactory.create(AggregationType.GROUP_CONCAT, true, null), isA(DistinctGroupConcatAggregationUnit.class));
         assertThat(AggregationUnitFactory.create(AggregationType.GROUP_CONCAT, true, " "), isA(DistinctGroupConcatAggregationUnit.class));
     }
+    
+    @Test
+    void assertIsApproximateDistinctCountAllowed() {
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        when(sqlStatement.getComments()).thenReturn(Collections.singletonList(new CommentSegment("/* SHARDINGSPHERE_HINT: APPROXIMATE_DISTINCT_COUNT=true */", 0, 0)));
+        assertTrue(AggregationUnitFactory.isApproximateDistinctCountAllowed(sqlStatement));
+    }
+    
+    @Test
+    void assertIsApproximateDistinctCountNotAllowed() {
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        when(sqlStatement.getComments()).thenReturn(Collections.singletonList(new CommentSegment("/* foo */", 0, 0)));
+        assertFalse(AggregationUnitFactory.isApproximateDistinctCountAllowed(sqlStatement));
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+
+class ApproximateDistinctCountAggregationUnitTest {
+    
+    @Test
+    void assertGetResultWithoutValues() {
+        ApproximateDistinctCountAggregationUnit aggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.singletonList(null));
+        assertThat(aggregationUnit.getResult(), is(0L));
+    }
+    
+    @Test
+    void assertGetResultWithSmallCardinality() {
+        ApproximateDistinctCountAggregationUnit aggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        for (int i = 0; i < 300; i++) {
+            aggregationUnit.merge(Collections.singletonList(i % 100));
+            aggregationUnit.merge(Collections.singletonList("value_" + i % 100));
+        }
+        assertThat(((Long) aggregationUnit.getResult()).doubleValue(), closeTo(200D, 5D));
+    }
+    
+    @Test
+    void assertGetResultWithDifferentTypesOfEqualValues() {
+        ApproximateDistinctCountAggregationUnit aggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        aggregationUnit.merge(Collections.singletonList(1));
+        aggregationUnit.merge(Collections.singletonList(1L));
+        aggregationUnit.merge(Collections.singletonList("1"));
+        aggregationUnit.merge(Collections.singletonList(new BigDecimal("1")));
+        aggregationUnit.merge(Collections.singletonList(1L));
+        assertThat(aggregationUnit.getResult(), is(4L));
+    }
+    
+    @Test
+    void assertGetResultWithMediumCardinality() {
+        ApproximateDistinctCountAggregationUnit aggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        for (int i = 0; i < 5000; i++) {
+            aggregationUnit.merge(Collections.singletonList(i));
+        }
+        assertThat(((Long) aggregationUnit.getResult()).doubleValue(), closeTo(5000D, 150D));
+    }
+    
+    @Test
+    void assertGetResultWithLargeCardinality() {
+        ApproximateDistinctCountAggregationUnit aggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        for (long i = 0L; i < 1000000L; i++) {
+            aggregationUnit.merge(Collections.singletonList(i));
+        }
+        assertThat(((Long) aggregationUnit.getResult()).doubleValue(), closeTo(1000000D, 30000D));
+    }
+}
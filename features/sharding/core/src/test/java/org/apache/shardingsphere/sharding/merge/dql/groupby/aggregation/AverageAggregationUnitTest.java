@@ -47,4 +47,22 @@ class AverageAggregationUnitTest {
         avgAggregationUnit.merge(Arrays.asList(0, 40));
         assertThat(avgAggregationUnit.getResult(), is(new BigDecimal(0)));
     }
+    
+    @Test
+    void assertAvgAggregationWithColumnarBatch() {
+        AverageAggregationUnit avgAggregationUnit = new AverageAggregationUnit();
+        avgAggregationUnit.merge(new Comparable<?>[][]{{null, 1, 10, 10L, 5}, {null, null, 50, 20L, new BigDecimal("40")}}, 5);
+        assertThat(avgAggregationUnit.getResult(), is(new BigDecimal("4.4000")));
+    }
+    
+    @Test
+    void assertAvgAggregationWithMixedTypes() {
+        AverageAggregationUnit avgAggregationUnit = new AverageAggregationUnit();
+        avgAggregationUnit.merge(Arrays.asList(null, null));
+        avgAggregationUnit.merge(Arrays.asList(1, null));
+        avgAggregationUnit.merge(Arrays.asList(10, 50));
+        avgAggregationUnit.merge(Arrays.asList(10L, 20L));
+        avgAggregationUnit.merge(Arrays.asList(5, new BigDecimal("40")));
+        assertThat(avgAggregationUnit.getResult(), is(new BigDecimal("4.4000")));
+    }
 }
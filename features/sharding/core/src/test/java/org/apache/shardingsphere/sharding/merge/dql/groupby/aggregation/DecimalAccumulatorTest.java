@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecimalAccumulatorTest {
+    
+    @Test
+    void assertGetSumWithoutValue() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(null);
+        assertFalse(accumulator.isPresent());
+        assertNull(accumulator.getSum());
+    }
+    
+    @Test
+    void assertGetSumWithIntegralValues() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(1);
+        accumulator.add(2L);
+        accumulator.add((short) 3);
+        accumulator.add((byte) 4);
+        assertTrue(accumulator.isPresent());
+        assertThat(accumulator.getSum(), is(new BigDecimal("10")));
+    }
+    
+    @Test
+    void assertGetSumWithLongOverflow() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(Long.MAX_VALUE);
+        accumulator.add(Long.MAX_VALUE);
+        accumulator.add(2L);
+        assertThat(accumulator.getSum(), is(new BigDecimal(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(2L)).add(BigInteger.valueOf(2L)))));
+    }
+    
+    @Test
+    void assertGetSumWithLongUnderflow() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(Long.MIN_VALUE);
+        accumulator.add(-1L);
+        assertThat(accumulator.getSum(), is(new BigDecimal(BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE))));
+    }
+    
+    @Test
+    void assertGetSumWithMixedValues() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(1);
+        accumulator.add(new BigDecimal("1.25"));
+        accumulator.add(0.25D);
+        accumulator.add(new BigInteger("10"));
+        assertThat(accumulator.getSum(), is(new BigDecimal("12.50")));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistinctValuesTest {
+    
+    @Test
+    void assertAddIntegralValues() {
+        DistinctValues distinctValues = new DistinctValues();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(distinctValues.add(i));
+        }
+        assertFalse(distinctValues.add(0));
+        assertTrue(distinctValues.add(-1));
+        assertTrue(distinctValues.add(999L));
+        assertFalse(distinctValues.add(999L));
+        assertThat(distinctValues.size(), is(1002));
+    }
+    
+    @Test
+    void assertAddOtherValues() {
+        DistinctValues distinctValues = new DistinctValues();
+        assertTrue(distinctValues.add("foo"));
+        assertFalse(distinctValues.add("foo"));
+        assertTrue(distinctValues.add(new BigDecimal("1.5")));
+        assertTrue(distinctValues.add((short) 1));
+        assertFalse(distinctValues.add((short) 1));
+        assertThat(distinctValues.size(), is(3));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.isA;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByLoserTreeMergedResultTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "SQL92");
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(10);
+        for (int i = 0; i < 10; i++) {
+            queryResults.add(createQueryResult(Collections.emptyList()));
+        }
+        MergedResult actual = new ShardingDQLResultMerger(databaseType).merge(queryResults, createSelectStatementContext(OrderDirection.ASC), createDatabase(), mock(ConnectionContext.class));
+        assertThat(actual, isA(OrderByLoserTreeMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithAscOrder() throws SQLException {
+        assertNext(OrderDirection.ASC, 13);
+    }
+    
+    @Test
+    void assertNextWithDescOrder() throws SQLException {
+        assertNext(OrderDirection.DESC, 9);
+    }
+    
+    private void assertNext(final OrderDirection orderDirection, final int queryResultCount) throws SQLException {
+        Random random = new Random(queryResultCount);
+        Comparator<Integer> comparator = OrderDirection.ASC == orderDirection ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        List<Integer> expected = new ArrayList<>();
+        List<QueryResult> queryResults = new ArrayList<>(queryResultCount);
+        for (int i = 0; i < queryResultCount; i++) {
+            List<Integer> values = new ArrayList<>();
+            int rowCount = 0 == i % 4 ? 0 : random.nextInt(20);
+            for (int j = 0; j < rowCount; j++) {
+                values.add(random.nextInt(50));
+            }
+            values.sort(comparator);
+            expected.addAll(values);
+            queryResults.add(createQueryResult(values));
+        }
+        expected.sort(comparator);
+        MergedResult actual = new ShardingDQLResultMerger(databaseType).merge(queryResults, createSelectStatementContext(orderDirection), createDatabase(), mock(ConnectionContext.class));
+        assertThat(actual, isA(OrderByLoserTreeMergedResult.class));
+        List<Object> actualValues = new ArrayList<>(expected.size());
+        while (actual.next()) {
+            actualValues.add(actual.getValue(1, Object.class));
+        }
+        assertThat(actualValues, is(new ArrayList<Object>(expected)));
+    }
+    
+    private QueryResult createQueryResult(final List<Integer> values) {
+        RawQueryResultMetaData metaData = new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("tbl", "col1", "col1", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("tbl", "col2", "col2", Types.VARCHAR, "VARCHAR", 20, 0)));
+        List<MemoryQueryResultDataRow> rows = new ArrayList<>(values.size());
+        for (Integer each : values) {
+            rows.add(new MemoryQueryResultDataRow(Arrays.<Object>asList(each, "foo_" + each)));
+        }
+        return new RawMemoryQueryResult(metaData, rows);
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final OrderDirection orderDirection) {
+        SelectStatement selectStatement = new SelectStatement(databaseType);
+        selectStatement.setFrom(new SimpleTableSegment(new TableNameSegment(10, 13, new IdentifierValue("tbl"))));
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, orderDirection, NullsOrderType.FIRST))));
+        return new SelectStatementContext(selectStatement, createShardingSphereMetaData(), "foo_db", Collections.emptyList());
+    }
+    
+    private ShardingSphereMetaData createShardingSphereMetaData() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        return new ShardingSphereMetaData(Collections.singleton(database), mock(ResourceMetaData.class), mock(RuleMetaData.class), mock(ConfigurationProperties.class));
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        ShardingSphereColumn column1 = new ShardingSphereColumn("col1", 0, false, false, true, true, false, false);
+        ShardingSphereColumn column2 = new ShardingSphereColumn("col2", 0, false, false, false, true, false, false);
+        ShardingSphereTable table = new ShardingSphereTable("tbl", Arrays.asList(column1, column2), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema schema = new ShardingSphereSchema("foo_db", Collections.singleton(table), Collections.emptyList());
+        return new ShardingSphereDatabase("foo_db", databaseType, mock(ResourceMetaData.class), mock(RuleMetaData.class), Collections.singleton(schema));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule.attribute;
+
+import org.apache.shardingsphere.sharding.cache.ShardingCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingCacheStatisticsRuleAttributeTest {
+    
+    @Test
+    void assertGetCacheStatisticsWithoutShardingCache() {
+        assertTrue(new ShardingCacheStatisticsRuleAttribute(null).getCacheStatistics().isEmpty());
+    }
+    
+    @Test
+    void assertGetCacheStatistics() {
+        ShardingCache shardingCache = mock(ShardingCache.class, RETURNS_DEEP_STUBS);
+        when(shardingCache.getRouteCache().getStatistics()).thenReturn(new ShardingRouteCacheStatistics(3L, 1L, 0L, 1L, 100L, 1L));
+        Map<String, Number> actual = new ShardingCacheStatisticsRuleAttribute(shardingCache).getCacheStatistics().get("sharding_route");
+        assertThat(new LinkedList<>(actual.keySet()), is(Arrays.asList("hit_count", "miss_count", "eviction_count", "load_count", "total_load_nanos", "estimated_size", "hit_rate")));
+        assertThat(actual.get("hit_count").longValue(), is(3L));
+        assertThat(actual.get("hit_rate").doubleValue(), is(0.75D));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.distsql.handler.query;
+
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheStatistics;
+import org.apache.shardingsphere.sharding.distsql.statement.ShowShardingRouteCacheStatusStatement;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShowShardingRouteCacheStatusExecutorTest {
+    
+    @Test
+    void assertGetRowsWithShardingCacheDisabled() {
+        ShowShardingRouteCacheStatusExecutor executor = new ShowShardingRouteCacheStatusExecutor();
+        executor.setRule(mock(ShardingRule.class));
+        assertTrue(executor.getRows(new ShowShardingRouteCacheStatusStatement(null), null).isEmpty());
+    }
+    
+    @Test
+    void assertGetRows() {
+        ShardingRule rule = mock(ShardingRule.class, RETURNS_DEEP_STUBS);
+        when(rule.isShardingCacheEnabled()).thenReturn(true);
+        when(rule.getShardingCache().getRouteCache().getStatistics()).thenReturn(new ShardingRouteCacheStatistics(3L, 1L, 2L, 1L, 500L, 10L));
+        ShowShardingRouteCacheStatusExecutor executor = new ShowShardingRouteCacheStatusExecutor();
+        executor.setRule(rule);
+        Collection<LocalDataQueryResultRow> actual = executor.getRows(new ShowShardingRouteCacheStatusStatement(null), null);
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is("3"));
+        assertThat(row.getCell(2), is("1"));
+        assertThat(row.getCell(3), is("0.75"));
+        assertThat(row.getCell(4), is("2"));
+        assertThat(row.getCell(5), is("1"));
+        assertThat(row.getCell(6), is("500.0"));
+        assertThat(row.getCell(7), is("10"));
+    }
+}
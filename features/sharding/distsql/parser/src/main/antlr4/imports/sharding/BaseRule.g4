@@ -23,16 +23,24 @@ literal
     : STRING_ | (MINUS_)? INT_ | TRUE | FALSE
     ;
 
+identifier
+    : IDENTIFIER_ | unreservedWord
+    ;
+
+unreservedWord
+    : ROUTE | CACHE | STATUS
+    ;
+
 databaseName
-    : IDENTIFIER_
+    : identifier
     ;
 
 tableName
-    : IDENTIFIER_
+    : identifier
     ;
 
 columnName
-    : IDENTIFIER_
+    : identifier
     ;
 
 storageUnits
@@ -40,7 +48,7 @@ storageUnits
     ;
 
 storageUnit
-    : IDENTIFIER_ | STRING_
+    : identifier | STRING_
     ;
 
 dataNodes
@@ -102,17 +110,17 @@ ifNotExists
     ;
 
 ruleName
-    : IDENTIFIER_
+    : identifier
     ;
 
 shardingAlgorithmName
-    : IDENTIFIER_
+    : identifier
     ;
 
 keyGeneratorName
-    : IDENTIFIER_
+    : identifier
     ;
 
 auditorName
-    : IDENTIFIER_
+    : identifier
     ;
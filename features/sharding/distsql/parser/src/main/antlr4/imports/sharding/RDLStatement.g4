@@ -80,7 +80,7 @@ shardingTableRule
     ;
 
 keyGeneratorName
-    : IDENTIFIER_
+    : identifier
     ;
 
 auditorDefinition
@@ -88,7 +88,7 @@ auditorDefinition
     ;
 
 auditorName
-    : IDENTIFIER_
+    : identifier
     ;
 
 autoShardingColumnDefinition
@@ -35,6 +35,7 @@ execute
     | showShardingTableReferenceRules
     | showShardingAlgorithms
     | showShardingTableNodes
+    | showShardingRouteCacheStatus
     | showShardingKeyGenerators
     | dropShardingKeyGenerator
     | showShardingAuditors
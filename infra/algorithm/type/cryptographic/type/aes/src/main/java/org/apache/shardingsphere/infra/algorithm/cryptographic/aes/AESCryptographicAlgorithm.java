@@ -27,7 +27,9 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -35,11 +37,18 @@ import java.util.Properties;
  */
 public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     
-    private CryptographicPropertiesProvider propsProvider;
+    private SecretKeySpec secretKeySpec;
+    
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
     
     @Override
     public void init(final Properties props) {
-        propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        CryptographicPropertiesProvider propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        secretKeySpec = new SecretKeySpec(propsProvider.getSecretKey(), getType());
+        encryptCipher = new ThreadLocal<>();
+        decryptCipher = new ThreadLocal<>();
     }
     
     @HighFrequencyInvocation
@@ -49,8 +58,24 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
-        return encode(result);
+        return encrypt(getCipher(Cipher.ENCRYPT_MODE), plainValue);
+    }
+    
+    @HighFrequencyInvocation
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public List<Object> encryptBatch(final List<Object> plainValues) {
+        Cipher cipher = getCipher(Cipher.ENCRYPT_MODE);
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encrypt(cipher, each));
+        }
+        return result;
+    }
+    
+    @HighFrequencyInvocation
+    private String encrypt(final Cipher cipher, final Object plainValue) throws GeneralSecurityException {
+        return encode(cipher.doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
     }
     
     @HighFrequencyInvocation
@@ -65,8 +90,12 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(decode(cipherValue.toString().trim()));
-        return new String(result, StandardCharsets.UTF_8);
+        return decrypt(getCipher(Cipher.DECRYPT_MODE), cipherValue);
+    }
+    
+    @HighFrequencyInvocation
+    private String decrypt(final Cipher cipher, final Object cipherValue) throws GeneralSecurityException {
+        return new String(cipher.doFinal(decode(cipherValue.toString().trim())), StandardCharsets.UTF_8);
     }
     
     @HighFrequencyInvocation
@@ -75,9 +104,14 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     }
     
     @HighFrequencyInvocation
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(propsProvider.getSecretKey(), getType()));
+    private Cipher getCipher(final int cipherMode) throws GeneralSecurityException {
+        ThreadLocal<Cipher> cipherHolder = Cipher.ENCRYPT_MODE == cipherMode ? encryptCipher : decryptCipher;
+        Cipher result = cipherHolder.get();
+        if (null == result) {
+            result = Cipher.getInstance(getType());
+            result.init(cipherMode, secretKeySpec);
+            cipherHolder.set(result);
+        }
         return result;
     }
     
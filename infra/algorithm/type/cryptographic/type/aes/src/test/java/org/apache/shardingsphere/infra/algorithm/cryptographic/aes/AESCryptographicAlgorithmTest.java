@@ -25,6 +25,8 @@ import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -75,4 +77,15 @@ class AESCryptographicAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(cryptographicAlgorithm.decrypt(null));
     }
+    
+    @Test
+    void assertEncryptRepeatedly() {
+        assertThat(cryptographicAlgorithm.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        assertThat(cryptographicAlgorithm.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
+    
+    @Test
+    void assertEncryptBatch() {
+        assertThat(cryptographicAlgorithm.encryptBatch(Arrays.asList("test", null, "test")), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
 }
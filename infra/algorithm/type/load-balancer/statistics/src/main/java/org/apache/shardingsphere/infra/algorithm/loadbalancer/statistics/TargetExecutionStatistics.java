@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Target execution statistics.
+ */
+public final class TargetExecutionStatistics {
+    
+    private static final double DECAY_TIME_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private final AtomicInteger activeCount = new AtomicInteger();
+    
+    private volatile double latencyEWMANanos;
+    
+    private volatile long lastUpdateNanos = System.nanoTime();
+    
+    /**
+     * Mark execution started.
+     */
+    public void start() {
+        activeCount.incrementAndGet();
+    }
+    
+    /**
+     * Mark execution finished.
+     *
+     * @param latencyNanos execution latency in nanoseconds
+     */
+    public void finish(final long latencyNanos) {
+        activeCount.decrementAndGet();
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (latencyNanos > latencyEWMANanos) {
+                latencyEWMANanos = latencyNanos;
+            } else {
+                double weight = Math.exp(-(now - lastUpdateNanos) / DECAY_TIME_NANOS);
+                latencyEWMANanos = latencyEWMANanos * weight + latencyNanos * (1D - weight);
+            }
+            lastUpdateNanos = now;
+        }
+    }
+    
+    /**
+     * Get active count.
+     *
+     * @return count of executions in flight
+     */
+    public int getActiveCount() {
+        return Math.max(activeCount.get(), 0);
+    }
+    
+    /**
+     * Get peak exponentially weighted moving average of latency.
+     *
+     * <p>The average decays towards zero while no execution finishes, so that a slow target gets probed again after being idle.</p>
+     *
+     * @return latency EWMA in nanoseconds
+     */
+    public double getLatencyEWMANanos() {
+        return latencyEWMANanos * Math.exp(-(System.nanoTime() - lastUpdateNanos) / DECAY_TIME_NANOS);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Target execution statistics registry.
+ *
+ * <p>Statistics are only collected for databases registered by load balance algorithms, and are released when the last algorithm of the database is closed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TargetExecutionStatisticsRegistry {
+    
+    private static final Map<String, Map<String, TargetExecutionStatistics>> STATISTICS = new ConcurrentHashMap<>();
+    
+    private static final Map<String, Integer> REFERENCE_COUNTS = new HashMap<>();
+    
+    /**
+     * Register database to collect statistics.
+     *
+     * @param databaseName database name
+     */
+    public static synchronized void register(final String databaseName) {
+        if (1 == REFERENCE_COUNTS.merge(databaseName, 1, Integer::sum)) {
+            STATISTICS.put(databaseName, new ConcurrentHashMap<>());
+        }
+    }
+    
+    /**
+     * Unregister database, statistics of the database will be removed after all registrations are unregistered.
+     *
+     * @param databaseName database name
+     */
+    public static synchronized void unregister(final String databaseName) {
+        Integer referenceCount = REFERENCE_COUNTS.get(databaseName);
+        if (null == referenceCount) {
+            return;
+        }
+        if (1 == referenceCount) {
+            REFERENCE_COUNTS.remove(databaseName);
+            STATISTICS.remove(databaseName);
+        } else {
+            REFERENCE_COUNTS.put(databaseName, referenceCount - 1);
+        }
+    }
+    
+    /**
+     * Find statistics of target.
+     *
+     * @param databaseName database name
+     * @param targetName target name
+     * @return target execution statistics, empty if database is not registered
+     */
+    public static Optional<TargetExecutionStatistics> find(final String databaseName, final String targetName) {
+        if (null == databaseName) {
+            return Optional.empty();
+        }
+        Map<String, TargetExecutionStatistics> statistics = STATISTICS.get(databaseName);
+        if (null == statistics) {
+            return Optional.empty();
+        }
+        TargetExecutionStatistics result = statistics.get(targetName);
+        return Optional.of(null == result ? statistics.computeIfAbsent(targetName, key -> new TargetExecutionStatistics()) : result);
+    }
+    
+    /**
+     * Get statistics of all registered databases.
+     *
+     * @return map of database name and statistics of targets in the database
+     */
+    public static Map<String, Map<String, TargetExecutionStatistics>> getAllStatistics() {
+        Map<String, Map<String, TargetExecutionStatistics>> result = new LinkedHashMap<>(STATISTICS.size(), 1F);
+        STATISTICS.forEach((key, value) -> result.put(key, Collections.unmodifiableMap(new LinkedHashMap<>(value))));
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.statistics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class LoadBalanceSQLExecutionHookTest {
+    
+    @BeforeEach
+    void setUp() {
+        TargetExecutionStatisticsRegistry.register("hook_db");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        TargetExecutionStatisticsRegistry.unregister("hook_db");
+    }
+    
+    @Test
+    void assertFinishSuccess() {
+        LoadBalanceSQLExecutionHook hook = new LoadBalanceSQLExecutionHook();
+        hook.start("hook_db", "foo_ds", "SELECT 1", Collections.emptyList(), null, true);
+        assertThat(getStatistics("hook_db", "foo_ds").getActiveCount(), is(1));
+        hook.finishSuccess();
+        assertThat(getStatistics("hook_db", "foo_ds").getActiveCount(), is(0));
+        assertThat(getStatistics("hook_db", "foo_ds").getLatencyEWMANanos(), greaterThan(0D));
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        LoadBalanceSQLExecutionHook hook = new LoadBalanceSQLExecutionHook();
+        hook.start("hook_db", "foo_ds", "SELECT 1", Collections.emptyList(), null, true);
+        hook.finishFailure(new SQLException(""));
+        hook.finishFailure(new SQLException(""));
+        assertThat(getStatistics("hook_db", "foo_ds").getActiveCount(), is(0));
+    }
+    
+    @Test
+    void assertStartWithUnregisteredDatabase() {
+        LoadBalanceSQLExecutionHook hook = new LoadBalanceSQLExecutionHook();
+        hook.start("unregistered_db", "foo_ds", "SELECT 1", Collections.emptyList(), null, true);
+        hook.finishSuccess();
+        assertFalse(TargetExecutionStatisticsRegistry.find("unregistered_db", "foo_ds").isPresent());
+    }
+    
+    private TargetExecutionStatistics getStatistics(final String databaseName, final String targetName) {
+        return TargetExecutionStatisticsRegistry.find(databaseName, targetName).orElseThrow(IllegalStateException::new);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TargetExecutionStatisticsRegistryTest {
+    
+    @Test
+    void assertFindWithDifferentDatabases() {
+        TargetExecutionStatisticsRegistry.register("foo_db");
+        TargetExecutionStatisticsRegistry.register("bar_db");
+        TargetExecutionStatisticsRegistry.find("foo_db", "read_ds").ifPresent(TargetExecutionStatistics::start);
+        assertThat(TargetExecutionStatisticsRegistry.find("foo_db", "read_ds").map(TargetExecutionStatistics::getActiveCount).orElse(-1), is(1));
+        assertThat(TargetExecutionStatisticsRegistry.find("bar_db", "read_ds").map(TargetExecutionStatistics::getActiveCount).orElse(-1), is(0));
+        TargetExecutionStatisticsRegistry.unregister("foo_db");
+        TargetExecutionStatisticsRegistry.unregister("bar_db");
+    }
+    
+    @Test
+    void assertUnregister() {
+        TargetExecutionStatisticsRegistry.register("ref_db");
+        TargetExecutionStatisticsRegistry.register("ref_db");
+        TargetExecutionStatisticsRegistry.unregister("ref_db");
+        assertTrue(TargetExecutionStatisticsRegistry.find("ref_db", "read_ds").isPresent());
+        TargetExecutionStatisticsRegistry.unregister("ref_db");
+        assertFalse(TargetExecutionStatisticsRegistry.find("ref_db", "read_ds").isPresent());
+        TargetExecutionStatisticsRegistry.unregister("ref_db");
+        assertFalse(TargetExecutionStatisticsRegistry.find(null, "read_ds").isPresent());
+    }
+    
+    @Test
+    void assertGetAllStatistics() {
+        TargetExecutionStatisticsRegistry.register("all_db");
+        TargetExecutionStatisticsRegistry.find("all_db", "read_ds").ifPresent(TargetExecutionStatistics::start);
+        Map<String, TargetExecutionStatistics> actual = TargetExecutionStatisticsRegistry.getAllStatistics().get("all_db");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("read_ds").getActiveCount(), is(1));
+        TargetExecutionStatisticsRegistry.unregister("all_db");
+        assertFalse(TargetExecutionStatisticsRegistry.getAllStatistics().containsKey("all_db"));
+    }
+}
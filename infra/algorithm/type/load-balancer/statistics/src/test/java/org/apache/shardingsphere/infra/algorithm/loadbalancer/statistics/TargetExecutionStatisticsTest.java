@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+class TargetExecutionStatisticsTest {
+    
+    @Test
+    void assertActiveCount() {
+        TargetExecutionStatistics statistics = new TargetExecutionStatistics();
+        statistics.start();
+        statistics.start();
+        assertThat(statistics.getActiveCount(), is(2));
+        statistics.finish(1L);
+        assertThat(statistics.getActiveCount(), is(1));
+    }
+    
+    @Test
+    void assertLatencyEWMATakesPeak() {
+        TargetExecutionStatistics statistics = new TargetExecutionStatistics();
+        statistics.start();
+        statistics.finish(1000000000L);
+        assertThat(statistics.getLatencyEWMANanos(), greaterThan(900000000D));
+        statistics.start();
+        statistics.finish(1000L);
+        assertThat(statistics.getLatencyEWMANanos(), greaterThan(900000000D));
+        assertThat(statistics.getLatencyEWMANanos(), lessThan(1000000001D));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.active;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.DatabaseAwareLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.statistics.TargetExecutionStatistics;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.statistics.TargetExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least active load balance algorithm.
+ */
+public final class LeastActiveLoadBalanceAlgorithm implements DatabaseAwareLoadBalanceAlgorithm {
+    
+    private String databaseName;
+    
+    @Override
+    public void setDatabaseName(final String databaseName) {
+        this.databaseName = databaseName;
+        TargetExecutionStatisticsRegistry.register(databaseName);
+    }
+    
+    @HighFrequencyInvocation
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        String result = null;
+        int minActiveCount = Integer.MAX_VALUE;
+        int tiedCount = 0;
+        for (String each : availableTargetNames) {
+            int activeCount = TargetExecutionStatisticsRegistry.find(databaseName, each).map(TargetExecutionStatistics::getActiveCount).orElse(0);
+            if (activeCount < minActiveCount) {
+                result = each;
+                minActiveCount = activeCount;
+                tiedCount = 1;
+            } else if (activeCount == minActiveCount && 0 == ThreadLocalRandom.current().nextInt(++tiedCount)) {
+                result = each;
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        if (null != databaseName) {
+            TargetExecutionStatisticsRegistry.unregister(databaseName);
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_ACTIVE";
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.active;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.DatabaseAwareLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.statistics.TargetExecutionStatistics;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.statistics.TargetExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class LeastActiveLoadBalanceAlgorithmTest {
+    
+    @Test
+    void assertGetAvailableTargetNameWithLeastActiveCount() {
+        DatabaseAwareLoadBalanceAlgorithm loadBalanceAlgorithm = (DatabaseAwareLoadBalanceAlgorithm) TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_ACTIVE", new Properties());
+        loadBalanceAlgorithm.setDatabaseName("least_active_db");
+        startExecution("read_ds_0");
+        startExecution("read_ds_0");
+        startExecution("read_ds_1");
+        List<String> availableTargetNames = Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2");
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("read_ds_2"));
+        startExecution("read_ds_2");
+        startExecution("read_ds_2");
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("read_ds_1"));
+        loadBalanceAlgorithm.close();
+        assertFalse(TargetExecutionStatisticsRegistry.find("least_active_db", "read_ds_0").isPresent());
+    }
+    
+    private void startExecution(final String targetName) {
+        TargetExecutionStatisticsRegistry.find("least_active_db", targetName).ifPresent(TargetExecutionStatistics::start);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.peak.ewma;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.DatabaseAwareLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.statistics.TargetExecutionStatistics;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.statistics.TargetExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Peak EWMA load balance algorithm.
+ *
+ * <p>Cost of a target is its peak exponentially weighted moving average of latency multiplied by its in-flight executions, the target with minimum cost wins.</p>
+ */
+public final class PeakEWMALoadBalanceAlgorithm implements DatabaseAwareLoadBalanceAlgorithm {
+    
+    private String databaseName;
+    
+    @Override
+    public void setDatabaseName(final String databaseName) {
+        this.databaseName = databaseName;
+        TargetExecutionStatisticsRegistry.register(databaseName);
+    }
+    
+    @HighFrequencyInvocation
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        String result = null;
+        double minCost = Double.MAX_VALUE;
+        int tiedCount = 0;
+        for (String each : availableTargetNames) {
+            double cost = TargetExecutionStatisticsRegistry.find(databaseName, each).map(this::getCost).orElse(0D);
+            if (cost < minCost) {
+                result = each;
+                minCost = cost;
+                tiedCount = 1;
+            } else if (cost == minCost && 0 == ThreadLocalRandom.current().nextInt(++tiedCount)) {
+                result = each;
+            }
+        }
+        return result;
+    }
+    
+    private double getCost(final TargetExecutionStatistics statistics) {
+        return statistics.getLatencyEWMANanos() * (statistics.getActiveCount() + 1);
+    }
+    
+    @Override
+    public void close() {
+        if (null != databaseName) {
+            TargetExecutionStatisticsRegistry.unregister(databaseName);
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "PEAK_EWMA";
+    }
+}
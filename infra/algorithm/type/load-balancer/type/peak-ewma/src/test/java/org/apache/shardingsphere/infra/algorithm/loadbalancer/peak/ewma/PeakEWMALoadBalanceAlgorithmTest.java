@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.peak.ewma;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.DatabaseAwareLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.statistics.TargetExecutionStatistics;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.statistics.TargetExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PeakEWMALoadBalanceAlgorithmTest {
+    
+    private DatabaseAwareLoadBalanceAlgorithm loadBalanceAlgorithm;
+    
+    @BeforeEach
+    void setUp() {
+        loadBalanceAlgorithm = (DatabaseAwareLoadBalanceAlgorithm) TypedSPILoader.getService(LoadBalanceAlgorithm.class, "PEAK_EWMA", new Properties());
+        loadBalanceAlgorithm.setDatabaseName("peak_ewma_db");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        loadBalanceAlgorithm.close();
+    }
+    
+    @Test
+    void assertGetAvailableTargetNameWithLowestLatency() {
+        recordLatency("read_ds_0", 1000000000L);
+        recordLatency("read_ds_1", 1000L);
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("read_ds_0", "read_ds_1")), is("read_ds_1"));
+    }
+    
+    @Test
+    void assertGetAvailableTargetNameWithoutLatency() {
+        recordLatency("read_ds_0", 1000L);
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("read_ds_0", "read_ds_1")), is("read_ds_1"));
+    }
+    
+    private void recordLatency(final String targetName, final long latencyNanos) {
+        TargetExecutionStatistics statistics = TargetExecutionStatisticsRegistry.find("peak_ewma_db", targetName).orElseThrow(IllegalStateException::new);
+        statistics.start();
+        statistics.finish(latencyNanos);
+    }
+}
@@ -48,6 +48,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Thread type of worker group to execute SQL, PLATFORM or VIRTUAL.
+     */
+    KERNEL_EXECUTOR_THREAD_TYPE("kernel-executor-thread-type", ExecutorThreadType.PLATFORM.name(), ExecutorThreadType.class, true),
+    
+    /**
+     * Max concurrent execution group size for each query, zero means unlimited.
+     */
+    KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_QUERY("kernel-executor-max-concurrency-per-query", String.valueOf(0), int.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -69,6 +79,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     LOAD_TABLE_METADATA_BATCH_SIZE("load-table-metadata-batch-size", String.valueOf(1000), int.class, false),
     
+    /**
+     * Max concurrent table metadata loading batches of each storage unit, 0 means unlimited.
+     */
+    LOAD_TABLE_METADATA_CONCURRENCY_PER_STORAGE_UNIT("load-table-metadata-concurrency-per-storage-unit", String.valueOf(0), int.class, false),
+    
+    /**
+     * Local directory of table metadata snapshots, only tables changed since the snapshot are loaded from storage units when startup, blank means no snapshot.
+     */
+    LOAD_TABLE_METADATA_SNAPSHOT_PATH("load-table-metadata-snapshot-path", "", String.class, true),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -79,6 +99,17 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush mode of query rows for ShardingSphere-Proxy, COUNT flushes every {@code proxy-frontend-flush-threshold} rows,
+     * ADAPTIVE coalesces rows into large buffers and flushes by pending bytes and channel writability.
+     */
+    PROXY_FRONTEND_FLUSH_MODE("proxy-frontend-flush-mode", FrontendFlushMode.COUNT.name(), FrontendFlushMode.class, false),
+    
+    /**
+     * Flush threshold of pending bytes for ShardingSphere-Proxy in ADAPTIVE flush mode.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(256 * 1024), int.class, false),
+    
     /**
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
      * The default value is -1, which means set the minimum value for different JDBC drivers.
@@ -90,6 +121,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Thread type of dedicated connection threads of ShardingSphere-Proxy, PLATFORM or VIRTUAL.
+     */
+    PROXY_FRONTEND_CONNECTION_THREAD_TYPE("proxy-frontend-connection-thread-type", ExecutorThreadType.PLATFORM.name(), ExecutorThreadType.class, false),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
@@ -105,6 +141,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_NETTY_BACKLOG("proxy-netty-backlog", "1024", int.class, false),
     
+    /**
+     * SQL file replayed into SQL parsers of ShardingSphere-Proxy at startup to warm up parser prediction caches, one SQL per line, blank means no warm-up.
+     */
+    PROXY_SQL_PARSER_WARM_UP_FILE("proxy-sql-parser-warm-up-file", "", String.class, true),
+    
     /**
      * CDC server port.
      */
@@ -138,7 +179,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Maximum size of Groovy inline expression parsing cache.
      */
-    GROOVY_INLINE_EXPRESSION_PARSING_CACHE_MAX_SIZE("groovy-inline-expression-parsing-cache-max-size", "1000", long.class, false);
+    GROOVY_INLINE_EXPRESSION_PARSING_CACHE_MAX_SIZE("groovy-inline-expression-parsing-cache-max-size", "1000", long.class, false),
+    
+    /**
+     * Max group rows held in memory for group by memory merge, rows of exceeded groups will spill to local temporary files, 0 means no limit.
+     */
+    GROUP_BY_MEMORY_MERGE_MAX_ROWS("group-by-memory-merge-max-rows", String.valueOf(0), int.class, false);
     
     private final String key;
     
@@ -45,7 +45,17 @@ public enum TemporaryConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Proxy meta data collector cron.
      */
-    PROXY_META_DATA_COLLECTOR_CRON("proxy-meta-data-collector-cron", "0 0/1 * * * ?", String.class, false);
+    PROXY_META_DATA_COLLECTOR_CRON("proxy-meta-data-collector-cron", "0 0/1 * * * ?", String.class, false),
+    
+    /**
+     * Worker count to decode MySQL binlog rows events off the event loop, 0 means decoding on the event loop.
+     */
+    PIPELINE_MYSQL_BINLOG_ROWS_DECODE_WORKER_COUNT("pipeline-mysql-binlog-rows-decode-worker-count", "0", int.class, true),
+    
+    /**
+     * Whether to write incremental records of migration by partitions of unique key concurrently, partition count is the importer concurrency.
+     */
+    PIPELINE_PARTITIONED_IMPORTER_ENABLED("pipeline-partitioned-importer-enabled", String.valueOf(Boolean.FALSE), boolean.class, false);
     
     private final String key;
     
@@ -52,6 +52,8 @@ public final class HintValueContext {
     
     private boolean shadow;
     
+    private boolean approximateDistinctCount;
+    
     /**
      * Find hint data source name.
      *
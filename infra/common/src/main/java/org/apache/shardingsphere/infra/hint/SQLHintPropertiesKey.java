@@ -66,7 +66,12 @@ public enum SQLHintPropertiesKey implements TypedPropertyKey {
     /**
      * Whether to use shadow or not.
      */
-    SHADOW_KEY("SHADOW", "shadow", String.valueOf(Boolean.FALSE), boolean.class);
+    SHADOW_KEY("SHADOW", "shadow", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether to allow approximate distinct count or not.
+     */
+    APPROXIMATE_DISTINCT_COUNT_KEY("APPROXIMATE_DISTINCT_COUNT", "approximateDistinctCount", String.valueOf(Boolean.FALSE), boolean.class);
     
     private final String key;
     
@@ -82,6 +82,9 @@ public final class SQLHintUtils {
         if (containsHintKey(hintKeyValues, SQLHintPropertiesKey.SHADOW_KEY)) {
             result.setShadow(Boolean.parseBoolean(getHintValue(hintKeyValues, SQLHintPropertiesKey.SHADOW_KEY)));
         }
+        if (containsHintKey(hintKeyValues, SQLHintPropertiesKey.APPROXIMATE_DISTINCT_COUNT_KEY)) {
+            result.setApproximateDistinctCount(Boolean.parseBoolean(getHintValue(hintKeyValues, SQLHintPropertiesKey.APPROXIMATE_DISTINCT_COUNT_KEY)));
+        }
         for (Entry<String, String> entry : hintKeyValues.entrySet()) {
             Comparable<?> value = convert(entry.getValue());
             if (containsHintKey(Objects.toString(entry.getKey()), SQLHintPropertiesKey.SHARDING_DATABASE_VALUE_KEY)) {
@@ -25,13 +25,16 @@ import org.apache.shardingsphere.database.connector.core.metadata.data.model.Sch
 import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.snapshot.TableMetaDataSnapshotLoader;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.reviser.MetaDataReviseEngine;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SchemaMetaDataUtils;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
 
+import java.nio.file.Paths;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
@@ -59,6 +62,20 @@ public final class GenericSchemaBuilder {
         return build(getAllTableNames(material.getRules()), protocolType, material);
     }
     
+    /**
+     * Build generic schema with table meta data snapshot.
+     *
+     * <p>Only tables changed since the snapshot are loaded from storage units if snapshot path is configured.</p>
+     *
+     * @param protocolType database type
+     * @param material generic schema builder material
+     * @return generic schema map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, ShardingSphereSchema> buildWithSnapshot(final DatabaseType protocolType, final GenericSchemaBuilderMaterial material) throws SQLException {
+        return build(getAllTableNames(material.getRules()), protocolType, material, true);
+    }
+    
     /**
      * Build generic schema.
      *
@@ -69,7 +86,12 @@ public final class GenericSchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereSchema> build(final Collection<String> tableNames, final DatabaseType protocolType, final GenericSchemaBuilderMaterial material) throws SQLException {
-        Map<String, SchemaMetaData> result = loadSchemas(tableNames, material);
+        return build(tableNames, protocolType, material, false);
+    }
+    
+    private static Map<String, ShardingSphereSchema> build(final Collection<String> tableNames, final DatabaseType protocolType,
+                                                           final GenericSchemaBuilderMaterial material, final boolean useSnapshot) throws SQLException {
+        Map<String, SchemaMetaData> result = loadSchemas(tableNames, material, useSnapshot);
         if (!isSameProtocolAndStorageTypes(protocolType, material.getStorageUnits())) {
             result = translate(result, protocolType, material);
         }
@@ -84,9 +106,16 @@ public final class GenericSchemaBuilder {
         return result;
     }
     
-    private static Map<String, SchemaMetaData> loadSchemas(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) throws SQLException {
+    private static Map<String, SchemaMetaData> loadSchemas(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material, final boolean useSnapshot) throws SQLException {
         Collection<MetaDataLoaderMaterial> materials = SchemaMetaDataUtils.getMetaDataLoaderMaterials(tableNames, material);
-        return materials.isEmpty() ? Collections.emptyMap() : MetaDataLoader.load(materials);
+        if (materials.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        int maxConcurrencyPerStorageUnit = material.getProps().getValue(ConfigurationPropertyKey.LOAD_TABLE_METADATA_CONCURRENCY_PER_STORAGE_UNIT);
+        String snapshotPath = material.getProps().getValue(ConfigurationPropertyKey.LOAD_TABLE_METADATA_SNAPSHOT_PATH);
+        return useSnapshot && !snapshotPath.trim().isEmpty()
+                ? new TableMetaDataSnapshotLoader(Paths.get(snapshotPath.trim()), maxConcurrencyPerStorageUnit).load(materials)
+                : MetaDataLoader.load(materials, maxConcurrencyPerStorageUnit);
     }
     
     private static boolean isSameProtocolAndStorageTypes(final DatabaseType protocolType, final Map<String, StorageUnit> storageUnits) {
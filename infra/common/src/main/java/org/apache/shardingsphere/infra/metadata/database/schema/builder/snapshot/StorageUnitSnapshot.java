@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder.snapshot;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlStorageUnitMetaDataSnapshot;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlTableMetaDataSnapshot;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableMetaDataSwapper;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Table meta data snapshot of storage unit.
+ */
+@RequiredArgsConstructor
+@Getter
+final class StorageUnitSnapshot {
+    
+    private final Path file;
+    
+    private final YamlStorageUnitMetaDataSnapshot snapshot;
+    
+    private final Map<String, String> fingerprints;
+    
+    /**
+     * Find table snapshot whose fingerprint is not changed.
+     *
+     * @param tableName lower case table name
+     * @return found table snapshot
+     */
+    Optional<YamlTableMetaDataSnapshot> findUnchangedTable(final String tableName) {
+        YamlTableMetaDataSnapshot result = snapshot.getTables().get(tableName);
+        String fingerprint = fingerprints.get(tableName);
+        return null != result && null != fingerprint && fingerprint.equals(result.getFingerprint()) ? Optional.of(result) : Optional.empty();
+    }
+    
+    /**
+     * Update snapshot with loaded table meta data.
+     *
+     * <p>Tables which no longer exist or are loaded from more than one schema are removed from snapshot.</p>
+     *
+     * @param loadedSchemaMetaDataList loaded schema meta data list
+     */
+    void update(final Collection<SchemaMetaData> loadedSchemaMetaDataList) {
+        snapshot.getTables().keySet().retainAll(fingerprints.keySet());
+        YamlTableMetaDataSwapper swapper = new YamlTableMetaDataSwapper();
+        Collection<String> updatedTableNames = new HashSet<>();
+        Collection<String> ambiguousTableNames = new HashSet<>();
+        for (SchemaMetaData each : loadedSchemaMetaDataList) {
+            for (TableMetaData table : each.getTables()) {
+                String tableName = table.getName().toLowerCase();
+                String fingerprint = fingerprints.get(tableName);
+                if (null == fingerprint || ambiguousTableNames.contains(tableName)) {
+                    continue;
+                }
+                if (!updatedTableNames.add(tableName)) {
+                    ambiguousTableNames.add(tableName);
+                    snapshot.getTables().remove(tableName);
+                    continue;
+                }
+                YamlTableMetaDataSnapshot tableSnapshot = new YamlTableMetaDataSnapshot();
+                tableSnapshot.setFingerprint(fingerprint);
+                tableSnapshot.setSchemaName(each.getName());
+                tableSnapshot.setTable(swapper.swapToYamlConfiguration(table));
+                snapshot.getTables().put(tableName, tableSnapshot);
+            }
+        }
+    }
+}
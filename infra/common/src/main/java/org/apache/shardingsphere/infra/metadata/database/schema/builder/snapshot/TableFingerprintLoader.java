@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder.snapshot;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.database.connector.core.metadata.data.loader.MetaDataLoaderConnection;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.CRC32;
+
+/**
+ * Table fingerprint loader.
+ *
+ * <p>Loads column definitions of all tables in the current catalog and schema with one catalog query, appends primary key and index definitions of each loaded table,
+ * and digests them into a fingerprint of each table.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class TableFingerprintLoader {
+    
+    /**
+     * Load table fingerprints.
+     *
+     * @param dataSource data source
+     * @param storageType storage type
+     * @param tableNames lower case table names to be loaded
+     * @return table fingerprints, key is lower case table name
+     * @throws SQLException SQL exception
+     */
+    static TableFingerprints load(final DataSource dataSource, final DatabaseType storageType, final Collection<String> tableNames) throws SQLException {
+        Map<String, StringBuilder> tableDefinitions = new HashMap<>(tableNames.size(), 1F);
+        Map<String, String> actualTableNames = new HashMap<>(tableNames.size(), 1F);
+        try (Connection connection = new MetaDataLoaderConnection(storageType, dataSource.getConnection())) {
+            String url = connection.getMetaData().getURL();
+            String catalog = connection.getCatalog();
+            String schema = connection.getSchema();
+            try (ResultSet resultSet = connection.getMetaData().getColumns(catalog, schema, "%", "%")) {
+                while (resultSet.next()) {
+                    String actualTableName = resultSet.getString("TABLE_NAME");
+                    String tableName = actualTableName.toLowerCase();
+                    if (tableNames.contains(tableName)) {
+                        actualTableNames.putIfAbsent(tableName, actualTableName);
+                        tableDefinitions.computeIfAbsent(tableName, key -> new StringBuilder()).append(resultSet.getString("COLUMN_NAME")).append(',').append(resultSet.getInt("DATA_TYPE"))
+                                .append(',').append(resultSet.getString("TYPE_NAME")).append(',').append(resultSet.getInt("COLUMN_SIZE")).append(',').append(resultSet.getInt("DECIMAL_DIGITS"))
+                                .append(',').append(resultSet.getInt("NULLABLE")).append(',').append(resultSet.getInt("ORDINAL_POSITION")).append(';');
+                    }
+                }
+            }
+            Map<String, String> fingerprints = new LinkedHashMap<>(tableDefinitions.size(), 1F);
+            for (Entry<String, StringBuilder> entry : tableDefinitions.entrySet()) {
+                appendPrimaryKeyDefinitions(connection, catalog, schema, actualTableNames.get(entry.getKey()), entry.getValue());
+                appendIndexDefinitions(connection, catalog, schema, actualTableNames.get(entry.getKey()), entry.getValue());
+                fingerprints.put(entry.getKey(), digest(entry.getValue().toString()));
+            }
+            return new TableFingerprints(digest(String.join("|", String.valueOf(url), String.valueOf(catalog), String.valueOf(schema))), fingerprints);
+        }
+    }
+    
+    private static void appendPrimaryKeyDefinitions(final Connection connection, final String catalog, final String schema, final String tableName,
+                                                    final StringBuilder tableDefinition) throws SQLException {
+        tableDefinition.append("|PK:");
+        try (ResultSet resultSet = connection.getMetaData().getPrimaryKeys(catalog, schema, tableName)) {
+            while (resultSet.next()) {
+                tableDefinition.append(resultSet.getString("PK_NAME")).append(',').append(resultSet.getString("COLUMN_NAME")).append(',').append(resultSet.getInt("KEY_SEQ")).append(';');
+            }
+        }
+    }
+    
+    private static void appendIndexDefinitions(final Connection connection, final String catalog, final String schema, final String tableName,
+                                               final StringBuilder tableDefinition) throws SQLException {
+        tableDefinition.append("|INDEX:");
+        try (ResultSet resultSet = connection.getMetaData().getIndexInfo(catalog, schema, tableName, false, true)) {
+            while (resultSet.next()) {
+                if (DatabaseMetaData.tableIndexStatistic == resultSet.getShort("TYPE")) {
+                    continue;
+                }
+                tableDefinition.append(resultSet.getString("INDEX_NAME")).append(',').append(resultSet.getBoolean("NON_UNIQUE")).append(',').append(resultSet.getString("COLUMN_NAME"))
+                        .append(',').append(resultSet.getInt("ORDINAL_POSITION")).append(';');
+            }
+        }
+    }
+    
+    private static String digest(final String value) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(value.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc32.getValue());
+    }
+}
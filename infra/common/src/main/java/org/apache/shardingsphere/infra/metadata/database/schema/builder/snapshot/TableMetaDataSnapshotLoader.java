@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.database.connector.core.metadata.data.loader.MetaDataLoader;
+import org.apache.shardingsphere.database.connector.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlStorageUnitMetaDataSnapshot;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlTableMetaDataSnapshot;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableMetaDataSwapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Table meta data snapshot loader.
+ *
+ * <p>Keeps a local snapshot of table meta data of each storage unit. Only tables whose column fingerprint changed since the snapshot are loaded from storage units,
+ * the others are restored from the snapshot. Changes of indexes or constraints only are not detected and need refreshing table meta data manually.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class TableMetaDataSnapshotLoader {
+    
+    private static final int SNAPSHOT_VERSION = 1;
+    
+    private final Path snapshotPath;
+    
+    private final int maxConcurrencyPerStorageUnit;
+    
+    private final YamlTableMetaDataSwapper swapper = new YamlTableMetaDataSwapper();
+    
+    /**
+     * Load meta data.
+     *
+     * @param materials meta data loader materials
+     * @return meta data map
+     * @throws SQLException SQL exception
+     */
+    public Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
+        Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
+        Map<String, StorageUnitSnapshot> snapshots = loadSnapshots(materials);
+        Collection<MetaDataLoaderMaterial> changedMaterials = new LinkedList<>();
+        for (MetaDataLoaderMaterial each : materials) {
+            StorageUnitSnapshot snapshot = snapshots.get(each.getStorageUnitName());
+            Collection<String> changedTableNames = new LinkedList<>();
+            for (String tableName : each.getActualTableNames()) {
+                Optional<YamlTableMetaDataSnapshot> tableSnapshot = snapshot.findUnchangedTable(tableName.toLowerCase());
+                if (tableSnapshot.isPresent()) {
+                    merge(result, tableSnapshot.get().getSchemaName(), swapper.swapToObject(tableSnapshot.get().getTable()));
+                } else {
+                    changedTableNames.add(tableName);
+                }
+            }
+            if (!changedTableNames.isEmpty()) {
+                changedMaterials.add(new MetaDataLoaderMaterial(changedTableNames, each.getStorageUnitName(), each.getDataSource(), each.getStorageType(), each.getDefaultSchemaName()));
+            }
+        }
+        if (changedMaterials.isEmpty()) {
+            return result;
+        }
+        for (Entry<String, Collection<SchemaMetaData>> entry : MetaDataLoader.loadByStorageUnit(changedMaterials, maxConcurrencyPerStorageUnit).entrySet()) {
+            for (SchemaMetaData each : entry.getValue()) {
+                each.getTables().forEach(table -> merge(result, each.getName(), table));
+            }
+            StorageUnitSnapshot snapshot = snapshots.get(entry.getKey());
+            snapshot.update(entry.getValue());
+            persist(snapshot);
+        }
+        return result;
+    }
+    
+    private Map<String, StorageUnitSnapshot> loadSnapshots(final Collection<MetaDataLoaderMaterial> materials) {
+        Map<String, Collection<String>> storageUnitTableNames = new LinkedHashMap<>();
+        Map<String, MetaDataLoaderMaterial> storageUnitMaterials = new HashMap<>();
+        for (MetaDataLoaderMaterial each : materials) {
+            Collection<String> tableNames = storageUnitTableNames.computeIfAbsent(each.getStorageUnitName(), key -> new HashSet<>());
+            each.getActualTableNames().forEach(tableName -> tableNames.add(tableName.toLowerCase()));
+            storageUnitMaterials.putIfAbsent(each.getStorageUnitName(), each);
+        }
+        Map<String, StorageUnitSnapshot> result = new HashMap<>(storageUnitTableNames.size(), 1F);
+        for (Entry<String, Collection<String>> entry : storageUnitTableNames.entrySet()) {
+            result.put(entry.getKey(), loadSnapshot(entry.getKey(), storageUnitMaterials.get(entry.getKey()), entry.getValue()));
+        }
+        return result;
+    }
+    
+    private StorageUnitSnapshot loadSnapshot(final String storageUnitName, final MetaDataLoaderMaterial material, final Collection<String> tableNames) {
+        TableFingerprints fingerprints;
+        try {
+            fingerprints = TableFingerprintLoader.load(material.getDataSource(), material.getStorageType(), tableNames);
+        } catch (final SQLException ex) {
+            log.warn("Load table fingerprints of storage unit `{}` failed, load all table meta data without snapshot.", storageUnitName, ex);
+            return new StorageUnitSnapshot(null, new YamlStorageUnitMetaDataSnapshot(), new HashMap<>());
+        }
+        Path file = snapshotPath.resolve(String.format("%s-%s.yaml", storageUnitName, fingerprints.getStorageIdentifier()));
+        YamlStorageUnitMetaDataSnapshot snapshot = readSnapshot(file);
+        return new StorageUnitSnapshot(file, null == snapshot || SNAPSHOT_VERSION != snapshot.getVersion() ? createEmptySnapshot() : snapshot, fingerprints.getFingerprints());
+    }
+    
+    private YamlStorageUnitMetaDataSnapshot readSnapshot(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return YamlEngine.unmarshal(file.toFile(), YamlStorageUnitMetaDataSnapshot.class);
+        } catch (final IOException | RuntimeException ex) {
+            log.warn("Read table meta data snapshot `{}` failed, ignore it.", file, ex);
+            return null;
+        }
+    }
+    
+    private YamlStorageUnitMetaDataSnapshot createEmptySnapshot() {
+        YamlStorageUnitMetaDataSnapshot result = new YamlStorageUnitMetaDataSnapshot();
+        result.setVersion(SNAPSHOT_VERSION);
+        return result;
+    }
+    
+    private void persist(final StorageUnitSnapshot snapshot) {
+        if (null == snapshot.getFile()) {
+            return;
+        }
+        try {
+            Files.createDirectories(snapshotPath);
+            Path tempFile = Files.createTempFile(snapshotPath, snapshot.getFile().getFileName().toString(), ".tmp");
+            Files.write(tempFile, YamlEngine.marshal(snapshot.getSnapshot()).getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, snapshot.getFile(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Persist table meta data snapshot `{}` failed.", snapshot.getFile(), ex);
+        }
+    }
+    
+    private void merge(final Map<String, SchemaMetaData> schemaMetaDataMap, final String schemaName, final TableMetaData tableMetaData) {
+        schemaMetaDataMap.computeIfAbsent(schemaName, key -> new SchemaMetaData(schemaName, new LinkedList<>())).getTables().add(tableMetaData);
+    }
+}
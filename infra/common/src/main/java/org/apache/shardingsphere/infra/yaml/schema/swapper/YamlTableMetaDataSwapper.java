@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.yaml.schema.swapper;
+
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.ConstraintMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.IndexMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereColumn;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereConstraint;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereIndex;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * YAML table meta data swapper.
+ */
+public final class YamlTableMetaDataSwapper implements YamlConfigurationSwapper<YamlShardingSphereTable, TableMetaData> {
+    
+    @Override
+    public YamlShardingSphereTable swapToYamlConfiguration(final TableMetaData data) {
+        YamlShardingSphereTable result = new YamlShardingSphereTable();
+        result.setName(data.getName());
+        result.setColumns(data.getColumns().stream().collect(Collectors.toMap(key -> key.getName().toLowerCase(), this::swapToYamlColumn, (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
+        result.setIndexes(data.getIndexes().stream().collect(Collectors.toMap(key -> key.getName().toLowerCase(), this::swapToYamlIndex, (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
+        result.setConstraints(data.getConstraints().stream()
+                .collect(Collectors.toMap(key -> key.getName().toLowerCase(), this::swapToYamlConstraint, (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
+        result.setType(data.getType());
+        return result;
+    }
+    
+    private YamlShardingSphereColumn swapToYamlColumn(final ColumnMetaData column) {
+        YamlShardingSphereColumn result = new YamlShardingSphereColumn();
+        result.setName(column.getName());
+        result.setDataType(column.getDataType());
+        result.setPrimaryKey(column.isPrimaryKey());
+        result.setGenerated(column.isGenerated());
+        result.setCaseSensitive(column.isCaseSensitive());
+        result.setVisible(column.isVisible());
+        result.setUnsigned(column.isUnsigned());
+        result.setNullable(column.isNullable());
+        return result;
+    }
+    
+    private YamlShardingSphereIndex swapToYamlIndex(final IndexMetaData index) {
+        YamlShardingSphereIndex result = new YamlShardingSphereIndex();
+        result.setName(index.getName());
+        result.getColumns().addAll(index.getColumns());
+        result.setUnique(index.isUnique());
+        return result;
+    }
+    
+    private YamlShardingSphereConstraint swapToYamlConstraint(final ConstraintMetaData constraint) {
+        YamlShardingSphereConstraint result = new YamlShardingSphereConstraint();
+        result.setName(constraint.getName());
+        result.setReferencedTableName(constraint.getReferencedTableName());
+        return result;
+    }
+    
+    @Override
+    public TableMetaData swapToObject(final YamlShardingSphereTable yamlConfig) {
+        return new TableMetaData(yamlConfig.getName(),
+                swapToColumns(yamlConfig.getColumns()), swapToIndexes(yamlConfig.getIndexes()), swapToConstraints(yamlConfig.getConstraints()), yamlConfig.getType());
+    }
+    
+    private Collection<ColumnMetaData> swapToColumns(final Map<String, YamlShardingSphereColumn> columns) {
+        return null == columns ? Collections.emptyList()
+                : columns.values().stream().map(each -> new ColumnMetaData(each.getName(), each.getDataType(), each.isPrimaryKey(), each.isGenerated(), each.isCaseSensitive(), each.isVisible(),
+                        each.isUnsigned(), each.isNullable())).collect(Collectors.toList());
+    }
+    
+    private Collection<IndexMetaData> swapToIndexes(final Map<String, YamlShardingSphereIndex> indexes) {
+        if (null == indexes) {
+            return Collections.emptyList();
+        }
+        Collection<IndexMetaData> result = new LinkedList<>();
+        for (YamlShardingSphereIndex each : indexes.values()) {
+            IndexMetaData index = new IndexMetaData(each.getName(), new LinkedList<>(each.getColumns()));
+            index.setUnique(each.isUnique());
+            result.add(index);
+        }
+        return result;
+    }
+    
+    private Collection<ConstraintMetaData> swapToConstraints(final Map<String, YamlShardingSphereConstraint> constraints) {
+        return null == constraints
+                ? Collections.emptyList()
+                : constraints.values().stream().map(each -> new ConstraintMetaData(each.getName(), each.getReferencedTableName())).collect(Collectors.toList());
+    }
+}
@@ -104,6 +104,12 @@ class SQLHintUtilsTest {
         assertTrue(actual.isShadow());
     }
     
+    @Test
+    void assertSQLHintApproximateDistinctCount() {
+        HintValueContext actual = SQLHintUtils.extractHint("/* SHARDINGSPHERE_HINT: APPROXIMATE_DISTINCT_COUNT=true */");
+        assertTrue(actual.isApproximateDistinctCount());
+    }
+    
     @ParameterizedTest(name = "extractHintFormat:{0}")
     @ArgumentsSource(ExtractHintTestCaseArgumentsProvider.class)
     void assertExtractHintFormat(@SuppressWarnings("unused") final String name, final String actualSQL, final boolean found) {
@@ -51,6 +51,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -76,21 +77,21 @@ class GenericSchemaBuilderTest {
     @Test
     void assertLoadWithExistedTableName() throws SQLException {
         Collection<String> tableNames = Collections.singleton("foo_tbl");
-        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap(tableNames, material));
+        when(MetaDataLoader.load(any(), anyInt())).thenReturn(createSchemaMetaDataMap(tableNames, material));
         assertFalse(GenericSchemaBuilder.build(tableNames, databaseType, material).get("foo_schema").getAllTables().isEmpty());
     }
     
     @Test
     void assertLoadWithNotExistedTableName() throws SQLException {
         Collection<String> tableNames = Collections.singleton("invalid_table");
-        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap(tableNames, material));
+        when(MetaDataLoader.load(any(), anyInt())).thenReturn(createSchemaMetaDataMap(tableNames, material));
         assertTrue(GenericSchemaBuilder.build(tableNames, databaseType, material).get("foo_schema").getAllTables().isEmpty());
     }
     
     @Test
     void assertLoadAllTables() throws SQLException {
         Collection<String> tableNames = Arrays.asList("foo_tbl", "bar_tbl");
-        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap(tableNames, material));
+        when(MetaDataLoader.load(any(), anyInt())).thenReturn(createSchemaMetaDataMap(tableNames, material));
         Map<String, ShardingSphereSchema> actual = GenericSchemaBuilder.build(tableNames, databaseType, material);
         assertThat(actual.size(), is(1));
         assertTables(new ShardingSphereSchema("foo_schema", actual.values().iterator().next().getAllTables(), Collections.emptyList()));
@@ -98,7 +99,7 @@ class GenericSchemaBuilderTest {
     
     @Test
     void assertBuildWithEmptyTableNames() throws SQLException {
-        when(MetaDataLoader.load(any())).thenReturn(Collections.emptyMap());
+        when(MetaDataLoader.load(any(), anyInt())).thenReturn(Collections.emptyMap());
         Map<String, ShardingSphereSchema> actual = GenericSchemaBuilder.build(Collections.emptyList(), databaseType, material);
         assertThat(actual.size(), is(1));
         assertTrue(actual.get("foo_schema").getAllTables().isEmpty());
@@ -110,7 +111,7 @@ class GenericSchemaBuilderTest {
         when(tableMapperRuleAttribute.getLogicTableNames()).thenReturn(Arrays.asList("foo_tbl", "bar_tbl"));
         ShardingSphereRule rule = mock(ShardingSphereRule.class);
         when(rule.getAttributes()).thenReturn(new RuleAttributes(tableMapperRuleAttribute));
-        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap(Arrays.asList("foo_tbl", "bar_tbl"), material));
+        when(MetaDataLoader.load(any(), anyInt())).thenReturn(createSchemaMetaDataMap(Arrays.asList("foo_tbl", "bar_tbl"), material));
         GenericSchemaBuilderMaterial newMaterial = new GenericSchemaBuilderMaterial(
                 Collections.singletonMap("foo_schema", material.getStorageUnits().get("foo_schema")), Collections.singleton(rule), new ConfigurationProperties(new Properties()), "foo_schema");
         Map<String, ShardingSphereSchema> actual = GenericSchemaBuilder.build(databaseType, newMaterial);
@@ -123,7 +124,7 @@ class GenericSchemaBuilderTest {
         DatabaseType differentDatabaseType = TypedSPILoader.getService(DatabaseType.class, "PostgreSQL");
         Collection<String> tableNames = Collections.singleton("foo_tbl");
         Map<String, SchemaMetaData> schemaMetaDataMap = createSchemaMetaDataMap(tableNames, material);
-        when(MetaDataLoader.load(any())).thenReturn(schemaMetaDataMap);
+        when(MetaDataLoader.load(any(), anyInt())).thenReturn(schemaMetaDataMap);
         StorageUnit storageUnit = mock(StorageUnit.class);
         when(storageUnit.getStorageType()).thenReturn(differentDatabaseType);
         Map<String, StorageUnit> storageUnits = Collections.singletonMap("foo_schema", storageUnit);
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder.snapshot;
+
+import org.apache.shardingsphere.database.connector.core.metadata.data.loader.MetaDataLoader;
+import org.apache.shardingsphere.database.connector.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@StaticMockSettings(MetaDataLoader.class)
+class TableMetaDataSnapshotLoaderTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    @Test
+    void assertLoadWithoutSnapshot(@TempDir final Path snapshotPath) throws SQLException {
+        MetaDataLoaderMaterial material = createMaterial("INT");
+        when(MetaDataLoader.loadByStorageUnit(anyCollection(), anyInt())).thenReturn(createLoadedSchemaMetaData());
+        Map<String, SchemaMetaData> actual = new TableMetaDataSnapshotLoader(snapshotPath, 0).load(Collections.singleton(material));
+        assertThat(actual.get("foo_schema").getTables().iterator().next().getName(), is("foo_tbl"));
+        assertThat(snapshotPath.toFile().list().length, is(1));
+    }
+    
+    @Test
+    void assertLoadWithUnchangedSnapshot(@TempDir final Path snapshotPath) throws SQLException {
+        when(MetaDataLoader.loadByStorageUnit(anyCollection(), anyInt())).thenReturn(createLoadedSchemaMetaData(), Collections.emptyMap());
+        new TableMetaDataSnapshotLoader(snapshotPath, 0).load(Collections.singleton(createMaterial("INT")));
+        Map<String, SchemaMetaData> actual = new TableMetaDataSnapshotLoader(snapshotPath, 0).load(Collections.singleton(createMaterial("INT")));
+        TableMetaData actualTable = actual.get("foo_schema").getTables().iterator().next();
+        assertThat(actualTable.getName(), is("foo_tbl"));
+        assertThat(actualTable.getColumns().iterator().next().getName(), is("id"));
+        assertTrue(actualTable.getColumns().iterator().next().isPrimaryKey());
+    }
+    
+    @Test
+    void assertLoadWithChangedTable(@TempDir final Path snapshotPath) throws SQLException {
+        when(MetaDataLoader.loadByStorageUnit(anyCollection(), anyInt())).thenReturn(createLoadedSchemaMetaData(), Collections.emptyMap());
+        new TableMetaDataSnapshotLoader(snapshotPath, 0).load(Collections.singleton(createMaterial("INT")));
+        assertTrue(new TableMetaDataSnapshotLoader(snapshotPath, 0).load(Collections.singleton(createMaterial("BIGINT"))).isEmpty());
+    }
+    
+    @Test
+    void assertLoadWithChangedIndex(@TempDir final Path snapshotPath) throws SQLException {
+        when(MetaDataLoader.loadByStorageUnit(anyCollection(), anyInt())).thenReturn(createLoadedSchemaMetaData(), Collections.emptyMap());
+        new TableMetaDataSnapshotLoader(snapshotPath, 0).load(Collections.singleton(createMaterial("INT", "foo_idx")));
+        assertTrue(new TableMetaDataSnapshotLoader(snapshotPath, 0).load(Collections.singleton(createMaterial("INT", "bar_idx"))).isEmpty());
+    }
+    
+    private MetaDataLoaderMaterial createMaterial(final String columnTypeName) throws SQLException {
+        return createMaterial(columnTypeName, "foo_idx");
+    }
+    
+    private MetaDataLoaderMaterial createMaterial(final String columnTypeName, final String indexName) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getCatalog()).thenReturn("foo_db");
+        when(connection.getMetaData().getURL()).thenReturn("jdbc:fixture://127.0.0.1/foo_db");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString("TABLE_NAME")).thenReturn("foo_tbl");
+        when(resultSet.getString("COLUMN_NAME")).thenReturn("id");
+        when(resultSet.getString("TYPE_NAME")).thenReturn(columnTypeName);
+        when(connection.getMetaData().getColumns(any(), any(), any(), any())).thenReturn(resultSet);
+        ResultSet indexResultSet = mock(ResultSet.class);
+        when(indexResultSet.next()).thenReturn(true, false);
+        when(indexResultSet.getShort("TYPE")).thenReturn(DatabaseMetaData.tableIndexOther);
+        when(indexResultSet.getString("INDEX_NAME")).thenReturn(indexName);
+        when(indexResultSet.getString("COLUMN_NAME")).thenReturn("id");
+        when(connection.getMetaData().getIndexInfo(any(), any(), any(), anyBoolean(), anyBoolean())).thenReturn(indexResultSet);
+        return new MetaDataLoaderMaterial(Collections.singleton("foo_tbl"), "foo_ds", dataSource, databaseType, "foo_schema");
+    }
+    
+    private Map<String, Collection<SchemaMetaData>> createLoadedSchemaMetaData() {
+        TableMetaData table = new TableMetaData("foo_tbl", Collections.singleton(new ColumnMetaData("id", Types.INTEGER, true, false, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+        Collection<SchemaMetaData> result = new LinkedList<>();
+        result.add(new SchemaMetaData("foo_schema", new LinkedList<>(Collections.singleton(table))));
+        return Collections.singletonMap("foo_ds", result);
+    }
+}
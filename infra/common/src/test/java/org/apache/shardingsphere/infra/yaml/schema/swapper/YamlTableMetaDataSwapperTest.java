@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.yaml.schema.swapper;
+
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.ConstraintMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.IndexMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.TableType;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class YamlTableMetaDataSwapperTest {
+    
+    private final YamlTableMetaDataSwapper swapper = new YamlTableMetaDataSwapper();
+    
+    @Test
+    void assertSwap() {
+        IndexMetaData index = new IndexMetaData("foo_idx", Collections.singletonList("name"));
+        index.setUnique(true);
+        TableMetaData tableMetaData = new TableMetaData("foo_tbl", Arrays.asList(new ColumnMetaData("id", Types.INTEGER, true, true, false, true, false, false),
+                new ColumnMetaData("name", Types.VARCHAR, false, false, true, true, false, true)), Collections.singleton(index),
+                Collections.singleton(new ConstraintMetaData("foo_fk", "bar_tbl")), TableType.TABLE);
+        TableMetaData actual = swapper.swapToObject(swapper.swapToYamlConfiguration(tableMetaData));
+        assertThat(actual.getName(), is("foo_tbl"));
+        assertThat(actual.getType(), is(TableType.TABLE));
+        assertThat(actual.getColumns().size(), is(2));
+        ColumnMetaData actualColumn = actual.getColumns().iterator().next();
+        assertThat(actualColumn.getName(), is("id"));
+        assertThat(actualColumn.getDataType(), is(Types.INTEGER));
+        assertThat(actualColumn.isPrimaryKey(), is(true));
+        assertThat(actualColumn.isGenerated(), is(true));
+        IndexMetaData actualIndex = actual.getIndexes().iterator().next();
+        assertThat(actualIndex.getName(), is("foo_idx"));
+        assertThat(actualIndex.getColumns().iterator().next(), is("name"));
+        assertThat(actualIndex.isUnique(), is(true));
+        assertThat(actual.getConstraints().iterator().next().getReferencedTableName(), is("bar_tbl"));
+    }
+}
@@ -19,6 +19,9 @@ package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -26,13 +29,16 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 /**
  * Executor engine.
@@ -43,8 +49,13 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private final int maxConcurrencyPerQuery;
+    
+    private final ExecutorEngineStatistics statistics = new ExecutorEngineStatistics();
+    
+    private ExecutorEngine(final int executorSize, final ExecutorThreadType threadType, final int maxConcurrencyPerQuery) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, threadType);
+        this.maxConcurrencyPerQuery = maxConcurrencyPerQuery;
     }
     
     /**
@@ -54,7 +65,31 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, ExecutorThreadType.PLATFORM, 0);
+    }
+    
+    /**
+     * Create executor engine.
+     *
+     * @param executorSize executor size, ignored by virtual thread
+     * @param threadType executor thread type
+     * @param maxConcurrencyPerQuery max concurrent execution group size for each query, zero means unlimited
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final ExecutorThreadType threadType, final int maxConcurrencyPerQuery) {
+        return new ExecutorEngine(executorSize, threadType, maxConcurrencyPerQuery);
+    }
+    
+    /**
+     * Create executor engine with configuration properties.
+     *
+     * @param props configuration properties
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final ConfigurationProperties props) {
+        ExecutorThreadType threadType = props.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_THREAD_TYPE);
+        return new ExecutorEngine(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), threadType,
+                props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_QUERY));
     }
     
     /**
@@ -81,7 +116,7 @@ public final class ExecutorEngine implements AutoCloseable {
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                          final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        List<O> result = new LinkedList<>(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback));
+        List<O> result = new ArrayList<>(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback));
         while (executionGroups.hasNext()) {
             result.addAll(syncExecute(executionGroups.next(), processId, callback));
         }
@@ -96,23 +131,50 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) throws SQLException {
-        return callback.execute(executionGroup.getInputs(), true, processId);
+        long startNanos = System.nanoTime();
+        try {
+            return callback.execute(executionGroup.getInputs(), true, processId);
+        } finally {
+            statistics.record(0L, System.nanoTime() - startNanos);
+        }
     }
     
     private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
+        Collection<Future<Collection<O>>> result = new ArrayList<>();
+        Queue<FutureTask<Collection<O>>> pendingTasks = new ConcurrentLinkedQueue<>();
         while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), processId, callback));
+            FutureTask<Collection<O>> task = createTask(executionGroups.next(), processId, callback);
+            pendingTasks.add(task);
+            result.add(task);
+        }
+        int workerCount = maxConcurrencyPerQuery > 0 ? Math.min(maxConcurrencyPerQuery, result.size()) : result.size();
+        for (int i = 0; i < workerCount; i++) {
+            executorServiceManager.getExecutorService().execute(() -> runPendingTasks(pendingTasks));
         }
         return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, processId));
+    private <I, O> FutureTask<Collection<O>> createTask(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
+        long submitNanos = System.nanoTime();
+        return new FutureTask<>(() -> {
+            long startNanos = System.nanoTime();
+            try {
+                return callback.execute(executionGroup.getInputs(), false, processId);
+            } finally {
+                statistics.record(startNanos - submitNanos, System.nanoTime() - startNanos);
+            }
+        });
+    }
+    
+    private <O> void runPendingTasks(final Queue<FutureTask<Collection<O>>> pendingTasks) {
+        for (FutureTask<Collection<O>> each = pendingTasks.poll(); null != each; each = pendingTasks.poll()) {
+            each.run();
+        }
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>(firstResults);
+        List<O> result = new ArrayList<>(firstResults.size() * (restFutures.size() + 1));
+        result.addAll(firstResults);
         for (Future<Collection<O>> each : restFutures) {
             try {
                 result.addAll(each.get());
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor engine statistics, accumulates queue wait time and execution time of execution groups.
+ */
+public final class ExecutorEngineStatistics {
+    
+    private final LongAdder executedGroupCount = new LongAdder();
+    
+    private final LongAdder queueWaitNanos = new LongAdder();
+    
+    private final LongAdder executionNanos = new LongAdder();
+    
+    /**
+     * Record execution group.
+     *
+     * @param queueWaitNanos nanoseconds waited between submission and start of execution
+     * @param executionNanos nanoseconds spent in execution
+     */
+    public void record(final long queueWaitNanos, final long executionNanos) {
+        executedGroupCount.increment();
+        this.queueWaitNanos.add(queueWaitNanos);
+        this.executionNanos.add(executionNanos);
+    }
+    
+    /**
+     * Get executed group count.
+     *
+     * @return executed group count
+     */
+    public long getExecutedGroupCount() {
+        return executedGroupCount.sum();
+    }
+    
+    /**
+     * Get total queue wait nanoseconds.
+     *
+     * @return total queue wait nanoseconds
+     */
+    public long getQueueWaitNanos() {
+        return queueWaitNanos.sum();
+    }
+    
+    /**
+     * Get total execution nanoseconds.
+     *
+     * @return total execution nanoseconds
+     */
+    public long getExecutionNanos() {
+        return executionNanos.sum();
+    }
+    
+    /**
+     * Reset statistics.
+     */
+    public void reset() {
+        executedGroupCount.reset();
+        queueWaitNanos.reset();
+        executionNanos.reset();
+    }
+}
@@ -19,7 +19,10 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -29,6 +32,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -37,12 +41,34 @@ public final class ExecutorServiceManager {
     
     private final ExecutorService executorService;
     
+    private final ExecutorThreadType threadType;
+    
     public ExecutorServiceManager(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final ExecutorThreadType threadType) {
+        this(executorSize, DEFAULT_NAME_FORMAT, threadType);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, ExecutorThreadType.PLATFORM);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorThreadType threadType) {
+        ExecutorService virtualThreadExecutorService = ExecutorThreadType.VIRTUAL == threadType ? createVirtualThreadExecutorService() : null;
+        this.threadType = null == virtualThreadExecutorService ? ExecutorThreadType.PLATFORM : ExecutorThreadType.VIRTUAL;
+        executorService = TtlExecutors.getTtlExecutorService(null == virtualThreadExecutorService ? getExecutorService(executorSize, nameFormat) : virtualThreadExecutorService);
+    }
+    
+    private ExecutorService createVirtualThreadExecutorService() {
+        try {
+            Method newVirtualThreadPerTaskExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) newVirtualThreadPerTaskExecutor.invoke(null);
+        } catch (final ReflectiveOperationException ignored) {
+            log.warn("Virtual thread is not supported by current JDK, use platform thread instead.");
+            return null;
+        }
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -17,22 +17,28 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -88,4 +94,42 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertParallelExecuteWithMaxConcurrencyPerQuery() throws SQLException {
+        AtomicInteger runningCount = new AtomicInteger();
+        AtomicInteger maxRunningCount = new AtomicInteger();
+        ExecutorCallback<Object, String> concurrencyCallback = (inputs, isTrunkThread, processId) -> {
+            if (!isTrunkThread) {
+                maxRunningCount.accumulateAndGet(runningCount.incrementAndGet(), Math::max);
+                sleep(10L);
+                runningCount.decrementAndGet();
+            }
+            return Collections.singletonList("succeed");
+        };
+        try (ExecutorEngine engine = ExecutorEngine.createExecutorEngine(10, ExecutorThreadType.PLATFORM, 1)) {
+            List<String> actual = engine.execute(createMockedExecutionGroups(5, 1), null, concurrencyCallback, false);
+            assertThat(actual.size(), is(5));
+            assertThat(maxRunningCount.get(), is(1));
+            assertThat(engine.getStatistics().getExecutedGroupCount(), is(5L));
+            assertTrue(engine.getStatistics().getExecutionNanos() > 0L);
+        }
+    }
+    
+    private void sleep(final long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Test
+    void assertParallelExecuteWithVirtualThreadType() throws SQLException, InterruptedException {
+        try (ExecutorEngine engine = ExecutorEngine.createExecutorEngine(0, ExecutorThreadType.VIRTUAL, 0)) {
+            List<String> actual = engine.execute(executionGroupContext, firstCallback, callback, false);
+            latch.await();
+            assertThat(actual.size(), is(4));
+        }
+    }
 }
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memory query result column, stores cells of one column in primitive arrays or dictionary encoded strings.
+ *
+ * <p>Storage type is decided by the first non null value, and falls back to object array once a value of other type is set,
+ * or the dictionary of strings becomes too large to save memory.</p>
+ */
+final class MemoryQueryResultColumn {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private static final int MAX_DICTIONARY_SIZE = 4096;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private StorageType storageType = StorageType.UNDECIDED;
+    
+    private int capacity;
+    
+    private int[] intValues;
+    
+    private long[] longValues;
+    
+    private double[] doubleValues;
+    
+    private int[] dictionaryCodes;
+    
+    private List<String> dictionary;
+    
+    private Map<String, Integer> dictionaryIndexes;
+    
+    private Object[] objectValues;
+    
+    /**
+     * Get cell.
+     *
+     * @param rowIndex row index
+     * @return cell
+     */
+    Object get(final int rowIndex) {
+        if (nulls.get(rowIndex)) {
+            return null;
+        }
+        switch (storageType) {
+            case INTEGER:
+                return intValues[rowIndex];
+            case LONG:
+                return longValues[rowIndex];
+            case DOUBLE:
+                return doubleValues[rowIndex];
+            case STRING:
+                return dictionary.get(dictionaryCodes[rowIndex]);
+            case OBJECT:
+                return objectValues[rowIndex];
+            default:
+                return null;
+        }
+    }
+    
+    /**
+     * Set cell.
+     *
+     * @param rowIndex row index
+     * @param value cell
+     */
+    void set(final int rowIndex, final Object value) {
+        ensureCapacity(rowIndex + 1);
+        if (null == value) {
+            nulls.set(rowIndex);
+            if (StorageType.OBJECT == storageType) {
+                objectValues[rowIndex] = null;
+            }
+            return;
+        }
+        if (StorageType.UNDECIDED == storageType) {
+            storageType = StorageType.valueOf(value);
+            allocate();
+        } else if (StorageType.OBJECT != storageType && (storageType != StorageType.valueOf(value) || StorageType.STRING == storageType && isDictionaryFull((String) value))) {
+            convertToObjectStorage();
+        }
+        nulls.clear(rowIndex);
+        switch (storageType) {
+            case INTEGER:
+                intValues[rowIndex] = (Integer) value;
+                break;
+            case LONG:
+                longValues[rowIndex] = (Long) value;
+                break;
+            case DOUBLE:
+                doubleValues[rowIndex] = (Double) value;
+                break;
+            case STRING:
+                dictionaryCodes[rowIndex] = getDictionaryCode((String) value);
+                break;
+            default:
+                objectValues[rowIndex] = value;
+                break;
+        }
+    }
+    
+    private boolean isDictionaryFull(final String value) {
+        return dictionary.size() >= MAX_DICTIONARY_SIZE && !dictionaryIndexes.containsKey(value);
+    }
+    
+    private int getDictionaryCode(final String value) {
+        Integer result = dictionaryIndexes.get(value);
+        if (null == result) {
+            result = dictionary.size();
+            dictionary.add(value);
+            dictionaryIndexes.put(value, result);
+        }
+        return result;
+    }
+    
+    private void ensureCapacity(final int minCapacity) {
+        if (minCapacity <= capacity) {
+            return;
+        }
+        capacity = Math.max(Math.max(minCapacity, INITIAL_CAPACITY), capacity + (capacity >> 1));
+        switch (storageType) {
+            case INTEGER:
+                intValues = Arrays.copyOf(intValues, capacity);
+                break;
+            case LONG:
+                longValues = Arrays.copyOf(longValues, capacity);
+                break;
+            case DOUBLE:
+                doubleValues = Arrays.copyOf(doubleValues, capacity);
+                break;
+            case STRING:
+                dictionaryCodes = Arrays.copyOf(dictionaryCodes, capacity);
+                break;
+            case OBJECT:
+                objectValues = Arrays.copyOf(objectValues, capacity);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private void allocate() {
+        switch (storageType) {
+            case INTEGER:
+                intValues = new int[capacity];
+                break;
+            case LONG:
+                longValues = new long[capacity];
+                break;
+            case DOUBLE:
+                doubleValues = new double[capacity];
+                break;
+            case STRING:
+                dictionaryCodes = new int[capacity];
+                dictionary = new ArrayList<>();
+                dictionaryIndexes = new HashMap<>();
+                break;
+            default:
+                objectValues = new Object[capacity];
+                break;
+        }
+    }
+    
+    private void convertToObjectStorage() {
+        Object[] values = new Object[capacity];
+        for (int i = 0; i < capacity; i++) {
+            values[i] = get(i);
+        }
+        storageType = StorageType.OBJECT;
+        objectValues = values;
+        intValues = null;
+        longValues = null;
+        doubleValues = null;
+        dictionaryCodes = null;
+        dictionary = null;
+        dictionaryIndexes = null;
+    }
+    
+    private enum StorageType {
+        
+        UNDECIDED, INTEGER, LONG, DOUBLE, STRING, OBJECT;
+        
+        private static StorageType valueOf(final Object value) {
+            Class<?> valueClass = value.getClass();
+            if (Integer.class == valueClass) {
+                return INTEGER;
+            }
+            if (Long.class == valueClass) {
+                return LONG;
+            }
+            if (Double.class == valueClass) {
+                return DOUBLE;
+            }
+            return String.class == valueClass ? STRING : OBJECT;
+        }
+    }
+}
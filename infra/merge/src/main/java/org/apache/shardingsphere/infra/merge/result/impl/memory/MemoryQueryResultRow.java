@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
 import com.google.common.base.Preconditions;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
 import java.sql.SQLException;
@@ -26,16 +25,31 @@ import java.sql.SQLException;
 /**
  * Memory query result row.
  */
-@RequiredArgsConstructor
 public final class MemoryQueryResultRow {
     
     private final Object[] data;
     
+    private final MemoryQueryResultRowStore store;
+    
+    private final int rowIndex;
+    
+    public MemoryQueryResultRow(final Object[] data) {
+        this.data = data;
+        store = null;
+        rowIndex = -1;
+    }
+    
     public MemoryQueryResultRow(final QueryResult queryResult) throws SQLException {
-        data = load(queryResult);
+        this(load(queryResult));
     }
     
-    private Object[] load(final QueryResult queryResult) throws SQLException {
+    MemoryQueryResultRow(final MemoryQueryResultRowStore store, final int rowIndex) {
+        data = null;
+        this.store = store;
+        this.rowIndex = rowIndex;
+    }
+    
+    private static Object[] load(final QueryResult queryResult) throws SQLException {
         int columnCount = queryResult.getMetaData().getColumnCount();
         Object[] result = new Object[columnCount];
         for (int i = 0; i < columnCount; i++) {
@@ -51,6 +65,9 @@ public final class MemoryQueryResultRow {
      * @return data from cell
      */
     public Object getCell(final int columnIndex) {
+        if (null != store) {
+            return store.getCell(rowIndex, columnIndex);
+        }
         Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
         return data[columnIndex - 1];
     }
@@ -62,6 +79,10 @@ public final class MemoryQueryResultRow {
      * @param value data for cell
      */
     public void setCell(final int columnIndex, final Object value) {
+        if (null != store) {
+            store.setCell(rowIndex, columnIndex, value);
+            return;
+        }
         Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
         data[columnIndex - 1] = value;
     }
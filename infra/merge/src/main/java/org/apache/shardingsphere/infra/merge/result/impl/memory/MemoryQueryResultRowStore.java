@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+
+/**
+ * Memory query result row store, keeps rows in columnar layout to avoid boxed cells and object array per row.
+ */
+public final class MemoryQueryResultRowStore {
+    
+    private final MemoryQueryResultColumn[] columns;
+    
+    private int rowCount;
+    
+    public MemoryQueryResultRowStore(final int columnCount) {
+        columns = new MemoryQueryResultColumn[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = new MemoryQueryResultColumn();
+        }
+    }
+    
+    /**
+     * Append current row of query result.
+     *
+     * @param queryResult query result
+     * @return appended memory query result row
+     * @throws SQLException SQL exception
+     */
+    public MemoryQueryResultRow append(final QueryResult queryResult) throws SQLException {
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].set(rowCount, queryResult.getValue(i + 1, Object.class));
+        }
+        return new MemoryQueryResultRow(this, rowCount++);
+    }
+    
+    /**
+     * Append row.
+     *
+     * @param data data of row
+     * @return appended memory query result row
+     */
+    public MemoryQueryResultRow append(final Object[] data) {
+        Preconditions.checkArgument(data.length == columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].set(rowCount, data[i]);
+        }
+        return new MemoryQueryResultRow(this, rowCount++);
+    }
+    
+    /**
+     * Get row count.
+     *
+     * @return row count
+     */
+    public int size() {
+        return rowCount;
+    }
+    
+    Object getCell(final int rowIndex, final int columnIndex) {
+        Preconditions.checkArgument(columnIndex > 0 && columnIndex < columns.length + 1);
+        return columns[columnIndex - 1].get(rowIndex);
+    }
+    
+    void setCell(final int rowIndex, final int columnIndex, final Object value) {
+        Preconditions.checkArgument(columnIndex > 0 && columnIndex < columns.length + 1);
+        columns[columnIndex - 1].set(rowIndex, value);
+    }
+}
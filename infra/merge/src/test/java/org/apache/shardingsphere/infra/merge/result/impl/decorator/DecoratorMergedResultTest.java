@@ -35,6 +35,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -82,4 +83,10 @@ class DecoratorMergedResultTest {
         when(mergedResult.wasNull()).thenReturn(true);
         assertTrue(decoratorMergedResult.wasNull());
     }
+    
+    @Test
+    void assertClose() throws SQLException {
+        decoratorMergedResult.close();
+        verify(mergedResult).close();
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemoryQueryResultRowStoreTest {
+    
+    @Test
+    void assertAppendQueryResult() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, 2);
+        when(queryResult.getValue(2, Object.class)).thenReturn(10L, (Object) null);
+        when(queryResult.getValue(3, Object.class)).thenReturn("foo", "foo");
+        MemoryQueryResultRowStore store = new MemoryQueryResultRowStore(3);
+        MemoryQueryResultRow firstRow = store.append(queryResult);
+        MemoryQueryResultRow secondRow = store.append(queryResult);
+        assertThat(store.size(), is(2));
+        assertThat(firstRow.getCell(1), is(1));
+        assertThat(firstRow.getCell(2), is(10L));
+        assertThat(firstRow.getCell(3), is("foo"));
+        assertThat(secondRow.getCell(1), is(2));
+        assertNull(secondRow.getCell(2));
+        assertThat(secondRow.getCell(3), is("foo"));
+    }
+    
+    @Test
+    void assertAppendManyRows() {
+        MemoryQueryResultRowStore store = new MemoryQueryResultRowStore(2);
+        for (int i = 0; i < 10000; i++) {
+            store.append(new Object[]{(double) i, "value_" + i});
+        }
+        MemoryQueryResultRow row = store.append(new Object[]{null, null});
+        assertThat(store.size(), is(10001));
+        assertNull(row.getCell(1));
+        assertNull(row.getCell(2));
+    }
+    
+    @Test
+    void assertSetCellWithOtherType() {
+        MemoryQueryResultRowStore store = new MemoryQueryResultRowStore(1);
+        MemoryQueryResultRow firstRow = store.append(new Object[]{1L});
+        MemoryQueryResultRow secondRow = store.append(new Object[]{null});
+        MemoryQueryResultRow thirdRow = store.append(new Object[]{3L});
+        thirdRow.setCell(1, new BigDecimal("3.5"));
+        assertThat(firstRow.getCell(1), is(1L));
+        assertNull(secondRow.getCell(1));
+        assertThat(thirdRow.getCell(1), is(new BigDecimal("3.5")));
+        secondRow.setCell(1, 2);
+        assertThat(secondRow.getCell(1), is(2));
+    }
+    
+    @Test
+    void assertSetNullCell() {
+        MemoryQueryResultRowStore store = new MemoryQueryResultRowStore(1);
+        MemoryQueryResultRow row = store.append(new Object[]{"foo"});
+        row.setCell(1, null);
+        assertNull(row.getCell(1));
+        row.setCell(1, "bar");
+        assertThat(row.getCell(1), is("bar"));
+    }
+    
+    @Test
+    void assertGetCellWithColumnIndexOutOfRange() {
+        MemoryQueryResultRow row = new MemoryQueryResultRowStore(1).append(new Object[]{"foo"});
+        assertThrows(IllegalArgumentException.class, () -> row.getCell(2));
+    }
+    
+    @Test
+    void assertAppendWithWrongColumnCount() {
+        assertThrows(IllegalArgumentException.class, () -> new MemoryQueryResultRowStore(1).append(new Object[]{"foo", "bar"}));
+    }
+}
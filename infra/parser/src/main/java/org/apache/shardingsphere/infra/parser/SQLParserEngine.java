@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.infra.parser;
 
+import org.apache.shardingsphere.infra.parser.sql.parameterized.AutoParameterizedSQLStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL parser engine.
  */
@@ -32,4 +35,14 @@ public interface SQLParserEngine {
      * @return SQL statement
      */
     SQLStatement parse(String sql, boolean useCache);
+    
+    /**
+     * Parse to SQL statement with literals replaced by parameter markers.
+     *
+     * @param sql SQL to be parsed
+     * @return auto parameterized SQL statement, empty if auto parameterization is disabled or SQL can not be parameterized
+     */
+    default Optional<AutoParameterizedSQLStatement> parseWithAutoParameterization(final String sql) {
+        return Optional.empty();
+    }
 }
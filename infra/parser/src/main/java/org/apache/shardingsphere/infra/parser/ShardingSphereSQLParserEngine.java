@@ -23,11 +23,14 @@ import org.apache.shardingsphere.database.exception.core.exception.syntax.sql.Di
 import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.infra.parser.sql.parameterized.AutoParameterizedSQLStatement;
 import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.engine.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.util.SQLUtils;
 
+import java.util.Optional;
+
 /**
  * ShardingSphere SQL parser engine.
  */
@@ -37,9 +40,17 @@ public final class ShardingSphereSQLParserEngine implements SQLParserEngine {
     
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
+    private final boolean autoParameterizationEnabled;
+    
     public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, false);
+    }
+    
+    public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                         final boolean autoParameterizationEnabled) {
         sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
+        this.autoParameterizationEnabled = autoParameterizationEnabled;
     }
     
     /*
@@ -61,6 +72,18 @@ public final class ShardingSphereSQLParserEngine implements SQLParserEngine {
         }
     }
     
+    @Override
+    public Optional<AutoParameterizedSQLStatement> parseWithAutoParameterization(final String sql) {
+        if (!autoParameterizationEnabled) {
+            return Optional.empty();
+        }
+        try {
+            return sqlStatementParserEngine.parseWithAutoParameterization(sql);
+        } catch (final SQLParsingException | ParseCancellationException ignored) {
+            return Optional.empty();
+        }
+    }
+    
     private RuntimeException getException(final RuntimeException originalEx) {
         return originalEx instanceof SQLParsingException
                 ? new DialectSQLParsingException(originalEx.getMessage(), ((SQLParsingException) originalEx).getSymbol(), ((SQLParsingException) originalEx).getLine())
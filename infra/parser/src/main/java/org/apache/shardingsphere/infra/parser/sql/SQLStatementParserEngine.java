@@ -22,9 +22,16 @@ import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.parser.cache.CacheManager;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheLoader;
+import org.apache.shardingsphere.infra.parser.sql.parameterized.AutoParameterizedSQLStatement;
+import org.apache.shardingsphere.infra.parser.sql.parameterized.LiteralParameterizedSQL;
+import org.apache.shardingsphere.infra.parser.sql.parameterized.SQLAutoParameterizationStatistics;
+import org.apache.shardingsphere.infra.parser.sql.parameterized.SQLLiteralParameterizer;
 import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * SQL statement parser engine.
  */
@@ -40,6 +47,12 @@ public final class SQLStatementParserEngine {
     @Getter
     private final CacheOption parseTreeCacheOption;
     
+    private final LongAdder autoParameterizedHitCount = new LongAdder();
+    
+    private final LongAdder autoParameterizedMissCount = new LongAdder();
+    
+    private final LongAdder unparameterizedCount = new LongAdder();
+    
     public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
         sqlStatementCacheManager = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
@@ -69,4 +82,42 @@ public final class SQLStatementParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return useCache ? sqlStatementCacheManager.getCache().get(sql) : sqlStatementParserExecutor.parse(sql);
     }
+    
+    /**
+     * Parse to SQL statement with literals replaced by parameter markers.
+     *
+     * <p>The SQL statement of the parameterized SQL template is shared with prepared statements through SQL statement cache.</p>
+     *
+     * @param sql SQL to be parsed
+     * @return auto parameterized SQL statement, empty if SQL can not be parameterized
+     */
+    public Optional<AutoParameterizedSQLStatement> parseWithAutoParameterization(final String sql) {
+        Optional<LiteralParameterizedSQL> parameterizedSQL = SQLLiteralParameterizer.parameterize(sql);
+        if (!parameterizedSQL.isPresent()) {
+            unparameterizedCount.increment();
+            return Optional.empty();
+        }
+        String template = parameterizedSQL.get().getSql();
+        SQLStatement sqlStatement = sqlStatementCacheManager.getCache().getIfPresent(template);
+        if (null == sqlStatement) {
+            autoParameterizedMissCount.increment();
+            sqlStatement = sqlStatementCacheManager.getCache().get(template);
+        } else {
+            autoParameterizedHitCount.increment();
+        }
+        if (sqlStatement.getParameterCount() != parameterizedSQL.get().getParameters().size()) {
+            unparameterizedCount.increment();
+            return Optional.empty();
+        }
+        return Optional.of(new AutoParameterizedSQLStatement(template, parameterizedSQL.get().getParameters(), sqlStatement));
+    }
+    
+    /**
+     * Get auto parameterization statistics.
+     *
+     * @return auto parameterization statistics
+     */
+    public SQLAutoParameterizationStatistics getAutoParameterizationStatistics() {
+        return new SQLAutoParameterizationStatistics(autoParameterizedHitCount.sum(), autoParameterizedMissCount.sum(), unparameterizedCount.sum());
+    }
 }
@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -50,4 +51,13 @@ public final class SQLStatementParserEngineFactory {
         }
         return result;
     }
+    
+    /**
+     * Get created SQL statement parser engines.
+     *
+     * @return created SQL statement parser engines
+     */
+    public static Map<DatabaseType, SQLStatementParserEngine> getSQLStatementParserEngines() {
+        return Collections.unmodifiableMap(ENGINES);
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.parser.sql.parameterized;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SQL auto parameterization statistics.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SQLAutoParameterizationStatistics {
+    
+    private final long hitCount;
+    
+    private final long missCount;
+    
+    private final long unparameterizedCount;
+    
+    /**
+     * Get hit rate of parameterized SQL templates.
+     *
+     * @return hit rate, 1.0 if no SQL has been parameterized
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return 0L == requestCount ? 1.0D : (double) hitCount / requestCount;
+    }
+}
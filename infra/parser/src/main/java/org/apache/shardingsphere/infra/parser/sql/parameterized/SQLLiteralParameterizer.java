@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql.parameterized;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal parameterizer.
+ *
+ * <p>Replaces literals of DML statements with parameter markers, so that statements which only differ in literal values share the same SQL template.
+ * Only literals which are right operands of comparison operators or elements of {@code IN} and {@code VALUES} lists are replaced,
+ * SQL with comments, parameter markers, backslash escapes or multiple statements is not parameterized.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLLiteralParameterizer {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("=", "<>", "!=", "<", ">", "<=", ">=", "<=>"));
+    
+    /**
+     * Parameterize SQL.
+     *
+     * @param sql SQL to be parameterized
+     * @return literal parameterized SQL, empty if SQL can not be parameterized or contains no replaceable literal
+     */
+    @HighFrequencyInvocation
+    public static Optional<LiteralParameterizedSQL> parameterize(final String sql) {
+        String trimmedSQL = trimSemicolon(sql.trim());
+        if (!isDMLStatement(trimmedSQL)) {
+            return Optional.empty();
+        }
+        StringBuilder template = new StringBuilder(trimmedSQL.length());
+        List<Object> params = new ArrayList<>();
+        Deque<Boolean> literalListFlags = new LinkedList<>();
+        TokenType lastTokenType = TokenType.OTHER;
+        String lastWord = "";
+        boolean inValuesClause = false;
+        int index = 0;
+        while (index < trimmedSQL.length()) {
+            char each = trimmedSQL.charAt(index);
+            if (Character.isWhitespace(each)) {
+                template.append(each);
+                index++;
+                continue;
+            }
+            if ('?' == each || ';' == each || '#' == each || '\\' == each || isCommentStart(trimmedSQL, index)) {
+                return Optional.empty();
+            }
+            if ('\'' == each) {
+                int end = findStringLiteralEnd(trimmedSQL, index);
+                if (end < 0) {
+                    return Optional.empty();
+                }
+                if (isReplaceable(trimmedSQL, end, lastTokenType, literalListFlags)) {
+                    template.append('?');
+                    params.add(trimmedSQL.substring(index + 1, end - 1).replace("''", "'"));
+                } else {
+                    template.append(trimmedSQL, index, end);
+                }
+                lastTokenType = TokenType.LITERAL;
+                index = end;
+                continue;
+            }
+            if ('"' == each || '`' == each) {
+                int end = trimmedSQL.indexOf(each, index + 1);
+                if (end < 0) {
+                    return Optional.empty();
+                }
+                template.append(trimmedSQL, index, end + 1);
+                lastTokenType = TokenType.OTHER;
+                index = end + 1;
+                continue;
+            }
+            if (Character.isDigit(each)) {
+                int end = findNumberLiteralEnd(trimmedSQL, index);
+                if (end < trimmedSQL.length() && isWordPart(trimmedSQL.charAt(end))) {
+                    end = findWordEnd(trimmedSQL, end);
+                    template.append(trimmedSQL, index, end);
+                    lastTokenType = TokenType.OTHER;
+                } else if (isReplaceable(trimmedSQL, end, lastTokenType, literalListFlags)) {
+                    template.append('?');
+                    params.add(toNumber(trimmedSQL.substring(index, end)));
+                    lastTokenType = TokenType.LITERAL;
+                } else {
+                    template.append(trimmedSQL, index, end);
+                    lastTokenType = TokenType.LITERAL;
+                }
+                index = end;
+                continue;
+            }
+            if (isWordPart(each)) {
+                int end = findWordEnd(trimmedSQL, index);
+                lastWord = trimmedSQL.substring(index, end).toUpperCase();
+                if (literalListFlags.isEmpty()) {
+                    inValuesClause = "VALUES".equals(lastWord) || "VALUE".equals(lastWord);
+                }
+                template.append(trimmedSQL, index, end);
+                lastTokenType = TokenType.WORD;
+                index = end;
+                continue;
+            }
+            if (isOperatorPart(each)) {
+                int end = index;
+                while (end < trimmedSQL.length() && isOperatorPart(trimmedSQL.charAt(end))) {
+                    end++;
+                }
+                template.append(trimmedSQL, index, end);
+                boolean jsonOperator = index > 0 && '-' == trimmedSQL.charAt(index - 1);
+                lastTokenType = !jsonOperator && COMPARISON_OPERATORS.contains(trimmedSQL.substring(index, end)) ? TokenType.COMPARISON_OPERATOR : TokenType.OTHER;
+                index = end;
+                continue;
+            }
+            if ('(' == each) {
+                boolean literalList = TokenType.WORD == lastTokenType && "IN".equals(lastWord)
+                        || inValuesClause && literalListFlags.isEmpty() && (TokenType.WORD == lastTokenType || TokenType.COMMA == lastTokenType);
+                literalListFlags.push(literalList);
+                lastTokenType = TokenType.OPEN_PARENTHESIS;
+            } else if (')' == each) {
+                if (literalListFlags.isEmpty()) {
+                    return Optional.empty();
+                }
+                literalListFlags.pop();
+                lastTokenType = TokenType.OTHER;
+            } else {
+                lastTokenType = ',' == each ? TokenType.COMMA : TokenType.OTHER;
+            }
+            template.append(each);
+            index++;
+        }
+        return params.isEmpty() || !literalListFlags.isEmpty() ? Optional.empty() : Optional.of(new LiteralParameterizedSQL(template.toString(), params));
+    }
+    
+    private static String trimSemicolon(final String sql) {
+        return sql.endsWith(";") ? sql.substring(0, sql.length() - 1).trim() : sql;
+    }
+    
+    private static boolean isDMLStatement(final String sql) {
+        int end = 0;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return DML_KEYWORDS.contains(sql.substring(0, end).toUpperCase());
+    }
+    
+    private static boolean isCommentStart(final String sql, final int index) {
+        if (index + 1 >= sql.length()) {
+            return false;
+        }
+        char current = sql.charAt(index);
+        char next = sql.charAt(index + 1);
+        return '-' == current && '-' == next || '/' == current && '*' == next;
+    }
+    
+    private static int findStringLiteralEnd(final String sql, final int start) {
+        int index = start + 1;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if ('\\' == each) {
+                return -1;
+            }
+            if ('\'' == each) {
+                if (index + 1 < sql.length() && '\'' == sql.charAt(index + 1)) {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return -1;
+    }
+    
+    private static int findNumberLiteralEnd(final String sql, final int start) {
+        int result = skipDigits(sql, start);
+        if (result < sql.length() && '.' == sql.charAt(result)) {
+            result = skipDigits(sql, result + 1);
+        }
+        if (result + 1 < sql.length() && ('e' == sql.charAt(result) || 'E' == sql.charAt(result))) {
+            int exponentStart = '+' == sql.charAt(result + 1) || '-' == sql.charAt(result + 1) ? result + 2 : result + 1;
+            if (exponentStart < sql.length() && Character.isDigit(sql.charAt(exponentStart))) {
+                result = skipDigits(sql, exponentStart);
+            }
+        }
+        return result;
+    }
+    
+    private static int skipDigits(final String sql, final int start) {
+        int result = start;
+        while (result < sql.length() && Character.isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int findWordEnd(final String sql, final int start) {
+        int result = start;
+        while (result < sql.length() && (isWordPart(sql.charAt(result)) || '.' == sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isWordPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch || '@' == ch;
+    }
+    
+    private static boolean isOperatorPart(final char ch) {
+        return '=' == ch || '<' == ch || '>' == ch || '!' == ch;
+    }
+    
+    private static boolean isReplaceable(final String sql, final int literalEnd, final TokenType lastTokenType, final Deque<Boolean> literalListFlags) {
+        int nextIndex = literalEnd;
+        while (nextIndex < sql.length() && Character.isWhitespace(sql.charAt(nextIndex))) {
+            nextIndex++;
+        }
+        if (nextIndex == sql.length()) {
+            return TokenType.COMPARISON_OPERATOR == lastTokenType;
+        }
+        char next = sql.charAt(nextIndex);
+        if (TokenType.COMPARISON_OPERATOR == lastTokenType) {
+            return ')' == next || ',' == next || Character.isLetter(next) && !sql.regionMatches(true, nextIndex, "COLLATE", 0, "COLLATE".length());
+        }
+        return (TokenType.OPEN_PARENTHESIS == lastTokenType || TokenType.COMMA == lastTokenType) && !literalListFlags.isEmpty() && literalListFlags.peek() && (',' == next || ')' == next);
+    }
+    
+    private static Object toNumber(final String literal) {
+        if (literal.contains(".") || literal.contains("e") || literal.contains("E")) {
+            return new BigDecimal(literal);
+        }
+        return literal.length() < 19 ? (Object) Long.parseLong(literal) : new BigDecimal(literal);
+    }
+    
+    private enum TokenType {
+    
+        WORD, LITERAL, COMPARISON_OPERATOR, OPEN_PARENTHESIS, COMMA, OTHER
+    }
+}
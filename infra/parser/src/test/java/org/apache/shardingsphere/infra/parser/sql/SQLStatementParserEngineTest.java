@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.parameterized.AutoParameterizedSQLStatement;
+import org.apache.shardingsphere.infra.parser.sql.parameterized.SQLAutoParameterizationStatistics;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.when;
+
+class SQLStatementParserEngineTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "SQL92");
+    
+    @Test
+    void assertParseWithAutoParameterizationMissAndHit() {
+        SQLStatement sqlStatement = mockSQLStatement(1);
+        try (MockedConstruction<SQLStatementParserExecutor> ignored = mockConstruction(SQLStatementParserExecutor.class, (mock, context) -> when(mock.parse(anyString())).thenReturn(sqlStatement))) {
+            SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+            Optional<AutoParameterizedSQLStatement> actualMiss = engine.parseWithAutoParameterization("SELECT * FROM t_order WHERE order_id = 1");
+            assertTrue(actualMiss.isPresent());
+            assertThat(actualMiss.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ?"));
+            assertThat(actualMiss.get().getParameters(), is(Collections.<Object>singletonList(1L)));
+            assertSame(actualMiss.get().getSqlStatement(), sqlStatement);
+            Optional<AutoParameterizedSQLStatement> actualHit = engine.parseWithAutoParameterization("SELECT * FROM t_order WHERE order_id = 2");
+            assertTrue(actualHit.isPresent());
+            assertThat(actualHit.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ?"));
+            assertThat(actualHit.get().getParameters(), is(Collections.<Object>singletonList(2L)));
+            assertSame(actualHit.get().getSqlStatement(), sqlStatement);
+            assertStatistics(engine.getAutoParameterizationStatistics(), 1L, 1L, 0L);
+        }
+    }
+    
+    @Test
+    void assertParseWithAutoParameterizationWithParameterCountMismatch() {
+        SQLStatement sqlStatement = mockSQLStatement(0);
+        try (MockedConstruction<SQLStatementParserExecutor> ignored = mockConstruction(SQLStatementParserExecutor.class, (mock, context) -> when(mock.parse(anyString())).thenReturn(sqlStatement))) {
+            SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+            assertFalse(engine.parseWithAutoParameterization("SELECT * FROM t_order WHERE order_id = 1").isPresent());
+            assertStatistics(engine.getAutoParameterizationStatistics(), 0L, 1L, 1L);
+        }
+    }
+    
+    @Test
+    void assertParseWithAutoParameterizationWithoutLiteral() {
+        try (MockedConstruction<SQLStatementParserExecutor> ignored = mockConstruction(SQLStatementParserExecutor.class)) {
+            SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+            assertFalse(engine.parseWithAutoParameterization("SELECT * FROM t_order WHERE order_id = user_id").isPresent());
+            assertStatistics(engine.getAutoParameterizationStatistics(), 0L, 0L, 1L);
+        }
+    }
+    
+    private SQLStatement mockSQLStatement(final int parameterCount) {
+        SQLStatement result = mock(SQLStatement.class);
+        when(result.getParameterCount()).thenReturn(parameterCount);
+        return result;
+    }
+    
+    private void assertStatistics(final SQLAutoParameterizationStatistics actual, final long expectedHitCount, final long expectedMissCount, final long expectedUnparameterizedCount) {
+        assertThat(actual.getHitCount(), is(expectedHitCount));
+        assertThat(actual.getMissCount(), is(expectedMissCount));
+        assertThat(actual.getUnparameterizedCount(), is(expectedUnparameterizedCount));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.parser.sql.parameterized;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLLiteralParameterizerTest {
+    
+    @Test
+    void assertParameterizeComparison() {
+        Optional<LiteralParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = 123 AND status <> 'O''K' LIMIT 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status <> ? LIMIT 10"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(123L, "O'K")));
+    }
+    
+    @Test
+    void assertParameterizeInList() {
+        Optional<LiteralParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("SELECT order_id FROM t_order WHERE user_id IN (1, 2.5, 'foo') ORDER BY 1;");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT order_id FROM t_order WHERE user_id IN (?, ?, ?) ORDER BY 1"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(1L, new BigDecimal("2.5"), "foo")));
+    }
+    
+    @Test
+    void assertParameterizeInsertValues() {
+        Optional<LiteralParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("INSERT INTO t_order (order_id, status) VALUES (1, 'OK'), (2, NOW())");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, NOW())"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(1L, "OK", 2L)));
+    }
+    
+    @Test
+    void assertNotParameterizeNonValueLiterals() {
+        Optional<LiteralParameterizedSQL> actual = SQLLiteralParameterizer.parameterize(
+                "SELECT CAST(amount AS DECIMAL(10, 2)) FROM t_order WHERE status = _utf8'OK' AND info->'$.id' = 1 AND order_id = -1 AND user_id = 2 COLLATE utf8_bin");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT CAST(amount AS DECIMAL(10, 2)) FROM t_order WHERE status = _utf8'OK' AND info->'$.id' = ? AND order_id = -1 AND user_id = 2 COLLATE utf8_bin"));
+        assertThat(actual.get().getParameters(), is(Collections.singletonList(1L)));
+    }
+    
+    @Test
+    void assertNotParameterizeWithoutLiteral() {
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = user_id").isPresent());
+    }
+    
+    @Test
+    void assertNotParameterizeNonDMLStatement() {
+        assertFalse(SQLLiteralParameterizer.parameterize("SET @foo = 1").isPresent());
+    }
+    
+    @Test
+    void assertNotParameterizeWithComment() {
+        assertFalse(SQLLiteralParameterizer.parameterize("/* SHARDINGSPHERE_HINT: WRITE_ROUTE_ONLY=true */ SELECT * FROM t_order WHERE order_id = 1").isPresent());
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = 1 -- comment").isPresent());
+    }
+    
+    @Test
+    void assertNotParameterizeWithParameterMarker() {
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = ? AND user_id = 1").isPresent());
+    }
+    
+    @Test
+    void assertNotParameterizeWithBackslashEscape() {
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE status = 'O\\'K'").isPresent());
+    }
+    
+    @Test
+    void assertNotParameterizeMultipleStatements() {
+        assertFalse(SQLLiteralParameterizer.parameterize("UPDATE t_order SET status = 'OK' WHERE order_id = 1; UPDATE t_order SET status = 'OK' WHERE order_id = 2").isPresent());
+    }
+}
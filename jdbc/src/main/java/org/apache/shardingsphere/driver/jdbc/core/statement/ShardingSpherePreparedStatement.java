@@ -399,6 +399,9 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     @Override
     protected void closeExecutor() throws SQLException {
+        if (null != currentResultSet) {
+            currentResultSet.close();
+        }
         driverExecutorFacade.close();
     }
 }
@@ -369,6 +369,9 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     @Override
     protected void closeExecutor() throws SQLException {
+        if (null != currentResultSet) {
+            currentResultSet.close();
+        }
         driverExecutorFacade.close();
     }
 }
@@ -59,6 +59,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ShardingSphereResultSetTest {
@@ -645,4 +646,11 @@ class ShardingSphereResultSetTest {
         when(mergeResultSet.getValue(1, URL.class)).thenReturn(result);
         assertThat(shardingSphereResultSet.getObject(1, URL.class), is(result));
     }
+    
+    @Test
+    void assertClose() throws SQLException {
+        shardingSphereResultSet.close();
+        verify(mergeResultSet).close();
+        assertTrue(shardingSphereResultSet.isClosed());
+    }
 }
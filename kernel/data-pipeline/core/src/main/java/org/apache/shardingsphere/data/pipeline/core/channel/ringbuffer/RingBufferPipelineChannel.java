@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer pipeline channel.
+ *
+ * <p>Pushed record lists are handed off through a bounded lock-free ring buffer without copy.
+ * Producers claim slots by sequence and the only fetch thread drains slots in batch.
+ * The batch container created by {@link #fetch(int, long)} is reused after it is acked, so records list should not be held after ack.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private static final int SPIN_TRIES = 100;
+    
+    private static final long MAX_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
+    private final AtomicReferenceArray<List<Record>> slots;
+    
+    private final int mask;
+    
+    private final AtomicLong producerSequence = new AtomicLong();
+    
+    private final AtomicLong consumerSequence = new AtomicLong();
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private List<Record> reusableBatch;
+    
+    private List<Record> borrowedBatch;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final PipelineChannelAckCallback ackCallback) {
+        int capacity = toPowerOfTwo(Math.max(2, bufferSize));
+        slots = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+        this.ackCallback = ackCallback;
+    }
+    
+    private int toPowerOfTwo(final int value) {
+        return 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(value - 1));
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void push(final List<Record> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        long sequence = producerSequence.getAndIncrement();
+        int idleCount = 0;
+        while (sequence - consumerSequence.get() > mask) {
+            idle(idleCount++, MAX_PARK_NANOS);
+        }
+        slots.set((int) sequence & mask, records);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<Record> result = null;
+        int idleCount = 0;
+        while (true) {
+            List<Record> records = take();
+            if (null != records) {
+                idleCount = 0;
+                if (null == result && records.size() >= batchSize) {
+                    result = records;
+                    break;
+                }
+                if (null == result) {
+                    result = borrowBatch(batchSize);
+                }
+                result.addAll(records);
+                if (result.size() >= batchSize) {
+                    break;
+                }
+                continue;
+            }
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                break;
+            }
+            idle(idleCount++, Math.min(remainingNanos, MAX_PARK_NANOS));
+        }
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    private List<Record> borrowBatch(final int batchSize) {
+        List<Record> result = null == reusableBatch ? new ArrayList<>(batchSize) : reusableBatch;
+        reusableBatch = null;
+        borrowedBatch = result;
+        return result;
+    }
+    
+    private List<Record> take() {
+        long sequence = consumerSequence.get();
+        int index = (int) sequence & mask;
+        List<Record> result = slots.get(index);
+        if (null == result) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        consumerSequence.lazySet(sequence + 1L);
+        return result;
+    }
+    
+    private void idle(final int idleCount, final long parkNanos) throws InterruptedException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+        }
+        if (idleCount < SPIN_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(parkNanos);
+        }
+    }
+    
+    @Override
+    public List<Record> peek() {
+        List<Record> result = slots.get((int) consumerSequence.get() & mask);
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public List<Record> poll() {
+        List<Record> result = take();
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+        if (records == borrowedBatch) {
+            records.clear();
+            reusableBatch = records;
+            borrowedBatch = null;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.position;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.Range;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.SplitPipelineJobByUniqueKeyException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.PrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.UnsupportedKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator.InventoryPositionCalculator;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Table check range splitter.
+ *
+ * <p>Split table into unique key ranges of nearly the same records count, so that every range could be checked and resumed separately.
+ * Records count is estimated from dialect statistics if possible, boundaries are taken from sampled unique key values if dialect supports sampling,
+ * otherwise unique key values range is split evenly. Ranges count of one table is limited.</p>
+ */
+@RequiredArgsConstructor
+public final class TableCheckRangeSplitter {
+    
+    private static final int MAX_RANGE_COUNT = 100;
+    
+    private final PipelineDataSource dataSource;
+    
+    private final long splitSize;
+    
+    /**
+     * Split table into unique key ranges.
+     *
+     * @param table table
+     * @param uniqueKeys unique keys
+     * @return unique key ranges, the first range has no lower bound and the last range has no upper bound
+     */
+    public List<PrimaryKeyIngestPosition<?>> split(final QualifiedTable table, final List<PipelineColumnMetaData> uniqueKeys) {
+        if (uniqueKeys.isEmpty() || !new DatabaseTypeRegistry(dataSource.getDatabaseType()).getDialectDatabaseMetaData().getDataTypeOption().isIntegerDataType(uniqueKeys.get(0).getDataType())) {
+            return Collections.singletonList(new UnsupportedKeyIngestPosition());
+        }
+        PipelinePrepareSQLBuilder sqlBuilder = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType());
+        String uniqueKey = uniqueKeys.get(0).getName();
+        try (Connection connection = dataSource.getConnection()) {
+            long recordsCount = getRecordsCount(connection, sqlBuilder, table);
+            if (recordsCount <= splitSize) {
+                return Collections.singletonList(new UnsupportedKeyIngestPosition());
+            }
+            Optional<Range<Long>> uniqueKeyValuesRange = getUniqueKeyValuesRange(connection, sqlBuilder.buildUniqueKeyMinMaxValuesSQL(table.getSchemaName(), table.getTableName(), uniqueKey));
+            if (!uniqueKeyValuesRange.isPresent()) {
+                return Collections.singletonList(new UnsupportedKeyIngestPosition());
+            }
+            long rangeCount = Math.min(MAX_RANGE_COUNT, (recordsCount + splitSize - 1L) / splitSize);
+            Optional<String> samplingSQL = sqlBuilder.buildUniqueKeySamplingSQL(
+                    table.getSchemaName(), table.getTableName(), uniqueKey, InventoryPositionCalculator.getSamplePercent(recordsCount, rangeCount));
+            List<Long> sampledValues = samplingSQL.isPresent() ? querySampledValues(connection, samplingSQL.get()) : Collections.emptyList();
+            return createRanges(sampledValues.isEmpty()
+                    ? getEvenBoundaries(uniqueKeyValuesRange.get(), rangeCount)
+                    : InventoryPositionCalculator.getSplitBoundaries(sampledValues, rangeCount));
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(table.getTableName(), uniqueKey, ex);
+        }
+    }
+    
+    private long getRecordsCount(final Connection connection, final PipelinePrepareSQLBuilder sqlBuilder, final QualifiedTable table) throws SQLException {
+        Optional<String> estimatedCountSQL = sqlBuilder.buildEstimatedCountSQL(connection.getCatalog(), table.getSchemaName(), table.getTableName());
+        if (estimatedCountSQL.isPresent()) {
+            long result = queryCount(connection, estimatedCountSQL.get());
+            if (result > 0L) {
+                return result;
+            }
+        }
+        return queryCount(connection, sqlBuilder.buildCountSQL(table.getSchemaName(), table.getTableName()));
+    }
+    
+    private long queryCount(final Connection connection, final String sql) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+    }
+    
+    private Optional<Range<Long>> getUniqueKeyValuesRange(final Connection connection, final String sql) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            long minimum = resultSet.getLong(1);
+            if (resultSet.wasNull()) {
+                return Optional.empty();
+            }
+            return Optional.of(Range.of(minimum, resultSet.getLong(2)));
+        }
+    }
+    
+    private List<Long> querySampledValues(final Connection connection, final String sql) throws SQLException {
+        List<Long> result = new ArrayList<>();
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                long value = resultSet.getLong(1);
+                if (!resultSet.wasNull()) {
+                    result.add(value);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private List<Long> getEvenBoundaries(final Range<Long> uniqueKeyValuesRange, final long rangeCount) {
+        BigInteger minimum = BigInteger.valueOf(uniqueKeyValuesRange.getMinimum());
+        BigInteger width = BigInteger.valueOf(uniqueKeyValuesRange.getMaximum()).subtract(minimum);
+        List<Long> result = new ArrayList<>((int) rangeCount - 1);
+        for (long i = 1L; i < rangeCount; i++) {
+            long boundary = minimum.add(width.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(rangeCount))).longValue();
+            if (result.isEmpty() || result.get(result.size() - 1) < boundary) {
+                result.add(boundary);
+            }
+        }
+        return result;
+    }
+    
+    private List<PrimaryKeyIngestPosition<?>> createRanges(final List<Long> boundaries) {
+        if (boundaries.isEmpty()) {
+            return Collections.singletonList(new UnsupportedKeyIngestPosition());
+        }
+        List<PrimaryKeyIngestPosition<?>> result = new ArrayList<>(boundaries.size() + 1);
+        long beginValue = Long.MIN_VALUE;
+        for (long each : boundaries) {
+            result.add(new IntegerPrimaryKeyIngestPosition(beginValue, each));
+            beginValue = each + 1L;
+        }
+        result.add(new IntegerPrimaryKeyIngestPosition(beginValue, Long.MAX_VALUE));
+        return result;
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
 
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableInventoryCheckCalculatedResult;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.CRC32TableInventoryCheckCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.RecordTableInventoryCheckCalculator;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.StreamingRangeType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.TableInventoryCalculator;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
@@ -27,6 +29,8 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Optional;
+import java.util.Properties;
 
 /**
  * CRC32 match table data consistency checker.
@@ -34,9 +38,20 @@ import java.util.LinkedList;
 @SPIDescription("Match CRC32 of records.")
 public final class CRC32MatchTableDataConsistencyChecker implements TableDataConsistencyChecker {
     
+    private static final String DRILL_DOWN_KEY = "drill-down";
+    
+    private static final int DRILL_DOWN_CHUNK_SIZE = 1000;
+    
+    private boolean drillDown;
+    
+    @Override
+    public void init(final Properties props) {
+        drillDown = Boolean.parseBoolean(props.getProperty(DRILL_DOWN_KEY, Boolean.FALSE.toString()));
+    }
+    
     @Override
     public TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
-        return new CRC32MatchTableInventoryChecker(param);
+        return new CRC32MatchTableInventoryChecker(param, drillDown);
     }
     
     @Override
@@ -59,13 +74,21 @@ public final class CRC32MatchTableDataConsistencyChecker implements TableDataCon
     
     private static final class CRC32MatchTableInventoryChecker extends MatchingTableInventoryChecker {
         
-        CRC32MatchTableInventoryChecker(final TableInventoryCheckParameter param) {
+        private final boolean drillDown;
+        
+        CRC32MatchTableInventoryChecker(final TableInventoryCheckParameter param, final boolean drillDown) {
             super(param);
+            this.drillDown = drillDown;
         }
         
         @Override
         protected TableInventoryCalculator<TableInventoryCheckCalculatedResult> buildSingleTableInventoryCalculator() {
             return new CRC32TableInventoryCheckCalculator();
         }
+        
+        @Override
+        protected Optional<TableInventoryCalculator<TableInventoryCheckCalculatedResult>> buildDrillDownTableInventoryCalculator() {
+            return drillDown && !getParam().getUniqueKeys().isEmpty() ? Optional.of(new RecordTableInventoryCheckCalculator(DRILL_DOWN_CHUNK_SIZE, StreamingRangeType.SMALL)) : Optional.empty();
+        }
     }
 }
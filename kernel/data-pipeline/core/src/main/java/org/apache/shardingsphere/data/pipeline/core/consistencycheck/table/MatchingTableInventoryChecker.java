@@ -33,6 +33,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.quer
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.TableInventoryCalculator;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
 import org.apache.shardingsphere.data.pipeline.core.task.PipelineTaskUtils;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
 
@@ -52,6 +53,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @Slf4j
 public abstract class MatchingTableInventoryChecker implements TableInventoryChecker {
     
+    private static final int DRILL_DOWN_RECORDS_COUNT = 1000;
+    
     @Getter(AccessLevel.PROTECTED)
     private final TableInventoryCheckParameter param;
     
@@ -74,20 +77,90 @@ public abstract class MatchingTableInventoryChecker implements TableInventoryChe
     }
     
     private TableDataConsistencyCheckResult checkSingleTableInventoryData(final TableInventoryCheckParameter param, final ThreadPoolExecutor executor) {
+        TableCheckRangePosition checkRangePosition = param.getProgressContext().getTableCheckRangePositions().get(param.getSplittingItem());
+        QueryRange sourceQueryRange = new QueryRange(null != checkRangePosition.getSourcePosition() ? checkRangePosition.getSourcePosition() : checkRangePosition.getSourceRange().getBeginValue(),
+                true, checkRangePosition.getSourceRange().getEndValue());
+        QueryRange targetQueryRange = new QueryRange(null != checkRangePosition.getTargetPosition() ? checkRangePosition.getTargetPosition() : checkRangePosition.getTargetRange().getBeginValue(),
+                true, checkRangePosition.getTargetRange().getEndValue());
+        YamlTableDataConsistencyCheckResult checkResult = new YamlTableDataConsistencyCheckResult(
+                checkRange(param, executor, buildSingleTableInventoryCalculator(), buildSingleTableInventoryCalculator(), sourceQueryRange, targetQueryRange, true).isMatched());
+        if (!checkResult.isMatched() && !isCanceling()) {
+            Optional<TableInventoryCalculator<TableInventoryCheckCalculatedResult>> sourceDrillDownCalculator = buildDrillDownTableInventoryCalculator();
+            Optional<TableInventoryCalculator<TableInventoryCheckCalculatedResult>> targetDrillDownCalculator = buildDrillDownTableInventoryCalculator();
+            if (sourceDrillDownCalculator.isPresent() && targetDrillDownCalculator.isPresent()) {
+                log.info("Drill down into unmatched range, jobId={}, sourceTable={}, splittingItem={}", param.getJobId(), param.getSourceTable(), param.getSplittingItem());
+                checkResult.setMatched(drillDown(param, executor, sourceDrillDownCalculator.get(), targetDrillDownCalculator.get(), sourceQueryRange));
+            }
+        }
+        checkRangePosition.setFinished(true);
+        checkRangePosition.setMatched(checkResult.isMatched());
+        return new YamlTableDataConsistencyCheckResultSwapper().swapToObject(checkResult);
+    }
+    
+    private boolean drillDown(final TableInventoryCheckParameter param, final ThreadPoolExecutor executor, final TableInventoryCalculator<TableInventoryCheckCalculatedResult> sourceDrillDownCalculator,
+                              final TableInventoryCalculator<TableInventoryCheckCalculatedResult> targetDrillDownCalculator, final QueryRange queryRange) {
+        if (!isIntegerUniqueKey(param)) {
+            return checkRange(param, executor, sourceDrillDownCalculator, targetDrillDownCalculator, queryRange, queryRange, false).isMatched();
+        }
+        long lowerValue = null == queryRange.getLower() ? Long.MIN_VALUE : ((Number) queryRange.getLower()).longValue();
+        long upperValue = null == queryRange.getUpper() ? Long.MAX_VALUE : ((Number) queryRange.getUpper()).longValue();
+        while (!isCanceling()) {
+            QueryRange unmatchedChunk = narrowUnmatchedChunk(param, executor, lowerValue, upperValue);
+            if (!checkRange(param, executor, sourceDrillDownCalculator, targetDrillDownCalculator, unmatchedChunk, unmatchedChunk, false).isMatched()) {
+                return false;
+            }
+            long chunkUpperValue = (long) unmatchedChunk.getUpper();
+            if (chunkUpperValue == upperValue) {
+                return true;
+            }
+            lowerValue = chunkUpperValue + 1L;
+            QueryRange remainingRange = new QueryRange(lowerValue, true, upperValue);
+            if (checkRange(param, executor, buildSingleTableInventoryCalculator(), buildSingleTableInventoryCalculator(), remainingRange, remainingRange, false).isMatched()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isIntegerUniqueKey(final TableInventoryCheckParameter param) {
+        return !param.getUniqueKeys().isEmpty()
+                && new DatabaseTypeRegistry(param.getSourceDataSource().getDatabaseType()).getDialectDatabaseMetaData().getDataTypeOption().isIntegerDataType(param.getUniqueKeys().get(0).getDataType());
+    }
+    
+    private QueryRange narrowUnmatchedChunk(final TableInventoryCheckParameter param, final ThreadPoolExecutor executor, final long lowerValue, final long upperValue) {
+        long lower = lowerValue;
+        long upper = upperValue;
+        while (lower < upper && !isCanceling()) {
+            long middle = (lower & upper) + ((lower ^ upper) >> 1);
+            QueryRange lowerHalf = new QueryRange(lower, true, middle);
+            RangeCheckResult lowerHalfCheckResult = checkRange(param, executor, buildSingleTableInventoryCalculator(), buildSingleTableInventoryCalculator(), lowerHalf, lowerHalf, false);
+            if (lowerHalfCheckResult.isMatched()) {
+                lower = middle + 1L;
+                continue;
+            }
+            upper = middle;
+            if (lowerHalfCheckResult.getRecordsCount() <= DRILL_DOWN_RECORDS_COUNT) {
+                break;
+            }
+        }
+        return new QueryRange(lower, true, upper);
+    }
+    
+    private RangeCheckResult checkRange(final TableInventoryCheckParameter param, final ThreadPoolExecutor executor,
+                                        final TableInventoryCalculator<TableInventoryCheckCalculatedResult> sourceCalculator, final TableInventoryCalculator<TableInventoryCheckCalculatedResult> targetCalculator,
+                                        final QueryRange sourceQueryRange, final QueryRange targetQueryRange, final boolean progressUpdating) {
         TableInventoryCalculateParameter sourceParam = new TableInventoryCalculateParameter(param.getSourceDataSource(), param.getSourceTable(),
                 param.getColumnNames(), param.getUniqueKeys(), QueryType.RANGE_QUERY, param.getQueryCondition());
-        TableCheckRangePosition checkRangePosition = param.getProgressContext().getTableCheckRangePositions().get(param.getSplittingItem());
-        sourceParam.setQueryRange(new QueryRange(null != checkRangePosition.getSourcePosition() ? checkRangePosition.getSourcePosition() : checkRangePosition.getSourceRange().getBeginValue(),
-                true, checkRangePosition.getSourceRange().getEndValue()));
-        TableInventoryCalculateParameter targetParam = getTableInventoryCalculateParameter(param, checkRangePosition);
-        TableInventoryCalculator<TableInventoryCheckCalculatedResult> sourceCalculator = buildSingleTableInventoryCalculator();
+        sourceParam.setQueryRange(sourceQueryRange);
+        TableInventoryCalculateParameter targetParam = new TableInventoryCalculateParameter(param.getTargetDataSource(), param.getTargetTable(),
+                param.getColumnNames(), param.getUniqueKeys(), QueryType.RANGE_QUERY, param.getQueryCondition());
+        targetParam.setQueryRange(targetQueryRange);
         this.sourceCalculator = sourceCalculator;
-        TableInventoryCalculator<TableInventoryCheckCalculatedResult> targetCalculator = buildSingleTableInventoryCalculator();
         this.targetCalculator = targetCalculator;
         try {
             Iterator<TableInventoryCheckCalculatedResult> sourceCalculatedResults = PipelineTaskUtils.waitFuture(executor.submit(() -> sourceCalculator.calculate(sourceParam))).iterator();
             Iterator<TableInventoryCheckCalculatedResult> targetCalculatedResults = PipelineTaskUtils.waitFuture(executor.submit(() -> targetCalculator.calculate(targetParam))).iterator();
-            return checkSingleTableInventoryData(sourceCalculatedResults, targetCalculatedResults, param, executor);
+            return checkRange(sourceCalculatedResults, targetCalculatedResults, param, executor, progressUpdating);
         } finally {
             QuietlyCloser.close(sourceParam.getCalculationContext());
             QuietlyCloser.close(targetParam.getCalculationContext());
@@ -96,20 +169,24 @@ public abstract class MatchingTableInventoryChecker implements TableInventoryChe
         }
     }
     
-    private TableDataConsistencyCheckResult checkSingleTableInventoryData(final Iterator<TableInventoryCheckCalculatedResult> sourceCalculatedResults,
-                                                                          final Iterator<TableInventoryCheckCalculatedResult> targetCalculatedResults,
-                                                                          final TableInventoryCheckParameter param, final ThreadPoolExecutor executor) {
-        YamlTableDataConsistencyCheckResult checkResult = new YamlTableDataConsistencyCheckResult(true);
+    private RangeCheckResult checkRange(final Iterator<TableInventoryCheckCalculatedResult> sourceCalculatedResults, final Iterator<TableInventoryCheckCalculatedResult> targetCalculatedResults,
+                                        final TableInventoryCheckParameter param, final ThreadPoolExecutor executor, final boolean progressUpdating) {
+        int sourceRecordsCount = 0;
+        int targetRecordsCount = 0;
         while (sourceCalculatedResults.hasNext() && targetCalculatedResults.hasNext()) {
             if (null != param.getReadRateLimitAlgorithm()) {
                 param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
             }
             TableInventoryCheckCalculatedResult sourceCalculatedResult = PipelineTaskUtils.waitFuture(executor.submit(sourceCalculatedResults::next));
             TableInventoryCheckCalculatedResult targetCalculatedResult = PipelineTaskUtils.waitFuture(executor.submit(targetCalculatedResults::next));
+            sourceRecordsCount += sourceCalculatedResult.getRecordsCount();
+            targetRecordsCount += targetCalculatedResult.getRecordsCount();
             if (!Objects.equals(sourceCalculatedResult, targetCalculatedResult)) {
-                checkResult.setMatched(false);
                 log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKeys={}", param.getJobId(), param.getSourceTable(), param.getTargetTable(), param.getUniqueKeys());
-                break;
+                return new RangeCheckResult(false, Math.max(sourceRecordsCount, targetRecordsCount));
+            }
+            if (!progressUpdating) {
+                continue;
             }
             TableCheckRangePosition checkRangePosition = param.getProgressContext().getTableCheckRangePositions().get(param.getSplittingItem());
             if (sourceCalculatedResult.getMaxUniqueKeyValue().isPresent()) {
@@ -120,25 +197,22 @@ public abstract class MatchingTableInventoryChecker implements TableInventoryChe
             }
             param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress(sourceCalculatedResult.getRecordsCount()));
         }
-        TableCheckRangePosition checkRangePosition = param.getProgressContext().getTableCheckRangePositions().get(param.getSplittingItem());
-        checkRangePosition.setFinished(true);
-        if (sourceCalculatedResults.hasNext() || targetCalculatedResults.hasNext()) {
-            checkResult.setMatched(false);
-        }
-        checkRangePosition.setMatched(checkResult.isMatched());
-        return new YamlTableDataConsistencyCheckResultSwapper().swapToObject(checkResult);
-    }
-    
-    private TableInventoryCalculateParameter getTableInventoryCalculateParameter(final TableInventoryCheckParameter param, final TableCheckRangePosition checkRangePosition) {
-        TableInventoryCalculateParameter result = new TableInventoryCalculateParameter(param.getTargetDataSource(), param.getTargetTable(),
-                param.getColumnNames(), param.getUniqueKeys(), QueryType.RANGE_QUERY, param.getQueryCondition());
-        result.setQueryRange(new QueryRange(null != checkRangePosition.getTargetPosition() ? checkRangePosition.getTargetPosition() : checkRangePosition.getTargetRange().getBeginValue(),
-                true, checkRangePosition.getTargetRange().getEndValue()));
-        return result;
+        return new RangeCheckResult(!sourceCalculatedResults.hasNext() && !targetCalculatedResults.hasNext(), Math.max(sourceRecordsCount, targetRecordsCount));
     }
     
     protected abstract TableInventoryCalculator<TableInventoryCheckCalculatedResult> buildSingleTableInventoryCalculator();
     
+    /**
+     * Build drill down table inventory calculator.
+     *
+     * <p>It is used to check records of the narrowed unmatched chunk again, one calculator is built for source and one for target.</p>
+     *
+     * @return drill down table inventory calculator, empty if drill down is not enabled
+     */
+    protected Optional<TableInventoryCalculator<TableInventoryCheckCalculatedResult>> buildDrillDownTableInventoryCalculator() {
+        return Optional.empty();
+    }
+    
     @Override
     public void cancel() {
         canceling.set(true);
@@ -150,4 +224,13 @@ public abstract class MatchingTableInventoryChecker implements TableInventoryChe
     public boolean isCanceling() {
         return canceling.get();
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RangeCheckResult {
+        
+        private final boolean matched;
+        
+        private final int recordsCount;
+    }
 }
@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableInventoryCheckCalculatedResult;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryRange;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.AbstractTableInventoryCalculator;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.TableInventoryCalculateParameter;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
@@ -51,23 +52,44 @@ public final class CRC32TableInventoryCheckCalculator extends AbstractTableInven
     }
     
     private CalculatedItem calculateCRC32(final PipelineDataConsistencyCalculateSQLBuilder pipelineSQLBuilder, final TableInventoryCalculateParameter param, final String columnName) {
-        String sql = pipelineSQLBuilder.buildCRC32SQL(param.getTable(), columnName)
+        QueryRange queryRange = isRangeQuery(param) ? param.getQueryRange() : null;
+        String sql = (null == queryRange ? pipelineSQLBuilder.buildCRC32SQL(param.getTable(), columnName)
+                : pipelineSQLBuilder.buildCRC32SQL(param.getTable(), columnName, param.getFirstUniqueKey().getName(), queryRange))
                 .orElseThrow(() -> new UnsupportedAlgorithmOnDatabaseTypeException("DataConsistencyCalculate", "CRC32", param.getDatabaseType()));
         try (
                 Connection connection = param.getDataSource().getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sql);
-                ResultSet resultSet = preparedStatement.executeQuery()) {
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             setCurrentStatement(preparedStatement);
-            resultSet.next();
-            long crc32 = resultSet.getLong(1);
-            int recordsCount = resultSet.getInt(2);
-            return new CalculatedItem(crc32, recordsCount);
+            if (null != queryRange) {
+                setQueryRangeParameters(preparedStatement, queryRange);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                long crc32 = resultSet.getLong(1);
+                int recordsCount = resultSet.getInt(2);
+                return new CalculatedItem(crc32, recordsCount);
+            }
         } catch (final SQLException ex) {
             log.error("Calculate CRC32 failed, sql={}", sql, ex);
             throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getTable(), ex);
         }
     }
     
+    private boolean isRangeQuery(final TableInventoryCalculateParameter param) {
+        QueryRange queryRange = param.getQueryRange();
+        return null != queryRange && (null != queryRange.getLower() || null != queryRange.getUpper()) && null != param.getUniqueKeys() && !param.getUniqueKeys().isEmpty();
+    }
+    
+    private void setQueryRangeParameters(final PreparedStatement preparedStatement, final QueryRange queryRange) throws SQLException {
+        int parameterIndex = 1;
+        if (null != queryRange.getLower()) {
+            preparedStatement.setObject(parameterIndex++, queryRange.getLower());
+        }
+        if (null != queryRange.getUpper()) {
+            preparedStatement.setObject(parameterIndex, queryRange.getUpper());
+        }
+    }
+    
     @RequiredArgsConstructor
     @Getter
     private static final class CalculatedItem {
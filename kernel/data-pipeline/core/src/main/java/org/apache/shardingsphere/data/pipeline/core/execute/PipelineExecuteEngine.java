@@ -31,6 +31,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 /**
  * Pipeline executor engine.
@@ -79,6 +80,17 @@ public final class PipelineExecuteEngine {
         return CompletableFuture.runAsync(pipelineLifecycleRunnable, executorService);
     }
     
+    /**
+     * Submit a task to execute.
+     *
+     * @param task task
+     * @param <T> type of task result
+     * @return execute future
+     */
+    public <T> CompletableFuture<T> submit(final Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executorService);
+    }
+    
     /**
      * Submit a {@code LifecycleExecutor} with callback {@code ExecuteCallback} to execute.
      *
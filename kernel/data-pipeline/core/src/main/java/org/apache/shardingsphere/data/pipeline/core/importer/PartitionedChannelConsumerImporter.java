@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
+import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
+import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Partitioned channel consumer importer.
+ *
+ * <p>
+ * Records fetched from channel are partitioned by table name and unique key hash, and every partition is written by its own sink on the importer execute engine.
+ * Records of the same unique key are always in the same partition to keep order, and the fetched records are acknowledged after all partitions are written.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class PartitionedChannelConsumerImporter extends AbstractPipelineLifecycleRunnable implements Importer {
+    
+    private final PipelineChannel channel;
+    
+    private final int batchSize;
+    
+    private final long timeoutMillis;
+    
+    private final List<PipelineSink> sinks;
+    
+    private final PipelineJobProgressListener jobProgressListener;
+    
+    private final PipelineExecuteEngine executeEngine;
+    
+    @Override
+    protected void runBlocking() {
+        while (isRunning()) {
+            List<Record> records = channel.fetch(batchSize, timeoutMillis);
+            if (records.isEmpty()) {
+                continue;
+            }
+            PipelineJobUpdateProgress updateProgress = write(records);
+            channel.ack(records);
+            jobProgressListener.onProgressUpdated(updateProgress);
+            if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                break;
+            }
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private PipelineJobUpdateProgress write(final List<Record> records) {
+        List<List<Record>> partitions = partition(records);
+        if (1 == partitions.size()) {
+            return sinks.get(0).write("", partitions.get(0));
+        }
+        Collection<CompletableFuture<PipelineJobUpdateProgress>> futures = new LinkedList<>();
+        int firstPartitionIndex = -1;
+        for (int i = 0; i < partitions.size(); i++) {
+            if (partitions.get(i).isEmpty()) {
+                continue;
+            }
+            if (firstPartitionIndex < 0) {
+                firstPartitionIndex = i;
+                continue;
+            }
+            PipelineSink sink = sinks.get(i);
+            List<Record> partition = partitions.get(i);
+            futures.add(executeEngine.submit(() -> sink.write("", partition)));
+        }
+        int result = firstPartitionIndex < 0 ? 0 : sinks.get(firstPartitionIndex).write("", partitions.get(firstPartitionIndex)).getProcessedRecordsCount();
+        for (CompletableFuture<PipelineJobUpdateProgress> each : futures) {
+            try {
+                result += each.get().getProcessedRecordsCount();
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new PipelineImporterJobWriteException(ex);
+            }
+        }
+        return new PipelineJobUpdateProgress(result);
+    }
+    
+    private List<List<Record>> partition(final List<Record> records) {
+        List<List<Record>> result = new ArrayList<>(sinks.size());
+        for (int i = 0; i < sinks.size(); i++) {
+            result.add(new LinkedList<>());
+        }
+        for (Record each : records) {
+            if (!(each instanceof DataRecord)) {
+                continue;
+            }
+            DataRecord dataRecord = (DataRecord) each;
+            if (isUniqueKeyChanged(dataRecord)) {
+                return Collections.singletonList(records);
+            }
+            result.get(getPartitionIndex(dataRecord)).add(dataRecord);
+        }
+        return result;
+    }
+    
+    private boolean isUniqueKeyChanged(final DataRecord dataRecord) {
+        if (PipelineSQLOperationType.UPDATE != dataRecord.getType()) {
+            return false;
+        }
+        Iterator<Object> oldUniqueKeyValues = dataRecord.getOldUniqueKeyValues().iterator();
+        for (Object each : dataRecord.getUniqueKeyValue()) {
+            Object oldUniqueKeyValue = oldUniqueKeyValues.next();
+            if (null != oldUniqueKeyValue && !Objects.deepEquals(oldUniqueKeyValue, each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private int getPartitionIndex(final DataRecord dataRecord) {
+        int result = dataRecord.getTableName().hashCode();
+        for (Object each : PipelineSQLOperationType.DELETE == dataRecord.getType() ? dataRecord.getOldUniqueKeyValues() : dataRecord.getUniqueKeyValue()) {
+            result = 31 * result + (each instanceof byte[] ? Arrays.hashCode((byte[]) each) : Objects.hashCode(each));
+        }
+        return Math.floorMod(result, sinks.size());
+    }
+    
+    @Override
+    protected void doStop() {
+        sinks.forEach(QuietlyCloser::close);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Dialect pipeline copy in executor.
+ */
+@SingletonSPI
+public interface DialectPipelineCopyInExecutor extends DatabaseTypedSPI {
+    
+    /**
+     * Judge whether connection supports copy in.
+     *
+     * @param connection connection
+     * @return supports copy in or not
+     * @throws SQLException SQL exception
+     */
+    boolean isSupported(Connection connection) throws SQLException;
+    
+    /**
+     * Copy data records into table.
+     *
+     * @param connection connection
+     * @param copyInSQL copy in SQL
+     * @param dataRecords data records with the same columns
+     * @return copied rows count
+     * @throws SQLException SQL exception
+     */
+    long copyIn(Connection connection, String copyInSQL, Collection<DataRecord> dataRecords) throws SQLException;
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink;
+
+/**
+ * Pipeline bulk insert mode.
+ */
+public enum PipelineBulkInsertMode {
+    
+    /**
+     * Single row insert statements executed by JDBC batch.
+     */
+    BATCH,
+    
+    /**
+     * Multi-row insert statements, every statement carries as many rows as the parameter count limit allowed.
+     */
+    MULTI_VALUES,
+    
+    /**
+     * Dialect copy protocol, fall back to {@link #MULTI_VALUES} if the dialect or connection does not support it.
+     */
+    COPY;
+    
+    /**
+     * Value of bulk insert mode.
+     *
+     * @param mode bulk insert mode, case insensitive
+     * @return bulk insert mode, {@link #BATCH} if mode is null
+     * @throws IllegalArgumentException if mode is unknown
+     */
+    public static PipelineBulkInsertMode valueFrom(final String mode) {
+        return null == mode ? BATCH : valueOf(mode.trim().toUpperCase());
+    }
+}
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperatio
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
 import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.DialectPipelineCopyInExecutor;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineBulkInsertMode;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
@@ -33,6 +35,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.group.GroupedD
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineImportSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.util.json.JsonUtils;
 
@@ -40,6 +43,7 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -54,6 +58,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class PipelineDataSourceSink implements PipelineSink {
     
+    private static final int MAX_PARAMETER_COUNT_PER_STATEMENT = Short.MAX_VALUE;
+    
     private final ImporterConfiguration importerConfig;
     
     private final DataSource dataSource;
@@ -62,6 +68,8 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private final DataRecordGroupEngine groupEngine;
     
+    private final DialectPipelineCopyInExecutor copyInExecutor;
+    
     private final AtomicReference<PreparedStatement> runningStatement;
     
     public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
@@ -69,6 +77,9 @@ public final class PipelineDataSourceSink implements PipelineSink {
         dataSource = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig());
         importSQLBuilder = new PipelineImportSQLBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
         groupEngine = new DataRecordGroupEngine();
+        copyInExecutor = PipelineBulkInsertMode.COPY == importerConfig.getBulkInsertMode()
+                ? DatabaseTypedSPILoader.findService(DialectPipelineCopyInExecutor.class, importerConfig.getDataSourceConfig().getDatabaseType()).orElse(null)
+                : null;
         runningStatement = new AtomicReference<>();
     }
     
@@ -142,7 +153,14 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private void executeBatchInsert(final Collection<DataRecord> dataRecords, final boolean firstTimeRun) throws SQLException {
         DataRecord dataRecord = dataRecords.iterator().next();
-        String sql = importSQLBuilder.buildInsertSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord);
+        String schemaName = importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null);
+        if (firstTimeRun && dataRecords.size() > 1 && PipelineBulkInsertMode.BATCH != importerConfig.getBulkInsertMode()) {
+            if (!executeCopyInsert(schemaName, dataRecords)) {
+                executeMultiValuesInsert(schemaName, new ArrayList<>(dataRecords));
+            }
+            return;
+        }
+        String sql = importSQLBuilder.buildInsertSQL(schemaName, dataRecord);
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
@@ -175,6 +193,56 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private boolean executeCopyInsert(final String schemaName, final Collection<DataRecord> dataRecords) throws SQLException {
+        if (null == copyInExecutor) {
+            return false;
+        }
+        Optional<String> copyInSQL = importSQLBuilder.buildCopyInSQL(schemaName, dataRecords.iterator().next());
+        if (!copyInSQL.isPresent()) {
+            return false;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (!copyInExecutor.isSupported(connection)) {
+                return false;
+            }
+            connection.setAutoCommit(false);
+            copyInExecutor.copyIn(connection, copyInSQL.get(), dataRecords);
+            connection.commit();
+        }
+        return true;
+    }
+    
+    private void executeMultiValuesInsert(final String schemaName, final List<DataRecord> dataRecords) throws SQLException {
+        int maxRowCountPerStatement = Integer.highestOneBit(Math.max(1, MAX_PARAMETER_COUNT_PER_STATEMENT / dataRecords.get(0).getColumnCount()));
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            int fromIndex = 0;
+            while (fromIndex < dataRecords.size()) {
+                int rowCount = Math.min(maxRowCountPerStatement, Integer.highestOneBit(dataRecords.size() - fromIndex));
+                executeMultiValuesInsert(connection, schemaName, dataRecords.subList(fromIndex, fromIndex + rowCount));
+                fromIndex += rowCount;
+            }
+            connection.commit();
+        }
+    }
+    
+    private void executeMultiValuesInsert(final Connection connection, final String schemaName, final List<DataRecord> dataRecords) throws SQLException {
+        String sql = importSQLBuilder.buildInsertSQL(schemaName, dataRecords.get(0), dataRecords.size());
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatement.set(preparedStatement);
+            preparedStatement.setQueryTimeout(30);
+            int parameterIndex = 1;
+            for (DataRecord each : dataRecords) {
+                for (int i = 0; i < each.getColumnCount(); i++) {
+                    preparedStatement.setObject(parameterIndex++, each.getColumn(i).getValue());
+                }
+            }
+            preparedStatement.executeUpdate();
+        } finally {
+            runningStatement.set(null);
+        }
+    }
+    
     private void retryBatchInsert(final PreparedStatement preparedStatement, final Collection<DataRecord> dataRecords) throws SQLException {
         for (DataRecord each : dataRecords) {
             for (int i = 0; i < each.getColumnCount(); i++) {
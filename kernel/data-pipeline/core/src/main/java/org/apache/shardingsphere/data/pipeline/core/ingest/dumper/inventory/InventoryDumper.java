@@ -124,7 +124,8 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
         List<String> columnNames = dumperContext.getQueryColumnNames();
         TableInventoryCalculateParameter calculateParam = new TableInventoryCalculateParameter(dataSource, table,
                 columnNames, dumperContext.getUniqueKeyColumns(), QueryType.RANGE_QUERY, null);
-        QueryRange queryRange = new QueryRange(((PrimaryKeyIngestPosition<?>) initialPosition).getBeginValue(), true, ((PrimaryKeyIngestPosition<?>) initialPosition).getEndValue());
+        PrimaryKeyIngestPosition<?> initialPrimaryKeyPosition = (PrimaryKeyIngestPosition<?>) initialPosition;
+        QueryRange queryRange = new QueryRange(initialPrimaryKeyPosition.getBeginValue(), initialPrimaryKeyPosition.isBeginValueInclusive(), initialPrimaryKeyPosition.getEndValue());
         calculateParam.setQueryRange(queryRange);
         RecordTableInventoryDumpCalculator dumpCalculator = new RecordTableInventoryDumpCalculator(dumperContext.getBatchSize(), StreamingRangeType.SMALL);
         long rowCount = 0L;
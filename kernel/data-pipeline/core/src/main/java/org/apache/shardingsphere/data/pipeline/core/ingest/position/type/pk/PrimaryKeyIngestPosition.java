@@ -40,6 +40,15 @@ public interface PrimaryKeyIngestPosition<T> extends IngestPosition {
      */
     T getEndValue();
     
+    /**
+     * Whether begin value is inclusive.
+     *
+     * @return begin value is inclusive or not
+     */
+    default boolean isBeginValueInclusive() {
+        return true;
+    }
+    
     /**
      * Get type.
      *
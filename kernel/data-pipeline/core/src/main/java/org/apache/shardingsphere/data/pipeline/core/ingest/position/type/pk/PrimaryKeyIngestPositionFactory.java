@@ -21,10 +21,14 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.UnsupportedKeyIngestPosition;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -42,8 +46,11 @@ public final class PrimaryKeyIngestPositionFactory {
      */
     public static PrimaryKeyIngestPosition<?> newInstance(final String data) {
         List<String> parts = Splitter.on(',').splitToList(data);
-        Preconditions.checkArgument(3 == parts.size(), "Unknown primary key position: " + data);
+        Preconditions.checkArgument(3 == parts.size() || 4 == parts.size() && "s".equals(parts.get(0)), "Unknown primary key position: " + data);
         Preconditions.checkArgument(1 == parts.get(0).length(), "Invalid primary key position type: " + parts.get(0));
+        if (4 == parts.size()) {
+            return newEncodedStringInstance(data, parts);
+        }
         char type = parts.get(0).charAt(0);
         String beginValue = parts.get(1);
         String endValue = parts.get(2);
@@ -59,6 +66,15 @@ public final class PrimaryKeyIngestPositionFactory {
         }
     }
     
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private static StringPrimaryKeyIngestPosition newEncodedStringInstance(final String data, final List<String> parts) {
+        String beginSymbol = parts.get(3);
+        Preconditions.checkArgument(StringPrimaryKeyIngestPosition.INCLUSIVE_BEGIN_SYMBOL.equals(beginSymbol) || StringPrimaryKeyIngestPosition.EXCLUSIVE_BEGIN_SYMBOL.equals(beginSymbol),
+                "Unknown primary key position: " + data);
+        return new StringPrimaryKeyIngestPosition(URLDecoder.decode(parts.get(1), StandardCharsets.UTF_8.name()),
+                StringPrimaryKeyIngestPosition.INCLUSIVE_BEGIN_SYMBOL.equals(beginSymbol), URLDecoder.decode(parts.get(2), StandardCharsets.UTF_8.name()));
+    }
+    
     /**
      * New instance by begin value and end value.
      *
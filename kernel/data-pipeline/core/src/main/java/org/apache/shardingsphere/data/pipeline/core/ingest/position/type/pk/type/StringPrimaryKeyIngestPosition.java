@@ -19,20 +19,36 @@ package org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.typ
 
 import com.google.common.base.Strings;
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.PrimaryKeyIngestPosition;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
 /**
  * String primary key ingest position.
  */
 @Getter
 public final class StringPrimaryKeyIngestPosition implements PrimaryKeyIngestPosition<String> {
     
+    public static final String INCLUSIVE_BEGIN_SYMBOL = "[";
+    
+    public static final String EXCLUSIVE_BEGIN_SYMBOL = "(";
+    
     private final String beginValue;
     
+    private final boolean beginValueInclusive;
+    
     private final String endValue;
     
     public StringPrimaryKeyIngestPosition(final String beginValue, final String endValue) {
+        this(beginValue, true, endValue);
+    }
+    
+    public StringPrimaryKeyIngestPosition(final String beginValue, final boolean beginValueInclusive, final String endValue) {
         this.beginValue = Strings.emptyToNull(beginValue);
+        this.beginValueInclusive = beginValueInclusive;
         this.endValue = Strings.emptyToNull(endValue);
     }
     
@@ -43,6 +59,18 @@ public final class StringPrimaryKeyIngestPosition implements PrimaryKeyIngestPos
     
     @Override
     public String toString() {
-        return String.format("%s,%s,%s", getType(), null == beginValue ? "" : beginValue, null == endValue ? "" : endValue);
+        if (beginValueInclusive && !containsSeparator(beginValue) && !containsSeparator(endValue)) {
+            return String.format("%s,%s,%s", getType(), null == beginValue ? "" : beginValue, null == endValue ? "" : endValue);
+        }
+        return String.format("%s,%s,%s,%s", getType(), encode(beginValue), encode(endValue), beginValueInclusive ? INCLUSIVE_BEGIN_SYMBOL : EXCLUSIVE_BEGIN_SYMBOL);
+    }
+    
+    private boolean containsSeparator(final String value) {
+        return null != value && value.contains(",");
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private String encode(final String value) {
+        return null == value ? "" : URLEncoder.encode(value, StandardCharsets.UTF_8.name());
     }
 }
@@ -34,4 +34,6 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
     private int batchSize = 1000;
     
     private YamlAlgorithmConfiguration rateLimiter;
+    
+    private String bulkInsertMode;
 }
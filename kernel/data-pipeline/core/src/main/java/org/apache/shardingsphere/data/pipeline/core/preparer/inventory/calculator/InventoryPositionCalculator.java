@@ -17,14 +17,19 @@
 
 package org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator;
 
+import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.Range;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.util.IntervalToRangeIterator;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -35,6 +40,10 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.NONE)
 public final class InventoryPositionCalculator {
     
+    private static final long SAMPLES_PER_SPLIT = 64L;
+    
+    private static final long MAX_SAMPLE_SIZE = 100000L;
+    
     /**
      * Get position by integer unique key range.
      *
@@ -48,7 +57,7 @@ public final class InventoryPositionCalculator {
             return Collections.singletonList(new IntegerPrimaryKeyIngestPosition(0, 0));
         }
         List<IngestPosition> result = new LinkedList<>();
-        long splitCount = tableRecordsCount / shardingSize + (tableRecordsCount % shardingSize > 0 ? 1 : 0);
+        long splitCount = getSplitCount(tableRecordsCount, shardingSize);
         long interval = BigInteger.valueOf(uniqueKeyValuesRange.getMaximum()).subtract(BigInteger.valueOf(uniqueKeyValuesRange.getMinimum())).divide(BigInteger.valueOf(splitCount)).longValue();
         IntervalToRangeIterator rangeIterator = new IntervalToRangeIterator(uniqueKeyValuesRange.getMinimum(), uniqueKeyValuesRange.getMaximum(), interval);
         while (rangeIterator.hasNext()) {
@@ -57,4 +66,88 @@ public final class InventoryPositionCalculator {
         }
         return result;
     }
+    
+    /**
+     * Get split count.
+     *
+     * @param tableRecordsCount table records count
+     * @param shardingSize sharding size
+     * @return split count
+     */
+    public static long getSplitCount(final long tableRecordsCount, final long shardingSize) {
+        return tableRecordsCount / shardingSize + (tableRecordsCount % shardingSize > 0 ? 1 : 0);
+    }
+    
+    /**
+     * Get sample percent of unique key values, so that every split could get enough samples.
+     *
+     * @param tableRecordsCount table records count
+     * @param splitCount split count
+     * @return sample percent
+     */
+    public static BigDecimal getSamplePercent(final long tableRecordsCount, final long splitCount) {
+        return BigDecimal.valueOf(Math.min(100D, Math.min(MAX_SAMPLE_SIZE, splitCount * SAMPLES_PER_SPLIT) * 100D / tableRecordsCount)).setScale(6, RoundingMode.UP);
+    }
+    
+    /**
+     * Get split boundaries by sampled unique key values, so that every split contains nearly the same count of records.
+     *
+     * @param sampledValues sampled unique key values in ascending order
+     * @param splitCount split count
+     * @param <T> type of unique key value
+     * @return split boundaries in ascending order, every boundary is the inclusive end value of one split
+     */
+    public static <T> List<T> getSplitBoundaries(final List<T> sampledValues, final long splitCount) {
+        int actualSplitCount = (int) Math.min(splitCount, sampledValues.size());
+        List<T> result = new ArrayList<>(Math.max(actualSplitCount - 1, 0));
+        for (int i = 1; i < actualSplitCount; i++) {
+            T boundary = sampledValues.get((int) ((long) i * sampledValues.size() / actualSplitCount) - 1);
+            if (result.isEmpty() || !result.get(result.size() - 1).equals(boundary)) {
+                result.add(boundary);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get position by integer unique key boundaries.
+     *
+     * @param uniqueKeyValuesRange unique key values range
+     * @param boundaries split boundaries in ascending order
+     * @return position collection
+     */
+    public static List<IngestPosition> getPositionByIntegerUniqueKeyBoundaries(final Range<Long> uniqueKeyValuesRange, final List<Long> boundaries) {
+        List<IngestPosition> result = new LinkedList<>();
+        long beginValue = uniqueKeyValuesRange.getMinimum();
+        for (long each : boundaries) {
+            if (each >= beginValue && each < uniqueKeyValuesRange.getMaximum()) {
+                result.add(new IntegerPrimaryKeyIngestPosition(beginValue, each));
+                beginValue = each + 1L;
+            }
+        }
+        result.add(new IntegerPrimaryKeyIngestPosition(beginValue, uniqueKeyValuesRange.getMaximum()));
+        return result;
+    }
+    
+    /**
+     * Get position by string unique key boundaries.
+     *
+     * <p>Boundary value is the inclusive end value of previous split and the exclusive begin value of next split, so every row is dumped only once.
+     * Empty boundary is skipped, since empty string sorts first and its rows stay in the first split.</p>
+     *
+     * @param boundaries split boundaries in ascending order
+     * @return position collection
+     */
+    public static List<IngestPosition> getPositionByStringUniqueKeyBoundaries(final List<String> boundaries) {
+        List<IngestPosition> result = new LinkedList<>();
+        String beginValue = null;
+        for (String each : boundaries) {
+            if (!Strings.isNullOrEmpty(each)) {
+                result.add(new StringPrimaryKeyIngestPosition(beginValue, null == beginValue, each));
+                beginValue = each;
+            }
+        }
+        result.add(new StringPrimaryKeyIngestPosition(beginValue, null == beginValue, null));
+        return result;
+    }
 }
@@ -33,20 +33,25 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTabl
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator.InventoryPositionCalculator;
 import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator.InventoryRecordsCountCalculator;
+import org.apache.shardingsphere.data.pipeline.core.query.JDBCStreamQueryBuilder;
 import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.datatype.DialectDataTypeOption;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
 
+import java.math.BigDecimal;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -121,17 +126,128 @@ public final class InventoryDumperContextSplitter {
         DialectDataTypeOption dataTypeOption = new DatabaseTypeRegistry(sourceDataSource.getDatabaseType()).getDialectDatabaseMetaData().getDataTypeOption();
         List<PipelineColumnMetaData> uniqueKeyColumns = dumperContext.getUniqueKeyColumns();
         int firstColumnDataType = uniqueKeyColumns.get(0).getDataType();
+        int shardingSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getShardingSize();
+        long splitCount = InventoryPositionCalculator.getSplitCount(tableRecordsCount, shardingSize);
         if (dataTypeOption.isIntegerDataType(firstColumnDataType)) {
             Range<Long> uniqueKeyValuesRange = getUniqueKeyValuesRange(jobItemContext, dumperContext);
-            int shardingSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getShardingSize();
+            if (splitCount > 1L) {
+                Optional<List<Long>> boundaries = getIntegerSplitBoundaries(jobItemContext, dumperContext, tableRecordsCount, splitCount);
+                if (boundaries.isPresent()) {
+                    return InventoryPositionCalculator.getPositionByIntegerUniqueKeyBoundaries(uniqueKeyValuesRange, boundaries.get());
+                }
+            }
             return InventoryPositionCalculator.getPositionByIntegerUniqueKeyRange(tableRecordsCount, uniqueKeyValuesRange, shardingSize);
         }
         if (1 == uniqueKeyColumns.size() && dataTypeOption.isStringDataType(firstColumnDataType)) {
-            return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
+            Optional<List<String>> boundaries = splitCount > 1L ? getStringSplitBoundaries(jobItemContext, dumperContext, tableRecordsCount, splitCount) : Optional.empty();
+            return boundaries.isPresent()
+                    ? InventoryPositionCalculator.getPositionByStringUniqueKeyBoundaries(boundaries.get())
+                    : Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
         }
         return Collections.singleton(new UnsupportedKeyIngestPosition());
     }
     
+    private Optional<List<Long>> getIntegerSplitBoundaries(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext,
+                                                           final long tableRecordsCount, final long splitCount) {
+        Optional<String> samplingSQL = buildUniqueKeySamplingSQL(jobItemContext, dumperContext, tableRecordsCount, splitCount);
+        if (samplingSQL.isPresent()) {
+            List<Long> sampledValues = querySampledUniqueKeyValues(jobItemContext, dumperContext, samplingSQL.get(), true).stream().map(Long.class::cast).collect(Collectors.toList());
+            return Optional.of(InventoryPositionCalculator.getSplitBoundaries(sampledValues, splitCount));
+        }
+        // Boundary probing scans the unique key index serially, integer unique key falls back to evenly split range instead.
+        return Optional.empty();
+    }
+    
+    private Optional<List<String>> getStringSplitBoundaries(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext,
+                                                            final long tableRecordsCount, final long splitCount) {
+        Optional<String> samplingSQL = buildUniqueKeySamplingSQL(jobItemContext, dumperContext, tableRecordsCount, splitCount);
+        if (samplingSQL.isPresent()) {
+            List<String> sampledValues = querySampledUniqueKeyValues(jobItemContext, dumperContext, samplingSQL.get(), false).stream().map(String.class::cast).collect(Collectors.toList());
+            return Optional.of(InventoryPositionCalculator.getSplitBoundaries(sampledValues, splitCount));
+        }
+        Optional<String> probingSQL = buildUniqueKeyBoundaryProbingSQL(jobItemContext, dumperContext);
+        if (!probingSQL.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<String> minimumValue = getMinimumStringUniqueKeyValue(jobItemContext, dumperContext);
+        return minimumValue.map(optional -> probeUniqueKeyBoundaries(dumperContext, probingSQL.get(), optional, tableRecordsCount, splitCount));
+    }
+    
+    private Optional<String> buildUniqueKeySamplingSQL(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext,
+                                                       final long tableRecordsCount, final long splitCount) {
+        BigDecimal samplePercent = InventoryPositionCalculator.getSamplePercent(tableRecordsCount, splitCount);
+        return new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType()).buildUniqueKeySamplingSQL(
+                dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName()), dumperContext.getActualTableName(),
+                dumperContext.getUniqueKeyColumns().get(0).getName(), samplePercent);
+    }
+    
+    private Optional<String> buildUniqueKeyBoundaryProbingSQL(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext) {
+        return new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType()).buildUniqueKeyBoundaryProbingSQL(
+                dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName()), dumperContext.getActualTableName(),
+                dumperContext.getUniqueKeyColumns().get(0).getName());
+    }
+    
+    private List<Object> querySampledUniqueKeyValues(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext, final String sql, final boolean integerUniqueKey) {
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        int batchSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getBatchSize();
+        List<Object> result = new ArrayList<>();
+        try (
+                Connection connection = sourceDataSource.getConnection();
+                PreparedStatement preparedStatement = JDBCStreamQueryBuilder.build(sourceDataSource.getDatabaseType(), connection, sql, batchSize);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                Object value = integerUniqueKey ? (Object) resultSet.getLong(1) : resultSet.getString(1);
+                if (!resultSet.wasNull()) {
+                    result.add(value);
+                }
+            }
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+        }
+        return result;
+    }
+    
+    private List<String> probeUniqueKeyBoundaries(final InventoryDumperContext dumperContext, final String sql, final String minimumValue, final long tableRecordsCount, final long splitCount) {
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        long step = Math.max(1L, tableRecordsCount / splitCount);
+        List<String> result = new ArrayList<>();
+        try (
+                Connection connection = sourceDataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            String lowerValue = minimumValue;
+            long skippedRowsCount = Math.max(0L, step - 2L);
+            for (long i = 1L; i < splitCount; i++) {
+                preparedStatement.setObject(1, lowerValue);
+                preparedStatement.setLong(2, skippedRowsCount);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        break;
+                    }
+                    lowerValue = resultSet.getString(1);
+                }
+                result.add(lowerValue);
+                skippedRowsCount = step - 1L;
+            }
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+        }
+        return result;
+    }
+    
+    private Optional<String> getMinimumStringUniqueKeyValue(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext) {
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        String sql = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType()).buildUniqueKeyMinMaxValuesSQL(
+                dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName()), dumperContext.getActualTableName(), uniqueKey);
+        try (
+                Connection connection = sourceDataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? Optional.ofNullable(resultSet.getString(1)) : Optional.empty();
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+        }
+    }
+    
     private Range<Long> getUniqueKeyValuesRange(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext) {
         String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
         PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPI;
 import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Optional;
@@ -52,6 +53,17 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build copy in SQL, which reads rows in CSV format from client.
+     *
+     * @param qualifiedTableName qualified table name
+     * @param columnsLiteral escaped columns literal
+     * @return built SQL
+     */
+    default Optional<String> buildCopyInSQL(final String qualifiedTableName, final String columnsLiteral) {
+        return Optional.empty();
+    }
+    
     /**
      * Build check empty table SQL.
      *
@@ -71,6 +83,31 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build unique key sampling SQL.
+     *
+     * @param qualifiedTableName qualified table name
+     * @param uniqueKey escaped unique key
+     * @param samplePercent sample percent
+     * @return built SQL
+     */
+    default Optional<String> buildUniqueKeySamplingSQL(final String qualifiedTableName, final String uniqueKey, final BigDecimal samplePercent) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Build unique key boundary probing SQL.
+     *
+     * <p>The SQL has two parameters, the exclusive lower value of unique key and the count of rows to be skipped, it queries one unique key value in ascending order.</p>
+     *
+     * @param qualifiedTableName qualified table name
+     * @param uniqueKey escaped unique key
+     * @return built SQL
+     */
+    default Optional<String> buildUniqueKeyBoundaryProbingSQL(final String qualifiedTableName, final String uniqueKey) {
+        return Optional.empty();
+    }
+    
     /**
      * Build CRC32 SQL.
      *
@@ -82,6 +119,18 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build CRC32 SQL with query condition.
+     *
+     * @param qualifiedTableName qualified table name
+     * @param columnName column name
+     * @param queryCondition query condition with parameter markers, e.g. <code>id&gt;=? AND id&lt;=?</code>
+     * @return built SQL
+     */
+    default Optional<String> buildCRC32SQL(final String qualifiedTableName, final String columnName, final String queryCondition) {
+        return Optional.empty();
+    }
+    
     /**
      * Build create table SQLs.
      *
@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql;
 
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryRange;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.dialect.DialectPipelineSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.segment.PipelineSQLSegmentBuilder;
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
 
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.Optional;
 
 /**
@@ -50,4 +53,28 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
         return dialectSQLBuilder.buildCRC32SQL(
                 sqlSegmentBuilder.getQualifiedTableName(qualifiedTable), sqlSegmentBuilder.getEscapedIdentifier(columnName));
     }
+    
+    /**
+     * Build CRC32 SQL in unique key range.
+     *
+     * @param qualifiedTable qualified table
+     * @param columnName column name
+     * @param uniqueKey unique key
+     * @param queryRange query range
+     * @return built SQL
+     */
+    public Optional<String> buildCRC32SQL(final QualifiedTable qualifiedTable, final String columnName, final String uniqueKey, final QueryRange queryRange) {
+        Collection<String> conditions = new LinkedList<>();
+        if (null != queryRange.getLower()) {
+            conditions.add(sqlSegmentBuilder.getEscapedIdentifier(uniqueKey) + (queryRange.isLowerInclusive() ? ">=?" : ">?"));
+        }
+        if (null != queryRange.getUpper()) {
+            conditions.add(sqlSegmentBuilder.getEscapedIdentifier(uniqueKey) + "<=?");
+        }
+        if (conditions.isEmpty()) {
+            return buildCRC32SQL(qualifiedTable, columnName);
+        }
+        return dialectSQLBuilder.buildCRC32SQL(
+                sqlSegmentBuilder.getQualifiedTableName(qualifiedTable), sqlSegmentBuilder.getEscapedIdentifier(columnName), String.join(" AND ", conditions));
+    }
 }
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoa
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -62,22 +63,54 @@ public final class PipelineImportSQLBuilder {
      * @return insert SQL
      */
     public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
-        String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
+        return buildInsertSQL(schemaName, dataRecord, 1);
+    }
+    
+    /**
+     * Build multi-row insert SQL.
+     *
+     * <p>Only SQL of power of two row count is cached, so that callers chunking rows by power of two sizes take a few cache entries per table.</p>
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @param rowCount row count of values
+     * @return insert SQL
+     */
+    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        if (Integer.bitCount(rowCount) > 1) {
+            return buildInsertSQL0(schemaName, dataRecord, rowCount);
+        }
+        String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + (1 == rowCount ? "" : rowCount + "_") + dataRecord.getTableName();
         if (null == sqlCache.getIfPresent(sqlCacheKey)) {
-            sqlCache.put(sqlCacheKey, buildInsertSQL0(schemaName, dataRecord));
+            sqlCache.put(sqlCacheKey, buildInsertSQL0(schemaName, dataRecord, rowCount));
         }
         return sqlCache.getIfPresent(sqlCacheKey);
     }
     
-    private String buildInsertSQL0(final String schemaName, final DataRecord dataRecord) {
-        String insertMainClause = buildInsertMainClause(schemaName, dataRecord);
+    private String buildInsertSQL0(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        String insertMainClause = buildInsertMainClause(schemaName, dataRecord, rowCount);
         return dialectSQLBuilder.buildInsertOnDuplicateClause(dataRecord).map(optional -> insertMainClause + " " + optional).orElse(insertMainClause);
     }
     
-    private String buildInsertMainClause(final String schemaName, final DataRecord dataRecord) {
-        String columnsLiteral = dataRecord.getColumns().stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each.getName())).collect(Collectors.joining(","));
-        String valuesLiteral = dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(","));
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral, valuesLiteral);
+    private String buildInsertMainClause(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        String valuesLiteral = "(" + dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(",")) + ")";
+        return String.format("INSERT INTO %s(%s) VALUES%s",
+                sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), buildColumnsLiteral(dataRecord), String.join(",", Collections.nCopies(rowCount, valuesLiteral)));
+    }
+    
+    private String buildColumnsLiteral(final DataRecord dataRecord) {
+        return dataRecord.getColumns().stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each.getName())).collect(Collectors.joining(","));
+    }
+    
+    /**
+     * Build copy in SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @return copy in SQL
+     */
+    public Optional<String> buildCopyInSQL(final String schemaName, final DataRecord dataRecord) {
+        return dialectSQLBuilder.buildCopyInSQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), buildColumnsLiteral(dataRecord));
     }
     
     /**
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.segment.PipelineS
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 /**
@@ -95,6 +96,31 @@ public final class PipelinePrepareSQLBuilder {
         return String.format("SELECT MIN(%s), MAX(%s) FROM %s", escapedUniqueKey, escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName));
     }
     
+    /**
+     * Build unique key sampling SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param samplePercent sample percent
+     * @return unique key sampling SQL
+     */
+    public Optional<String> buildUniqueKeySamplingSQL(final String schemaName, final String tableName, final String uniqueKey, final BigDecimal samplePercent) {
+        return dialectSQLBuilder.buildUniqueKeySamplingSQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), sqlSegmentBuilder.getEscapedIdentifier(uniqueKey), samplePercent);
+    }
+    
+    /**
+     * Build unique key boundary probing SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return unique key boundary probing SQL
+     */
+    public Optional<String> buildUniqueKeyBoundaryProbingSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return dialectSQLBuilder.buildUniqueKeyBoundaryProbingSQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), sqlSegmentBuilder.getEscapedIdentifier(uniqueKey));
+    }
+    
     /**
      * Build check empty table SQL.
      *
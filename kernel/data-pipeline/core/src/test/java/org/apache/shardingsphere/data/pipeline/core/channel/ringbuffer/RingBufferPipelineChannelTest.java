@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchWithoutCopyWhenBatchSizeReached() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Arrays.asList(new PlaceholderRecord(new IngestFinishedPosition()), new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.fetch(2, 0L), sameInstance(records));
+    }
+    
+    @Test
+    void assertFetchWithMultipleBatches() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        Record record1 = new PlaceholderRecord(new IngestFinishedPosition());
+        Record record2 = new PlaceholderRecord(new IngestFinishedPosition());
+        channel.push(Collections.singletonList(record1));
+        channel.push(Collections.singletonList(record2));
+        assertThat(channel.fetch(2, 0L), is(Arrays.asList(record1, record2)));
+    }
+    
+    @Test
+    void assertFetchReusesBatchAfterAck() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        channel.push(Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition())));
+        List<Record> actual = channel.fetch(10, 0L);
+        channel.ack(actual);
+        Record record = new PlaceholderRecord(new IngestFinishedPosition());
+        channel.push(Collections.singletonList(record));
+        List<Record> reused = channel.fetch(10, 0L);
+        assertThat(reused, sameInstance(actual));
+        assertThat(reused, is(Collections.singletonList(record)));
+    }
+    
+    @Test
+    void assertFetchWithTimeout() {
+        assertThat(new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>())).fetch(10, 10L), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPushBlockedUntilFetched() throws Exception {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> expected = new ArrayList<>(3);
+        for (int i = 0; i < 3; i++) {
+            expected.add(new PlaceholderRecord(new IngestFinishedPosition()));
+        }
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+            for (Record each : expected) {
+                channel.push(Collections.singletonList(each));
+            }
+        });
+        List<Record> actual = new ArrayList<>(channel.fetch(3, 5000L));
+        future.get(5L, TimeUnit.SECONDS);
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertPeekAndPollWithRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.poll(), is(records));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+        assertThat(channel.poll(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertAck() {
+        InventoryTaskAckCallback callback = mock(InventoryTaskAckCallback.class);
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        new RingBufferPipelineChannel(4, callback).ack(records);
+        verify(callback).onAck(records);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.position;
+
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.PrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.UnsupportedKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TableCheckRangeSplitterTest {
+    
+    @Mock
+    private PipelineDataSource dataSource;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    @Test
+    void assertSplitWithSampledUniqueKeyValues() throws SQLException {
+        mockTable(250L, 1L, 1000L);
+        ResultSet samplingResultSet = mockSamplingResultSet("SELECT id FROM foo_tbl TABLESAMPLE (76.800000) ORDER BY id ASC");
+        when(samplingResultSet.next()).thenReturn(true, true, true, true, true, true, false);
+        when(samplingResultSet.getLong(1)).thenReturn(5L, 10L, 84L, 100L, 168L, 900L);
+        List<PrimaryKeyIngestPosition<?>> actual = new TableCheckRangeSplitter(dataSource, 100L).split(new QualifiedTable(null, "foo_tbl"), createUniqueKeys(Types.INTEGER));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getBeginValue(), is(Long.MIN_VALUE));
+        assertThat(actual.get(0).getEndValue(), is(10L));
+        assertThat(actual.get(1).getBeginValue(), is(11L));
+        assertThat(actual.get(1).getEndValue(), is(100L));
+        assertThat(actual.get(2).getBeginValue(), is(101L));
+        assertThat(actual.get(2).getEndValue(), is(Long.MAX_VALUE));
+    }
+    
+    @Test
+    void assertSplitWithEvenUniqueKeyValuesRange() throws SQLException {
+        mockTable(250L, 1L, 301L);
+        ResultSet samplingResultSet = mockSamplingResultSet("SELECT id FROM foo_tbl TABLESAMPLE (76.800000) ORDER BY id ASC");
+        when(samplingResultSet.next()).thenReturn(false);
+        List<PrimaryKeyIngestPosition<?>> actual = new TableCheckRangeSplitter(dataSource, 100L).split(new QualifiedTable(null, "foo_tbl"), createUniqueKeys(Types.INTEGER));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getBeginValue(), is(Long.MIN_VALUE));
+        assertThat(actual.get(0).getEndValue(), is(101L));
+        assertThat(actual.get(1).getBeginValue(), is(102L));
+        assertThat(actual.get(1).getEndValue(), is(201L));
+        assertThat(actual.get(2).getBeginValue(), is(202L));
+        assertThat(actual.get(2).getEndValue(), is(Long.MAX_VALUE));
+    }
+    
+    @Test
+    void assertSplitWithLimitedRangeCount() throws SQLException {
+        mockTable(1000000L, 1L, 1000000L);
+        ResultSet samplingResultSet = mockSamplingResultSet("SELECT id FROM foo_tbl TABLESAMPLE (0.640000) ORDER BY id ASC");
+        when(samplingResultSet.next()).thenReturn(false);
+        List<PrimaryKeyIngestPosition<?>> actual = new TableCheckRangeSplitter(dataSource, 10L).split(new QualifiedTable(null, "foo_tbl"), createUniqueKeys(Types.INTEGER));
+        assertThat(actual.size(), is(100));
+        assertThat(actual.get(99).getBeginValue(), is(990001L));
+    }
+    
+    @Test
+    void assertSplitWithSingleRange() throws SQLException {
+        mockTable(100L, 1L, 100L);
+        List<PrimaryKeyIngestPosition<?>> actual = new TableCheckRangeSplitter(dataSource, 100L).split(new QualifiedTable(null, "foo_tbl"), createUniqueKeys(Types.INTEGER));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), instanceOf(UnsupportedKeyIngestPosition.class));
+    }
+    
+    @Test
+    void assertSplitWithStringUniqueKey() {
+        when(dataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        List<PrimaryKeyIngestPosition<?>> actual = new TableCheckRangeSplitter(dataSource, 100L).split(new QualifiedTable(null, "foo_tbl"), createUniqueKeys(Types.VARCHAR));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), instanceOf(UnsupportedKeyIngestPosition.class));
+    }
+    
+    @Test
+    void assertSplitWithoutUniqueKey() {
+        List<PrimaryKeyIngestPosition<?>> actual = new TableCheckRangeSplitter(dataSource, 100L).split(new QualifiedTable(null, "foo_tbl"), Collections.emptyList());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), instanceOf(UnsupportedKeyIngestPosition.class));
+    }
+    
+    private void mockTable(final long recordsCount, final long minimum, final long maximum) throws SQLException {
+        when(dataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(dataSource.getConnection()).thenReturn(connection);
+        ResultSet countResultSet = mock(ResultSet.class);
+        when(countResultSet.next()).thenReturn(true);
+        when(countResultSet.getLong(1)).thenReturn(recordsCount);
+        when(connection.createStatement().executeQuery("SELECT COUNT(*) FROM foo_tbl")).thenReturn(countResultSet);
+        if (recordsCount <= 100L) {
+            return;
+        }
+        ResultSet minMaxResultSet = mock(ResultSet.class);
+        when(minMaxResultSet.next()).thenReturn(true);
+        when(minMaxResultSet.getLong(1)).thenReturn(minimum);
+        when(minMaxResultSet.getLong(2)).thenReturn(maximum);
+        when(connection.createStatement().executeQuery("SELECT MIN(id), MAX(id) FROM foo_tbl")).thenReturn(minMaxResultSet);
+    }
+    
+    private ResultSet mockSamplingResultSet(final String sql) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(connection.createStatement().executeQuery(sql)).thenReturn(result);
+        return result;
+    }
+    
+    private List<PipelineColumnMetaData> createUniqueKeys(final int dataType) {
+        return Collections.singletonList(new PipelineColumnMetaData(1, "id", dataType, "", false, true, true));
+    }
+}
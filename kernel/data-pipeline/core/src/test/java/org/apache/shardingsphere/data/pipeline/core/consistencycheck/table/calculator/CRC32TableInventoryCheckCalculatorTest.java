@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calc
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableInventoryCheckCalculatedResult;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryRange;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.calculator.TableInventoryCalculateParameter;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
@@ -50,6 +51,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -84,6 +86,20 @@ class CRC32TableInventoryCheckCalculatorTest {
         assertFalse(actual.hasNext());
     }
     
+    @Test
+    void assertCalculateWithQueryRange() throws SQLException {
+        parameter.setQueryRange(new QueryRange(1L, true, 100L));
+        PreparedStatement preparedStatement0 = mockPreparedStatement(123L, 5);
+        when(connection.prepareStatement("SELECT CRC32(foo_col) FROM foo_tbl WHERE id>=? AND id<=?")).thenReturn(preparedStatement0);
+        PreparedStatement preparedStatement1 = mockPreparedStatement(456L, 5);
+        when(connection.prepareStatement("SELECT CRC32(bar_col) FROM foo_tbl WHERE id>=? AND id<=?")).thenReturn(preparedStatement1);
+        Iterator<TableInventoryCheckCalculatedResult> actual = new CRC32TableInventoryCheckCalculator().calculate(parameter).iterator();
+        assertThat(actual.next().getRecordsCount(), is(5));
+        assertFalse(actual.hasNext());
+        verify(preparedStatement0).setObject(1, 1L);
+        verify(preparedStatement0).setObject(2, 100L);
+    }
+    
     private PreparedStatement mockPreparedStatement(final long expectedCRC32Result, final int expectedRecordsCount) throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
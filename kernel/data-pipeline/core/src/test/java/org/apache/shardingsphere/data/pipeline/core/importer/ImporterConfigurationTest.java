@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.data.pipeline.core.importer;
 
 import org.apache.shardingsphere.data.pipeline.api.PipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineBulkInsertMode;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.TableAndSchemaNameMapper;
 import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
@@ -39,7 +40,7 @@ class ImporterConfigurationTest {
     void assertGetShardingColumns() {
         ImporterConfiguration importerConfig = new ImporterConfiguration(
                 mock(PipelineDataSourceConfiguration.class), Collections.singletonMap(new ShardingSphereIdentifier("foo_tbl"), Collections.singleton("foo_col")),
-                mock(TableAndSchemaNameMapper.class), 1, mock(JobRateLimitAlgorithm.class), 1, 1);
+                mock(TableAndSchemaNameMapper.class), 1, mock(JobRateLimitAlgorithm.class), 1, 1, PipelineBulkInsertMode.BATCH);
         assertThat(importerConfig.getShardingColumns("foo_tbl"), is(Collections.singleton("foo_col")));
     }
     
@@ -47,7 +48,8 @@ class ImporterConfigurationTest {
     void assertFindSchemaName() {
         PipelineDataSourceConfiguration dataSourceConfig = mock(PipelineDataSourceConfiguration.class);
         when(dataSourceConfig.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
-        ImporterConfiguration importerConfig = new ImporterConfiguration(dataSourceConfig, Collections.emptyMap(), mock(TableAndSchemaNameMapper.class), 1, mock(JobRateLimitAlgorithm.class), 1, 1);
+        ImporterConfiguration importerConfig = new ImporterConfiguration(
+                dataSourceConfig, Collections.emptyMap(), mock(TableAndSchemaNameMapper.class), 1, mock(JobRateLimitAlgorithm.class), 1, 1, PipelineBulkInsertMode.BATCH);
         assertFalse(importerConfig.findSchemaName("foo_schema").isPresent());
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PartitionedChannelConsumerImporterTest {
+    
+    private final Collection<Collection<Record>> writtenPartitions = new ConcurrentLinkedQueue<>();
+    
+    private PipelineExecuteEngine executeEngine;
+    
+    @BeforeEach
+    void setUp() {
+        executeEngine = PipelineExecuteEngine.newFixedThreadInstance(3, "partitioned-importer-test");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executeEngine.shutdown();
+    }
+    
+    @Test
+    void assertRunWithPartitions() {
+        PipelineChannel channel = mock(PipelineChannel.class);
+        List<Record> records = Arrays.asList(createDataRecord(PipelineSQLOperationType.INSERT, 1, null), createDataRecord(PipelineSQLOperationType.INSERT, 2, null),
+                createDataRecord(PipelineSQLOperationType.UPDATE, 1, 1), createDataRecord(PipelineSQLOperationType.INSERT, 3, null),
+                createDataRecord(PipelineSQLOperationType.DELETE, null, 2), new FinishedRecord(new IngestFinishedPosition()));
+        when(channel.fetch(100, 1000L)).thenReturn(records);
+        PipelineJobProgressListener jobProgressListener = mock(PipelineJobProgressListener.class);
+        List<CollectingPipelineSink> sinks = createSinks();
+        new PartitionedChannelConsumerImporter(channel, 100, 1000L, new ArrayList<>(sinks), jobProgressListener, executeEngine).run();
+        Map<Object, Collection<Record>> recordsByKey = new ConcurrentHashMap<>();
+        for (Collection<Record> each : writtenPartitions) {
+            for (Record record : each) {
+                DataRecord dataRecord = (DataRecord) record;
+                Object key = PipelineSQLOperationType.DELETE == dataRecord.getType() ? dataRecord.getOldKey() : dataRecord.getKey();
+                assertThat(recordsByKey.computeIfAbsent(key, unused -> each), is(each));
+            }
+        }
+        assertThat(writtenPartitions.stream().mapToInt(Collection::size).sum(), is(5));
+        assertTrue(sinks.stream().allMatch(each -> each.writtenCount <= 1));
+        verify(channel).ack(records);
+        verify(jobProgressListener).onProgressUpdated(any(PipelineJobUpdateProgress.class));
+    }
+    
+    @Test
+    void assertRunWithUniqueKeyChanged() {
+        PipelineChannel channel = mock(PipelineChannel.class);
+        List<Record> records = Arrays.asList(createDataRecord(PipelineSQLOperationType.INSERT, 1, null), createDataRecord(PipelineSQLOperationType.INSERT, 2, null),
+                createDataRecord(PipelineSQLOperationType.UPDATE, 3, 1), new FinishedRecord(new IngestFinishedPosition()));
+        when(channel.fetch(100, 1000L)).thenReturn(records);
+        new PartitionedChannelConsumerImporter(channel, 100, 1000L, new ArrayList<>(createSinks()), mock(PipelineJobProgressListener.class), executeEngine).run();
+        assertThat(writtenPartitions.size(), is(1));
+        assertThat(writtenPartitions.iterator().next(), is(records));
+        verify(channel).ack(records);
+    }
+    
+    @Test
+    void assertDoStop() {
+        List<CollectingPipelineSink> sinks = createSinks();
+        new PartitionedChannelConsumerImporter(mock(PipelineChannel.class), 100, 1000L, new ArrayList<>(sinks), mock(PipelineJobProgressListener.class), executeEngine).doStop();
+        assertTrue(sinks.stream().allMatch(each -> each.closed));
+    }
+    
+    private List<CollectingPipelineSink> createSinks() {
+        return Arrays.asList(new CollectingPipelineSink(), new CollectingPipelineSink(), new CollectingPipelineSink(), new CollectingPipelineSink());
+    }
+    
+    private DataRecord createDataRecord(final PipelineSQLOperationType type, final Integer id, final Integer oldId) {
+        DataRecord result = new DataRecord(type, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("order_id", oldId, id, true, true));
+        result.addColumn(new NormalColumn("user_id", null, 1, true, false));
+        return result;
+    }
+    
+    private final class CollectingPipelineSink implements PipelineSink {
+        
+        private int writtenCount;
+        
+        private boolean closed;
+        
+        @Override
+        public PipelineJobUpdateProgress write(final String ackId, final Collection<Record> records) {
+            writtenPartitions.add(records);
+            writtenCount++;
+            return new PipelineJobUpdateProgress(records.size());
+        }
+        
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
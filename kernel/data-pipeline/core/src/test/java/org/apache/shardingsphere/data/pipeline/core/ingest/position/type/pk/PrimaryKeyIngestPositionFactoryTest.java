@@ -26,6 +26,7 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -47,6 +48,15 @@ class PrimaryKeyIngestPositionFactoryTest {
         assertThat(actual.getEndValue(), is("b"));
     }
     
+    @Test
+    void assertNewInstanceWithEncodedStringPrimaryKeyIngestPosition() {
+        StringPrimaryKeyIngestPosition actual = (StringPrimaryKeyIngestPosition) PrimaryKeyIngestPositionFactory.newInstance(new StringPrimaryKeyIngestPosition("a,b", false, "c%d").toString());
+        assertThat(actual.getType(), is('s'));
+        assertThat(actual.getBeginValue(), is("a,b"));
+        assertFalse(actual.isBeginValueInclusive());
+        assertThat(actual.getEndValue(), is("c%d"));
+    }
+    
     @Test
     void assertNewInstanceWithUnsupportedKeyIngestPosition() {
         UnsupportedKeyIngestPosition actual = (UnsupportedKeyIngestPosition) PrimaryKeyIngestPositionFactory.newInstance("u,a,b");
@@ -60,6 +70,8 @@ class PrimaryKeyIngestPositionFactoryTest {
         assertThrows(IllegalArgumentException.class, () -> PrimaryKeyIngestPositionFactory.newInstance("z,100"));
         assertThrows(IllegalArgumentException.class, () -> PrimaryKeyIngestPositionFactory.newInstance("zz,100,200"));
         assertThrows(IllegalArgumentException.class, () -> PrimaryKeyIngestPositionFactory.newInstance("z,100,200"));
+        assertThrows(IllegalArgumentException.class, () -> PrimaryKeyIngestPositionFactory.newInstance("i,100,200,("));
+        assertThrows(IllegalArgumentException.class, () -> PrimaryKeyIngestPositionFactory.newInstance("s,a,b,x"));
     }
     
     @Test
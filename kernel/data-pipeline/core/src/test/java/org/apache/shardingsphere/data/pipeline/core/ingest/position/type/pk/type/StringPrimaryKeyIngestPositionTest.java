@@ -33,4 +33,14 @@ class StringPrimaryKeyIngestPositionTest {
     void assertToStringWithNullValue() {
         assertThat(new StringPrimaryKeyIngestPosition(null, null).toString(), is("s,,"));
     }
+    
+    @Test
+    void assertToStringWithExclusiveBeginValue() {
+        assertThat(new StringPrimaryKeyIngestPosition("hi", false, "jk").toString(), is("s,hi,jk,("));
+    }
+    
+    @Test
+    void assertToStringWithSeparatorInValue() {
+        assertThat(new StringPrimaryKeyIngestPosition("h,i", "j%k").toString(), is("s,h%2Ci,j%25k,["));
+    }
 }
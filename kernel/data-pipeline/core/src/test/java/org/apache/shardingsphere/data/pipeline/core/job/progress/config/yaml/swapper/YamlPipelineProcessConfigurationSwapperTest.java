@@ -49,6 +49,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("tps"), is("2000"));
+        assertThat(actual.getWrite().getBulkInsertMode(), is("MULTI_VALUES"));
         assertThat(actual.getStreamChannel().getType(), is("MEMORY"));
         assertThat(actual.getStreamChannel().getProps().getProperty("block-queue-size"), is("2000"));
     }
@@ -66,6 +67,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         yamlWriteRateLimiterConfig.setType("OUTPUT");
         yamlWriteRateLimiterConfig.setProps(PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("tps", "2000")));
         yamlWriteConfig.setRateLimiter(yamlWriteRateLimiterConfig);
+        yamlWriteConfig.setBulkInsertMode("MULTI_VALUES");
         result.setWrite(yamlWriteConfig);
         YamlAlgorithmConfiguration streamChannelConfig = new YamlAlgorithmConfiguration();
         streamChannelConfig.setType("MEMORY");
@@ -79,7 +81,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         PipelineReadConfiguration readConfig = new PipelineReadConfiguration(40, 1000, 10000000,
                 new AlgorithmConfiguration("INPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("qps", "50"))));
         PipelineWriteConfiguration writeConfig = new PipelineWriteConfiguration(40, 1000,
-                new AlgorithmConfiguration("OUTPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("tps", "2000"))));
+                new AlgorithmConfiguration("OUTPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("tps", "2000"))), "COPY");
         PipelineProcessConfiguration config = new PipelineProcessConfiguration(readConfig, writeConfig,
                 new AlgorithmConfiguration("MEMORY", PropertiesBuilder.build(new Property("block-queue-size", "2000"))));
         YamlPipelineProcessConfiguration actual = new YamlPipelineProcessConfigurationSwapper().swapToYamlConfiguration(config);
@@ -94,6 +96,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("tps"), is("2000"));
+        assertThat(actual.getWrite().getBulkInsertMode(), is("COPY"));
         assertThat(actual.getStreamChannel().getType(), is("MEMORY"));
         assertThat(actual.getStreamChannel().getProps().getProperty("block-queue-size"), is("2000"));
     }
@@ -20,13 +20,17 @@ package org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculat
 import org.apache.commons.lang3.Range;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.isA;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InventoryPositionCalculatorTest {
     
@@ -76,4 +80,45 @@ class InventoryPositionCalculatorTest {
         assertPosition(new IntegerPrimaryKeyIngestPosition(minimum, 0L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(0));
         assertPosition(new IntegerPrimaryKeyIngestPosition(1L, maximum), (IntegerPrimaryKeyIngestPosition) actualPositions.get(1));
     }
+    
+    @Test
+    void assertGetSplitBoundaries() {
+        assertThat(InventoryPositionCalculator.getSplitBoundaries(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L), 4L), is(Arrays.asList(2L, 4L, 6L)));
+    }
+    
+    @Test
+    void assertGetSplitBoundariesWithDuplicatedValues() {
+        assertThat(InventoryPositionCalculator.getSplitBoundaries(Arrays.asList("a", "a", "a", "a", "b", "c"), 3L), is(Collections.singletonList("a")));
+    }
+    
+    @Test
+    void assertGetSplitBoundariesWithLessSampledValues() {
+        assertThat(InventoryPositionCalculator.getSplitBoundaries(Arrays.asList(1L, 2L), 10L), is(Collections.singletonList(1L)));
+        assertTrue(InventoryPositionCalculator.getSplitBoundaries(Collections.emptyList(), 10L).isEmpty());
+    }
+    
+    @Test
+    void assertGetPositionByIntegerUniqueKeyBoundaries() {
+        List<IngestPosition> actualPositions = InventoryPositionCalculator.getPositionByIntegerUniqueKeyBoundaries(Range.of(1L, 600L), Arrays.asList(0L, 10L, 100L, 600L));
+        assertThat(actualPositions.size(), is(3));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(1L, 10L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(0));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(11L, 100L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(1));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(101L, 600L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(2));
+    }
+    
+    @Test
+    void assertGetPositionByStringUniqueKeyBoundaries() {
+        List<IngestPosition> actualPositions = InventoryPositionCalculator.getPositionByStringUniqueKeyBoundaries(Arrays.asList("", "b", "c,d", "e"));
+        assertThat(actualPositions.size(), is(4));
+        assertPosition(new StringPrimaryKeyIngestPosition(null, true, "b"), (StringPrimaryKeyIngestPosition) actualPositions.get(0));
+        assertPosition(new StringPrimaryKeyIngestPosition("b", false, "c,d"), (StringPrimaryKeyIngestPosition) actualPositions.get(1));
+        assertPosition(new StringPrimaryKeyIngestPosition("c,d", false, "e"), (StringPrimaryKeyIngestPosition) actualPositions.get(2));
+        assertPosition(new StringPrimaryKeyIngestPosition("e", false, null), (StringPrimaryKeyIngestPosition) actualPositions.get(3));
+    }
+    
+    private void assertPosition(final StringPrimaryKeyIngestPosition expected, final StringPrimaryKeyIngestPosition actual) {
+        assertThat(actual.getBeginValue(), is(expected.getBeginValue()));
+        assertThat(actual.isBeginValueInclusive(), is(expected.isBeginValueInclusive()));
+        assertThat(actual.getEndValue(), is(expected.getEndValue()));
+    }
 }
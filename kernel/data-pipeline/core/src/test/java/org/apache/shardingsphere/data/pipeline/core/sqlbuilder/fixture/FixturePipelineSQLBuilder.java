@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.core.sqlbuilder.fixture;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.dialect.DialectPipelineSQLBuilder;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
@@ -31,11 +32,21 @@ public final class FixturePipelineSQLBuilder implements DialectPipelineSQLBuilde
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
     }
     
+    @Override
+    public Optional<String> buildUniqueKeySamplingSQL(final String qualifiedTableName, final String uniqueKey, final BigDecimal samplePercent) {
+        return Optional.of(String.format("SELECT %s FROM %s TABLESAMPLE (%s) ORDER BY %s ASC", uniqueKey, qualifiedTableName, samplePercent.toPlainString(), uniqueKey));
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String qualifiedTableName, final String columnName) {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildCRC32SQL(final String qualifiedTableName, final String columnName, final String queryCondition) {
+        return Optional.of(String.format("SELECT CRC32(%s) FROM %s WHERE %s", columnName, qualifiedTableName, queryCondition));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) {
         return Collections.emptyList();
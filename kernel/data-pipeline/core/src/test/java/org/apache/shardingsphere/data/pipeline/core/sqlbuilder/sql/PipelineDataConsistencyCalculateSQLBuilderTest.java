@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql;
 
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryRange;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -36,4 +37,16 @@ class PipelineDataConsistencyCalculateSQLBuilderTest {
         Optional<String> actual = sqlBuilder.buildCRC32SQL(new QualifiedTable("foo_schema", "foo_tbl"), "foo_col");
         assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl")));
     }
+    
+    @Test
+    void assertBuildCRC32SQLWithQueryRange() {
+        Optional<String> actual = sqlBuilder.buildCRC32SQL(new QualifiedTable("foo_schema", "foo_tbl"), "foo_col", "id", new QueryRange(1L, false, 100L));
+        assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl WHERE id>? AND id<=?")));
+    }
+    
+    @Test
+    void assertBuildCRC32SQLWithUnboundedQueryRange() {
+        Optional<String> actual = sqlBuilder.buildCRC32SQL(new QualifiedTable("foo_schema", "foo_tbl"), "foo_col", "id", new QueryRange(null, true, null));
+        assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl")));
+    }
 }
@@ -32,6 +32,7 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class PipelineImportSQLBuilderTest {
     
@@ -43,6 +44,23 @@ class PipelineImportSQLBuilderTest {
         assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?)"));
     }
     
+    @Test
+    void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildInsertSQL(null, createDataRecordWithUniqueKey(), 2);
+        assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?),(?,?,?,?,?)"));
+    }
+    
+    @Test
+    void assertBuildMultiRowInsertSQLWithNonPowerOfTwoRowCount() {
+        String actual = sqlBuilder.buildInsertSQL(null, createDataRecordWithUniqueKey(), 3);
+        assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?),(?,?,?,?,?),(?,?,?,?,?)"));
+    }
+    
+    @Test
+    void assertBuildCopyInSQL() {
+        assertFalse(sqlBuilder.buildCopyInSQL(null, createDataRecordWithUniqueKey()).isPresent());
+    }
+    
     @Test
     void assertBuildUpdateSQLWithUniqueKey() {
         DataRecord dataRecord = createDataRecordWithUniqueKey();
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows;
+
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * MySQL pending rows binlog event, the rows of which are being decoded by decode worker.
+ */
+public final class MySQLPendingRowsBinlogEvent extends MySQLBaseBinlogEvent {
+    
+    private final CompletableFuture<MySQLBaseRowsBinlogEvent> decodedEvent;
+    
+    public MySQLPendingRowsBinlogEvent(final String fileName, final long position, final long timestamp, final CompletableFuture<MySQLBaseRowsBinlogEvent> decodedEvent) {
+        super(fileName, position, timestamp);
+        this.decodedEvent = decodedEvent;
+    }
+    
+    /**
+     * Get decoded rows event, wait until decoding is finished.
+     *
+     * @return decoded rows event
+     */
+    public MySQLBaseRowsBinlogEvent getDecodedEvent() {
+        return decodedEvent.join();
+    }
+}
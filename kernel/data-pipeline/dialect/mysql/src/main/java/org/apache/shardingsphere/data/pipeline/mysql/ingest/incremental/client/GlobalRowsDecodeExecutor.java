@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Global rows decode executor, shared by binlog clients of the instance.
+ *
+ * <p>The executor lives as long as the instance, idle workers exit after keep alive time, so closing a binlog client never affects decoding tasks in flight.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GlobalRowsDecodeExecutor {
+    
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    
+    private static volatile ExecutorService executor;
+    
+    /**
+     * Get rows decode executor.
+     *
+     * @param workerCount worker count, only takes effect when executor is created
+     * @return rows decode executor
+     */
+    public static ExecutorService getExecutor(final int workerCount) {
+        if (null == executor) {
+            synchronized (GlobalRowsDecodeExecutor.class) {
+                if (null == executor) {
+                    executor = createExecutor(workerCount);
+                }
+            }
+        }
+        return executor;
+    }
+    
+    private static ExecutorService createExecutor(final int workerCount) {
+        // Decode rows on I/O thread if all workers are busy, which slows down reading from socket as back pressure.
+        ThreadPoolExecutor result = new ThreadPoolExecutor(workerCount, workerCount, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(workerCount * 64),
+                ExecutorThreadFactoryBuilder.build("mysql-binlog-decode-%d"), new ThreadPoolExecutor.CallerRunsPolicy());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+}
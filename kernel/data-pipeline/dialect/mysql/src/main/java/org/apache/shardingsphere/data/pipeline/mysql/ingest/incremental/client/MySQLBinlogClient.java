@@ -36,6 +36,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.PlaceholderBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLPendingRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLBinlogEventPacketDecoder;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLCommandPacketDecoder;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLNegotiateHandler;
@@ -54,12 +55,14 @@ import org.apache.shardingsphere.infra.util.json.JsonUtils;
 import org.apache.shardingsphere.proxy.frontend.netty.ChannelAttrInitializer;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -76,6 +79,8 @@ public final class MySQLBinlogClient {
     
     private final boolean decodeWithTX;
     
+    private final ExecutorService rowsDecodeExecutor;
+    
     private final ArrayBlockingQueue<List<MySQLBaseBinlogEvent>> blockingEventQueue = new ArrayBlockingQueue<>(2500);
     
     private EventLoopGroup eventLoopGroup;
@@ -88,6 +93,10 @@ public final class MySQLBinlogClient {
     
     private volatile boolean running = true;
     
+    public MySQLBinlogClient(final ConnectInfo connectInfo, final boolean decodeWithTX) {
+        this(connectInfo, decodeWithTX, null);
+    }
+    
     /**
      * Connect to MySQL.
      */
@@ -223,7 +232,7 @@ public final class MySQLBinlogClient {
         channel.pipeline().remove(MySQLCommandPacketDecoder.class);
         channel.pipeline().remove(MySQLCommandResponseHandler.class);
         String tableKey = String.join(":", connectInfo.getHost(), String.valueOf(connectInfo.getPort()));
-        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey), decodeWithTX));
+        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey), decodeWithTX, rowsDecodeExecutor));
         channel.pipeline().addLast(new MySQLBinlogEventHandler(new PlaceholderBinlogEvent(binlogFileName, binlogPosition, 0L)));
         resetSequenceID();
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, connectInfo.getServerId(), binlogFileName));
@@ -244,13 +253,24 @@ public final class MySQLBinlogClient {
         }
         try {
             List<MySQLBaseBinlogEvent> result = blockingEventQueue.poll(100L, TimeUnit.MILLISECONDS);
-            return null == result ? Collections.emptyList() : result;
+            if (null == result) {
+                return Collections.emptyList();
+            }
+            return null == rowsDecodeExecutor ? result : getDecodedEvents(result);
         } catch (final InterruptedException ignored) {
             Thread.currentThread().interrupt();
             return Collections.emptyList();
         }
     }
     
+    private List<MySQLBaseBinlogEvent> getDecodedEvents(final List<MySQLBaseBinlogEvent> events) {
+        List<MySQLBaseBinlogEvent> result = new ArrayList<>(events.size());
+        for (MySQLBaseBinlogEvent each : events) {
+            result.add(each instanceof MySQLPendingRowsBinlogEvent ? ((MySQLPendingRowsBinlogEvent) each).getDecodedEvent() : each);
+        }
+        return result;
+    }
+    
     @SuppressWarnings("unchecked")
     private <T> Optional<T> waitExpectedResponse(final Class<T> type) {
         try {
@@ -27,7 +27,9 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.M
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.PlaceholderBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.query.MySQLQueryBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLBaseRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLDeleteRowsBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLPendingRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLUpdateRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLWriteRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.transaction.MySQLXidBinlogEvent;
@@ -44,9 +46,14 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 /**
  * MySQL binlog event packet decoder.
+ *
+ * <p>If rows decode executor is present, rows of ROWS_EVENT are decoded by the executor instead of I/O thread,
+ * and {@link MySQLPendingRowsBinlogEvent} is output in place of the rows event to keep the order of binlog events.</p>
  */
 @Slf4j
 public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
@@ -57,16 +64,24 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final boolean decodeWithTX;
     
+    private final ExecutorService rowsDecodeExecutor;
+    
     private List<MySQLBaseBinlogEvent> records = new LinkedList<>();
     
     public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX) {
+        this(checksumLength, tableMap, decodeWithTX, null);
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX, final ExecutorService rowsDecodeExecutor) {
         this.decodeWithTX = decodeWithTX;
+        this.rowsDecodeExecutor = rowsDecodeExecutor;
         binlogContext = new MySQLBinlogContext(checksumLength, tableMap);
     }
     
     @Override
     protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
         while (in.readableBytes() >= 1 + MySQLBinlogEventHeader.MYSQL_BINLOG_EVENT_HEADER_LENGTH) {
+            int eventStartIndex = in.readerIndex();
             in.markReaderIndex();
             MySQLPacketPayload payload = new MySQLPacketPayload(in, ctx.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
             checkPayload(payload);
@@ -74,7 +89,7 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
             if (!checkEventIntegrity(in, binlogEventHeader)) {
                 return;
             }
-            Optional<MySQLBaseBinlogEvent> binlogEvent = decodeEvent(binlogEventHeader, payload);
+            Optional<MySQLBaseBinlogEvent> binlogEvent = decodeEvent(binlogEventHeader, payload, eventStartIndex);
             if (!binlogEvent.isPresent()) {
                 skipChecksum(binlogEventHeader.getEventType(), in);
                 return;
@@ -145,7 +160,7 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         out.add(binlogEvent);
     }
     
-    private Optional<MySQLBaseBinlogEvent> decodeEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private Optional<MySQLBaseBinlogEvent> decodeEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload, final int eventStartIndex) {
         switch (MySQLBinlogEventType.valueOf(binlogEventHeader.getEventType()).orElse(MySQLBinlogEventType.UNKNOWN_EVENT)) {
             case ROTATE_EVENT:
                 decodeRotateEvent(binlogEventHeader, payload);
@@ -158,13 +173,11 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 return Optional.empty();
             case WRITE_ROWS_EVENT_V1:
             case WRITE_ROWS_EVENT_V2:
-                return Optional.of(decodeWriteRowsEventV2(binlogEventHeader, payload));
             case UPDATE_ROWS_EVENT_V1:
             case UPDATE_ROWS_EVENT_V2:
-                return Optional.of(decodeUpdateRowsEventV2(binlogEventHeader, payload));
             case DELETE_ROWS_EVENT_V1:
             case DELETE_ROWS_EVENT_V2:
-                return Optional.of(decodeDeleteRowsEventV2(binlogEventHeader, payload));
+                return Optional.of(decodeRowsEvent(binlogEventHeader, payload, eventStartIndex));
             case QUERY_EVENT:
                 return Optional.of(decodeQueryEvent(binlogEventHeader, payload));
             case XID_EVENT:
@@ -195,28 +208,55 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         binlogContext.putTableMapEvent(new MySQLBinlogTableMapEventPacket(binlogEventHeader, payload));
     }
     
-    private MySQLWriteRowsBinlogEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private MySQLBaseBinlogEvent decodeRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload, final int eventStartIndex) {
         MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
         MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
-        packet.readRows(tableMapEventPacket, payload);
-        return new MySQLWriteRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+        String fileName = binlogContext.getFileName();
+        if (null == rowsDecodeExecutor) {
+            packet.readRows(tableMapEventPacket, payload);
+            return createRowsEvent(fileName, binlogEventHeader, tableMapEventPacket, packet);
+        }
+        MySQLPacketPayload rowsPayload = copyRowsPayload(binlogEventHeader, payload, eventStartIndex);
+        CompletableFuture<MySQLBaseRowsBinlogEvent> decodedEvent =
+                CompletableFuture.supplyAsync(() -> readRows(fileName, binlogEventHeader, tableMapEventPacket, packet, rowsPayload), rowsDecodeExecutor);
+        return new MySQLPendingRowsBinlogEvent(fileName, binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), decodedEvent);
     }
     
-    private MySQLUpdateRowsBinlogEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
-        packet.readRows(tableMapEventPacket, payload);
-        return new MySQLUpdateRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows(), packet.getRows2());
+    private MySQLPacketPayload copyRowsPayload(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload, final int eventStartIndex) {
+        ByteBuf in = payload.getByteBuf();
+        // status code 1 byte is not included in event size
+        int eventLength = binlogEventHeader.getEventSize() + 1;
+        ByteBuf rowsData = in.copy(eventStartIndex, eventLength);
+        rowsData.readerIndex(in.readerIndex() - eventStartIndex);
+        in.readerIndex(eventStartIndex + eventLength - binlogEventHeader.getChecksumLength());
+        return new MySQLPacketPayload(rowsData, payload.getCharset());
     }
     
-    private MySQLDeleteRowsBinlogEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
-        packet.readRows(tableMapEventPacket, payload);
-        return new MySQLDeleteRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+    private static MySQLBaseRowsBinlogEvent readRows(final String fileName, final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogTableMapEventPacket tableMapEventPacket,
+                                                     final MySQLBinlogRowsEventPacket packet, final MySQLPacketPayload rowsPayload) {
+        try {
+            packet.readRows(tableMapEventPacket, rowsPayload);
+            return createRowsEvent(fileName, binlogEventHeader, tableMapEventPacket, packet);
+        } finally {
+            rowsPayload.getByteBuf().release();
+        }
+    }
+    
+    private static MySQLBaseRowsBinlogEvent createRowsEvent(final String fileName, final MySQLBinlogEventHeader binlogEventHeader,
+                                                            final MySQLBinlogTableMapEventPacket tableMapEventPacket, final MySQLBinlogRowsEventPacket packet) {
+        switch (MySQLBinlogEventType.valueOf(binlogEventHeader.getEventType()).orElse(MySQLBinlogEventType.UNKNOWN_EVENT)) {
+            case UPDATE_ROWS_EVENT_V1:
+            case UPDATE_ROWS_EVENT_V2:
+                return new MySQLUpdateRowsBinlogEvent(fileName, binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(),
+                        tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows(), packet.getRows2());
+            case DELETE_ROWS_EVENT_V1:
+            case DELETE_ROWS_EVENT_V2:
+                return new MySQLDeleteRowsBinlogEvent(fileName, binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(),
+                        tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+            default:
+                return new MySQLWriteRowsBinlogEvent(fileName, binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(),
+                        tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+        }
     }
     
     private PlaceholderBinlogEvent decodePlaceholderEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
@@ -21,6 +21,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.type.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.context.PipelineContextManager;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumperContext;
@@ -29,6 +31,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.id.PipelineJobIdUtils;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
@@ -36,18 +39,23 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.d
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLBaseRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLDeleteRowsBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLPendingRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLUpdateRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLWriteRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.position.MySQLBinlogPosition;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.ConnectInfo;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.GlobalRowsDecodeExecutor;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.MySQLBinlogClient;
 import org.apache.shardingsphere.database.connector.core.jdbcurl.parser.ConnectionProperties;
 import org.apache.shardingsphere.database.connector.core.jdbcurl.parser.ConnectionPropertiesParser;
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
 
 import java.io.Serializable;
 import java.util.Collections;
@@ -85,10 +93,19 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         ConnectInfo connectInfo = new ConnectInfo(
                 generateServerId(), connectionProps.getHostname(), connectionProps.getPort(), pipelineDataSourceConfig.getUsername(), pipelineDataSourceConfig.getPassword());
         log.info("incremental dump, jdbcUrl={}, serverId={}, hostname={}, port={}", pipelineDataSourceConfig.getUrl(), connectInfo.getServerId(), connectInfo.getHost(), connectInfo.getPort());
-        client = new MySQLBinlogClient(connectInfo, dumperContext.isDecodeWithTX());
+        int rowsDecodeWorkerCount = getRowsDecodeWorkerCount();
+        client = new MySQLBinlogClient(connectInfo, dumperContext.isDecodeWithTX(), rowsDecodeWorkerCount > 0 ? GlobalRowsDecodeExecutor.getExecutor(rowsDecodeWorkerCount) : null);
         catalog = connectionProps.getCatalog();
     }
     
+    private int getRowsDecodeWorkerCount() {
+        if (null == dumperContext.getJobId()) {
+            return 0;
+        }
+        ContextManager contextManager = PipelineContextManager.getContext(PipelineJobIdUtils.parseContextKey(dumperContext.getJobId()));
+        return null == contextManager ? 0 : contextManager.getMetaDataContexts().getMetaData().getTemporaryProps().<Integer>getValue(TemporaryConfigurationPropertyKey.PIPELINE_MYSQL_BINLOG_ROWS_DECODE_WORKER_COUNT);
+    }
+    
     private int generateServerId() {
         int result = hashCode();
         return Integer.MIN_VALUE == result ? Integer.MAX_VALUE : Math.abs(result);
@@ -114,6 +131,8 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     }
     
     private List<? extends Record> handleEvent(final MySQLBaseBinlogEvent event) {
+        ShardingSpherePreconditions.checkState(!(event instanceof MySQLPendingRowsBinlogEvent),
+                () -> new PipelineInternalException("Rows event of `%s:%s` is not decoded.", event.getFileName(), event.getPosition()));
         if (!(event instanceof MySQLBaseRowsBinlogEvent)) {
             return Collections.singletonList(createPlaceholderRecord(event));
         }
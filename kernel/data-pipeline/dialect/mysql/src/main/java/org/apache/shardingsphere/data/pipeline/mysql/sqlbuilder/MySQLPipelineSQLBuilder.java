@@ -59,11 +59,21 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return Optional.of(String.format("SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = '%s' AND TABLE_NAME = '%s'", catalogName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildUniqueKeyBoundaryProbingSQL(final String qualifiedTableName, final String uniqueKey) {
+        return Optional.of(String.format("SELECT %s FROM %s WHERE %s > ? ORDER BY %s ASC LIMIT 1 OFFSET ?", uniqueKey, qualifiedTableName, uniqueKey, uniqueKey));
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String qualifiedTableName, final String columnName) {
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildCRC32SQL(final String qualifiedTableName, final String columnName, final String queryCondition) {
+        return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s WHERE %s", columnName, qualifiedTableName, queryCondition));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) throws SQLException {
         try (
@@ -26,6 +26,7 @@ import io.netty.util.internal.StringUtil;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.MySQLBinlogContext;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.query.MySQLQueryBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLDeleteRowsBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLPendingRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLUpdateRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLWriteRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.transaction.MySQLXidBinlogEvent;
@@ -47,6 +48,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -173,6 +176,35 @@ class MySQLBinlogEventPacketDecoderTest {
         assertThat(actual.getAfterRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("updated".getBytes()), null}));
     }
     
+    @Test
+    void assertDecodeUpdateRowEventWithRowsDecodeExecutor() throws ReflectiveOperationException {
+        ExecutorService rowsDecodeExecutor = Executors.newSingleThreadExecutor();
+        try {
+            MySQLBinlogEventPacketDecoder decoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), true, rowsDecodeExecutor);
+            ((MySQLBinlogContext) Plugins.getMemberAccessor().get(MySQLBinlogEventPacketDecoder.class.getDeclaredField("binlogContext"), decoder)).getTableMap().put(123L, tableMapEventPacket);
+            ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+            byteBuf.writeBytes(StringUtil.decodeHexDump("00cb38a9621f010000004e0000000c7e000000007b00000000000100020004ffff08010000000000000001000000075355434345535308010000000000000001000000077570"
+                    + "6461746564e78cee6c"));
+            byteBuf.writeBytes(StringUtil.decodeHexDump("006acb656410010000001f000000fa29000000001643000000000000b13f8340"));
+            when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+            List<Object> decodedEvents = new LinkedList<>();
+            decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+            assertThat(decodedEvents.size(), is(1));
+            LinkedList<?> actualEventList = (LinkedList<?>) decodedEvents.get(0);
+            assertThat(actualEventList.get(0), isA(MySQLPendingRowsBinlogEvent.class));
+            assertThat(actualEventList.get(1), isA(MySQLXidBinlogEvent.class));
+            MySQLPendingRowsBinlogEvent pendingEvent = (MySQLPendingRowsBinlogEvent) actualEventList.get(0);
+            assertThat(pendingEvent.getPosition(), is(32268L));
+            assertThat(pendingEvent.getDecodedEvent(), isA(MySQLUpdateRowsBinlogEvent.class));
+            MySQLUpdateRowsBinlogEvent actual = (MySQLUpdateRowsBinlogEvent) pendingEvent.getDecodedEvent();
+            assertThat(actual.getPosition(), is(32268L));
+            assertThat(actual.getBeforeRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
+            assertThat(actual.getAfterRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("updated".getBytes()), null}));
+        } finally {
+            rowsDecodeExecutor.shutdown();
+        }
+    }
+    
     @Test
     void assertDecodeDeleteRowEvent() {
         ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
@@ -76,6 +76,13 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'foo_catalog' AND TABLE_NAME = 'foo_tbl'"));
     }
     
+    @Test
+    void assertBuildUniqueKeyBoundaryProbingSQL() {
+        Optional<String> actual = sqlBuilder.buildUniqueKeyBoundaryProbingSQL("foo_tbl", "id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT id FROM foo_tbl WHERE id > ? ORDER BY id ASC LIMIT 1 OFFSET ?"));
+    }
+    
     @Test
     void assertBuildCRC32SQL() {
         Optional<String> actual = sqlBuilder.buildCRC32SQL("foo_tbl", "id");
@@ -83,6 +90,13 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM foo_tbl"));
     }
     
+    @Test
+    void assertBuildCRC32SQLWithQueryCondition() {
+        Optional<String> actual = sqlBuilder.buildCRC32SQL("foo_tbl", "name", "id>=? AND id<=?");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(name) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM foo_tbl WHERE id>=? AND id<=?"));
+    }
+    
     @Test
     void assertBuildCreateTableSQLs() throws SQLException {
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
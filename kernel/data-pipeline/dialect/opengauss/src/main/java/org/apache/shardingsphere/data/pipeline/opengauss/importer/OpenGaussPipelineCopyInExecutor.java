@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.opengauss.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.DialectPipelineCopyInExecutor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.postgresql.importer.PostgreSQLCopyInCSVEncoder;
+import org.opengauss.jdbc.PgConnection;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * openGauss pipeline copy in executor.
+ */
+public final class OpenGaussPipelineCopyInExecutor implements DialectPipelineCopyInExecutor {
+    
+    @Override
+    public boolean isSupported(final Connection connection) throws SQLException {
+        return connection.isWrapperFor(PgConnection.class);
+    }
+    
+    @Override
+    public long copyIn(final Connection connection, final String copyInSQL, final Collection<DataRecord> dataRecords) throws SQLException {
+        try {
+            return connection.unwrap(PgConnection.class).getCopyAPI().copyIn(copyInSQL, new StringReader(PostgreSQLCopyInCSVEncoder.encode(dataRecords)));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "openGauss";
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.segment.PipelineS
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.dialect.DialectPipelineSQLBuilder;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -52,6 +53,11 @@ public final class OpenGaussPipelineSQLBuilder implements DialectPipelineSQLBuil
         return Optional.of(result.toString());
     }
     
+    @Override
+    public Optional<String> buildCopyInSQL(final String qualifiedTableName, final String columnsLiteral) {
+        return Optional.of(String.format("COPY %s(%s) FROM STDIN WITH (FORMAT 'csv')", qualifiedTableName, columnsLiteral));
+    }
+    
     @Override
     public String buildCheckEmptyTableSQL(final String qualifiedTableName) {
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
@@ -62,6 +68,11 @@ public final class OpenGaussPipelineSQLBuilder implements DialectPipelineSQLBuil
         return Optional.of(String.format("SELECT reltuples::integer FROM pg_class WHERE oid='%s'::regclass::oid;", qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildUniqueKeySamplingSQL(final String qualifiedTableName, final String uniqueKey, final BigDecimal samplePercent) {
+        return Optional.of(String.format("SELECT %s FROM %s TABLESAMPLE BERNOULLI (%s) ORDER BY %s ASC", uniqueKey, qualifiedTableName, samplePercent.toPlainString(), uniqueKey));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) throws SQLException {
         try (
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.test.infra.fixture.jdbc.MockedDataSource;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -81,6 +82,20 @@ class OpenGaussPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT reltuples::integer FROM pg_class WHERE oid='foo_tbl'::regclass::oid;"));
     }
     
+    @Test
+    void assertBuildCopyInSQL() {
+        Optional<String> actual = sqlBuilder.buildCopyInSQL("foo_tbl", "foo_col,bar_col");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("COPY foo_tbl(foo_col,bar_col) FROM STDIN WITH (FORMAT 'csv')"));
+    }
+    
+    @Test
+    void assertBuildUniqueKeySamplingSQL() {
+        Optional<String> actual = sqlBuilder.buildUniqueKeySamplingSQL("foo_tbl", "foo_col", new BigDecimal("0.5"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT foo_col FROM foo_tbl TABLESAMPLE BERNOULLI (0.5) ORDER BY foo_col ASC"));
+    }
+    
     @Test
     void assertBuildCreateTableSQLs() throws SQLException {
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+
+import java.util.Collection;
+
+/**
+ * PostgreSQL copy in CSV encoder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyInCSVEncoder {
+    
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    /**
+     * Encode data records to CSV rows.
+     *
+     * <p>Null value is encoded as unquoted empty string, all the other values are quoted, so empty string is distinguished from null.</p>
+     *
+     * @param dataRecords data records
+     * @return CSV rows
+     */
+    public static String encode(final Collection<DataRecord> dataRecords) {
+        StringBuilder result = new StringBuilder();
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                if (i > 0) {
+                    result.append(',');
+                }
+                appendValue(result, each.getColumn(i).getValue());
+            }
+            result.append('\n');
+        }
+        return result.toString();
+    }
+    
+    private static void appendValue(final StringBuilder builder, final Object value) {
+        if (null == value) {
+            return;
+        }
+        builder.append('"');
+        if (value instanceof byte[]) {
+            appendBytea(builder, (byte[]) value);
+        } else {
+            String text = value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char each = text.charAt(i);
+                if ('"' == each) {
+                    builder.append('"');
+                }
+                builder.append(each);
+            }
+        }
+        builder.append('"');
+    }
+    
+    private static void appendBytea(final StringBuilder builder, final byte[] value) {
+        builder.append("\\x");
+        for (byte each : value) {
+            builder.append(HEX_DIGITS[(each >> 4) & 0x0f]).append(HEX_DIGITS[each & 0x0f]);
+        }
+    }
+}
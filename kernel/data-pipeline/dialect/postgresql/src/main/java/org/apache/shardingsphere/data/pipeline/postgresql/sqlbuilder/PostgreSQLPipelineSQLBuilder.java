@@ -28,6 +28,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.sqlbuilder.ddl.table.P
 import org.apache.shardingsphere.data.pipeline.postgresql.sqlbuilder.template.PostgreSQLPipelineFreemarkerManager;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Arrays;
@@ -62,6 +63,11 @@ public final class PostgreSQLPipelineSQLBuilder implements DialectPipelineSQLBui
         return Optional.of(result.toString());
     }
     
+    @Override
+    public Optional<String> buildCopyInSQL(final String qualifiedTableName, final String columnsLiteral) {
+        return Optional.of(String.format("COPY %s(%s) FROM STDIN WITH (FORMAT 'csv')", qualifiedTableName, columnsLiteral));
+    }
+    
     @Override
     public String buildCheckEmptyTableSQL(final String qualifiedTableName) {
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
@@ -72,6 +78,11 @@ public final class PostgreSQLPipelineSQLBuilder implements DialectPipelineSQLBui
         return Optional.of(String.format("SELECT reltuples::integer FROM pg_class WHERE oid='%s'::regclass::oid;", qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildUniqueKeySamplingSQL(final String qualifiedTableName, final String uniqueKey, final BigDecimal samplePercent) {
+        return Optional.of(String.format("SELECT %s FROM %s TABLESAMPLE BERNOULLI (%s) ORDER BY %s ASC", uniqueKey, qualifiedTableName, samplePercent.toPlainString(), uniqueKey));
+    }
+    
     // TODO support partitions etc. If user use partition table, after sharding, the partition definition will not be needed. So we need to remove it after supported.
     @Override
     public Optional<String> buildCRC32SQL(final String qualifiedTableName, final String columnName) {
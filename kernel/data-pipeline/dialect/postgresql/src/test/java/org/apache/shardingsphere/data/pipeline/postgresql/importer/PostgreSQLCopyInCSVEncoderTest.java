@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PostgreSQLCopyInCSVEncoderTest {
+    
+    @Test
+    void assertEncode() {
+        String actual = PostgreSQLCopyInCSVEncoder.encode(Arrays.asList(createDataRecord(1, "foo \"bar\"", new byte[]{0x0a, (byte) 0xff}), createDataRecord(2, "", null)));
+        assertThat(actual, is("\"1\",\"foo \"\"bar\"\"\",\"\\x0aff\"\n\"2\",\"\",\n"));
+    }
+    
+    private DataRecord createDataRecord(final int id, final String name, final byte[] data) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 3);
+        result.addColumn(new NormalColumn("id", id, false, true));
+        result.addColumn(new NormalColumn("name", name, false, false));
+        result.addColumn(new NormalColumn("data", data, false, false));
+        return result;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.distsql.handler.transmission.upd
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelCreator;
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContextKey;
 import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineBulkInsertMode;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.config.PipelineProcessConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.config.PipelineReadConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.config.PipelineWriteConfiguration;
@@ -49,10 +50,21 @@ public final class AlterTransmissionRuleExecutor implements DistSQLUpdateExecuto
         if (null != streamChannel && !TypedSPILoader.findService(PipelineChannelCreator.class, streamChannel.getType()).isPresent()) {
             throw new PipelineInvalidParameterException("Unknown stream channel type `" + streamChannel.getType() + "`.");
         }
+        if (null != processConfig.getWrite() && null != processConfig.getWrite().getBulkInsertMode()) {
+            checkBulkInsertMode(processConfig.getWrite().getBulkInsertMode());
+        }
         String jobType = TypedSPILoader.getService(PipelineJobType.class, sqlStatement.getJobTypeName()).getType();
         processConfigPersistService.persist(new PipelineContextKey(InstanceType.PROXY), jobType, processConfig);
     }
     
+    private void checkBulkInsertMode(final String bulkInsertMode) {
+        try {
+            PipelineBulkInsertMode.valueFrom(bulkInsertMode);
+        } catch (final IllegalArgumentException ignored) {
+            throw new PipelineInvalidParameterException("Unknown bulk insert mode `" + bulkInsertMode + "`.");
+        }
+    }
+    
     private PipelineProcessConfiguration convertToProcessConfiguration(final TransmissionRuleSegment segment) {
         return new PipelineProcessConfiguration(
                 convertToReadConfiguration(segment.getReadSegment()), convertToWriteConfiguration(segment.getWriteSegment()), convertToAlgorithm(segment.getStreamChannel()));
@@ -65,7 +77,9 @@ public final class AlterTransmissionRuleExecutor implements DistSQLUpdateExecuto
     }
     
     private PipelineWriteConfiguration convertToWriteConfiguration(final ReadOrWriteSegment writeSegment) {
-        return null == writeSegment ? null : new PipelineWriteConfiguration(writeSegment.getWorkerThread(), writeSegment.getBatchSize(), convertToAlgorithm(writeSegment.getRateLimiter()));
+        return null == writeSegment
+                ? null
+                : new PipelineWriteConfiguration(writeSegment.getWorkerThread(), writeSegment.getBatchSize(), convertToAlgorithm(writeSegment.getRateLimiter()), writeSegment.getBulkInsertMode());
     }
     
     private AlgorithmConfiguration convertToAlgorithm(final AlgorithmSegment algorithmSegment) {
@@ -76,7 +76,7 @@ class AlterTransmissionRuleExecutorTest {
         when(jobType.getType()).thenReturn(JOB_TYPE);
         TransmissionRuleSegment segment = new TransmissionRuleSegment();
         segment.setReadSegment(new ReadOrWriteSegment(5, 1000, 200, new AlgorithmSegment("READ_LIMITER", PropertiesBuilder.build(new Property("qps", "50")))));
-        segment.setWriteSegment(new ReadOrWriteSegment(3, 500, new AlgorithmSegment("WRITE_LIMITER", PropertiesBuilder.build(new Property("qps", "20")))));
+        segment.setWriteSegment(new ReadOrWriteSegment(3, 500, "MULTI_VALUES", new AlgorithmSegment("WRITE_LIMITER", PropertiesBuilder.build(new Property("qps", "20")))));
         segment.setStreamChannel(new AlgorithmSegment("MEMORY", PropertiesBuilder.build(new Property("block-queue-size", "1024"))));
         AlterTransmissionRuleStatement sqlStatement = new AlterTransmissionRuleStatement(JOB_TYPE, segment);
         try (MockedStatic<TypedSPILoader> mockedStatic = mockStatic(TypedSPILoader.class)) {
@@ -95,6 +95,7 @@ class AlterTransmissionRuleExecutorTest {
             assertThat(actual.getWrite().getBatchSize(), is(500));
             assertThat(actual.getWrite().getRateLimiter().getType(), is("WRITE_LIMITER"));
             assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("qps"), is("20"));
+            assertThat(actual.getWrite().getBulkInsertMode(), is("MULTI_VALUES"));
             assertThat(actual.getStreamChannel().getType(), is("MEMORY"));
             assertThat(actual.getStreamChannel().getProps().getProperty("block-queue-size"), is("1024"));
         }
@@ -127,4 +128,12 @@ class AlterTransmissionRuleExecutorTest {
             assertThrows(PipelineInvalidParameterException.class, () -> executor.executeUpdate(sqlStatement, mock()));
         }
     }
+    
+    @Test
+    void assertExecuteUpdateThrowWhenBulkInsertModeIsUnknown() {
+        TransmissionRuleSegment segment = new TransmissionRuleSegment();
+        segment.setWriteSegment(new ReadOrWriteSegment(3, 500, "UNKNOWN", null));
+        AlterTransmissionRuleStatement sqlStatement = new AlterTransmissionRuleStatement(JOB_TYPE, segment);
+        assertThrows(PipelineInvalidParameterException.class, () -> executor.executeUpdate(sqlStatement, mock()));
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.core.context.TransmissionProcessC
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineBulkInsertMode;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.DumperCommonContext;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumperContext;
@@ -106,7 +107,8 @@ class CDCJobItemContextTest {
         DumperCommonContext commonContext = new DumperCommonContext("foo_ds", mock(), new ActualAndLogicTableNameMapper(Collections.emptyMap()), new TableAndSchemaNameMapper(Collections.emptyMap()));
         IncrementalDumperContext dumperContext = new IncrementalDumperContext(commonContext, "foo_job", true);
         Map<ShardingSphereIdentifier, Collection<String>> tableAndRequiredColumns = Collections.singletonMap(new ShardingSphereIdentifier("t_order"), Collections.singleton("id"));
-        ImporterConfiguration importerConfig = new ImporterConfiguration(mock(), tableAndRequiredColumns, new TableAndSchemaNameMapper(Collections.emptyMap()), 1, null, 1, 1);
+        ImporterConfiguration importerConfig = new ImporterConfiguration(
+                mock(), tableAndRequiredColumns, new TableAndSchemaNameMapper(Collections.emptyMap()), 1, null, 1, 1, PipelineBulkInsertMode.BATCH);
         return new CDCTaskConfiguration(dumperContext, importerConfig);
     }
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.data.pipeline.core.context.TransmissionProcessC
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithGetBinlogPositionException;
 import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineBulkInsertMode;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.DumperCommonContext;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.CreateIncrementalDumperParameter;
@@ -172,7 +173,8 @@ class CDCJobPreparerTest {
         lenient().when(jobConfig.isFull()).thenReturn(full);
         DumperCommonContext dumperCommonContext = createDumperCommonContext(dataSourceConfig);
         IncrementalDumperContext incrementalDumperContext = new IncrementalDumperContext(dumperCommonContext, jobId, decodeWithTX);
-        ImporterConfiguration importerConfig = new ImporterConfiguration(dataSourceConfig, Collections.emptyMap(), new TableAndSchemaNameMapper(Collections.emptyMap()), 1, null, 0, 1);
+        ImporterConfiguration importerConfig = new ImporterConfiguration(
+                dataSourceConfig, Collections.emptyMap(), new TableAndSchemaNameMapper(Collections.emptyMap()), 1, null, 0, 1, PipelineBulkInsertMode.BATCH);
         CDCTaskConfiguration taskConfig = new CDCTaskConfiguration(incrementalDumperContext, importerConfig);
         return new CDCJobItemContext(jobConfig, 0, initProgress, processContext, taskConfig, dataSourceManager, sink);
     }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.datanode.JobDataNodeEntry;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.importer.PipelineRequiredColumnsExtractor;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineBulkInsertMode;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumperContext;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.TableAndSchemaNameMapper;
 import org.apache.shardingsphere.data.pipeline.core.job.executor.DistributedPipelineJobExecutorCallback;
@@ -104,7 +105,8 @@ public final class MigrationJobExecutorCallback implements DistributedPipelineJo
         JobRateLimitAlgorithm writeRateLimitAlgorithm = new TransmissionProcessContext(jobConfig.getJobId(), pipelineProcessConfig).getWriteRateLimitAlgorithm();
         int retryTimes = jobConfig.getRetryTimes();
         int concurrency = jobConfig.getConcurrency();
-        return new ImporterConfiguration(jobConfig.getTarget(), tableAndRequiredColumnsMap, mapper, batchSize, writeRateLimitAlgorithm, retryTimes, concurrency);
+        PipelineBulkInsertMode bulkInsertMode = PipelineBulkInsertMode.valueFrom(pipelineProcessConfig.getWrite().getBulkInsertMode());
+        return new ImporterConfiguration(jobConfig.getTarget(), tableAndRequiredColumnsMap, mapper, batchSize, writeRateLimitAlgorithm, retryTimes, concurrency, bulkInsertMode);
     }
     
     @Override
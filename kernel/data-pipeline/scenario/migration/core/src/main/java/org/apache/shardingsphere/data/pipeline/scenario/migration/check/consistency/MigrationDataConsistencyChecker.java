@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.data.pipeline.scenario.migration.check.consistency;
 
+import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.type.ShardingSpherePipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.PipelineDataConsistencyChecker;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.TableCheckRangePosition;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.TableCheckRangeSplitter;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.TableDataConsistencyChecker;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.TableDataConsistencyCheckerFactory;
@@ -34,6 +36,9 @@ import org.apache.shardingsphere.data.pipeline.core.datanode.JobDataNodeLine;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.PrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.UnsupportedKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.TransmissionJobItemProgress;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
@@ -44,6 +49,7 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipe
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.core.task.PipelineTaskUtils;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineDataSourceConfigurationUtils;
 import org.apache.shardingsphere.data.pipeline.scenario.migration.MigrationJobType;
 import org.apache.shardingsphere.data.pipeline.scenario.migration.config.MigrationJobConfiguration;
@@ -51,6 +57,8 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -59,8 +67,10 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -69,13 +79,21 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class MigrationDataConsistencyChecker implements PipelineDataConsistencyChecker {
     
+    private static final String RANGE_SPLIT_SIZE_KEY = "range-split-size";
+    
+    private static final String CHECK_CONCURRENCY_KEY = "check-concurrency";
+    
+    private static final long DEFAULT_RANGE_SPLIT_SIZE = 1000000L;
+    
+    private static final int DEFAULT_CHECK_CONCURRENCY = 1;
+    
     private final MigrationJobConfiguration jobConfig;
     
     private final JobRateLimitAlgorithm readRateLimitAlgorithm;
     
     private final ConsistencyCheckJobItemProgressContext progressContext;
     
-    private final AtomicReference<TableInventoryChecker> currentTableInventoryChecker = new AtomicReference<>();
+    private final Collection<TableInventoryChecker> runningTableInventoryCheckers = new CopyOnWriteArraySet<>();
     
     private final AtomicBoolean canceling = new AtomicBoolean(false);
     
@@ -99,24 +117,43 @@ public final class MigrationDataConsistencyChecker implements PipelineDataConsis
                 PipelineDataSourceManager dataSourceManager = new PipelineDataSourceManager();
                 TableDataConsistencyChecker tableChecker = TableDataConsistencyCheckerFactory.newInstance(algorithmType, algorithmProps)) {
             PipelineDataSourceConfigurationUtils.transformPipelineDataSourceConfiguration(jobConfig.getJobId(), (ShardingSpherePipelineDataSourceConfiguration) jobConfig.getTarget());
+            int checkConcurrency = getCheckConcurrency(algorithmProps);
             if (progressContext.getTableCheckRangePositions().isEmpty()) {
-                progressContext.getTableCheckRangePositions().addAll(splitCrossTables());
+                progressContext.getTableCheckRangePositions().addAll(splitCrossTables(dataSourceManager, getRangeSplitSize(algorithmProps), checkConcurrency > 1));
             }
-            for (TableCheckRangePosition each : progressContext.getTableCheckRangePositions()) {
-                TableDataConsistencyCheckResult checkResult = checkSingleTableInventoryData(each, tableChecker, dataSourceManager);
-                log.info("checkResult: {}, table: {}, checkRangePosition: {}", checkResult, each.getSourceDataNode(), each);
-                DataNode dataNode = DataNodeUtils.parseWithSchema(each.getSourceDataNode());
-                QualifiedTable sourceTable = new QualifiedTable(dataNode.getSchemaName(), dataNode.getTableName());
-                checkResultMap.put(sourceTable, checkResult);
-                if (checkResult.isIgnored()) {
-                    progressContext.getIgnoredTableNames().add(sourceTable.format());
-                    log.info("Table '{}' is ignored, ignore type: {}", each.getSourceDataNode(), checkResult.getIgnoredType());
-                    continue;
+            PipelineExecuteEngine executeEngine = checkConcurrency > 1 ? PipelineExecuteEngine.newFixedThreadInstance(checkConcurrency, jobConfig.getJobId() + "-range-check") : null;
+            try {
+                Map<TableCheckRangePosition, Supplier<TableDataConsistencyCheckResult>> checkResultSuppliers = new LinkedHashMap<>();
+                for (TableCheckRangePosition each : progressContext.getTableCheckRangePositions()) {
+                    Supplier<TableDataConsistencyCheckResult> checker = () -> checkSingleTableInventoryData(each, tableChecker, dataSourceManager);
+                    if (null == executeEngine) {
+                        checkResultSuppliers.put(each, checker);
+                    } else {
+                        CompletableFuture<TableDataConsistencyCheckResult> checkFuture = executeEngine.submit(checker);
+                        checkResultSuppliers.put(each, () -> PipelineTaskUtils.waitFuture(checkFuture));
+                    }
+                }
+                for (Entry<TableCheckRangePosition, Supplier<TableDataConsistencyCheckResult>> entry : checkResultSuppliers.entrySet()) {
+                    TableCheckRangePosition checkRangePosition = entry.getKey();
+                    TableDataConsistencyCheckResult checkResult = entry.getValue().get();
+                    log.info("checkResult: {}, table: {}, checkRangePosition: {}", checkResult, checkRangePosition.getSourceDataNode(), checkRangePosition);
+                    DataNode dataNode = DataNodeUtils.parseWithSchema(checkRangePosition.getSourceDataNode());
+                    QualifiedTable sourceTable = new QualifiedTable(dataNode.getSchemaName(), dataNode.getTableName());
+                    checkResultMap.merge(sourceTable, checkResult, (oldValue, value) -> oldValue.isIgnored() || !oldValue.isMatched() ? oldValue : value);
+                    if (checkResult.isIgnored()) {
+                        progressContext.getIgnoredTableNames().add(sourceTable.format());
+                        log.info("Table '{}' is ignored, ignore type: {}", checkRangePosition.getSourceDataNode(), checkResult.getIgnoredType());
+                        continue;
+                    }
+                    if (!checkResult.isMatched() && tableChecker.isBreakOnInventoryCheckNotMatched()) {
+                        log.info("Unmatched on table '{}', ignore left tables", checkRangePosition.getSourceDataNode());
+                        cancel();
+                        return checkResultMap.entrySet().stream().collect(Collectors.toMap(each -> each.getKey().toString(), Entry::getValue));
+                    }
                 }
-                if (!checkResult.isMatched() && tableChecker.isBreakOnInventoryCheckNotMatched()) {
-                    log.info("Unmatched on table '{}', ignore left tables", each.getSourceDataNode());
-                    cancel();
-                    return checkResultMap.entrySet().stream().collect(Collectors.toMap(entry -> entry.getKey().toString(), Entry::getValue));
+            } finally {
+                if (null != executeEngine) {
+                    executeEngine.shutdown();
                 }
             }
         }
@@ -129,22 +166,69 @@ public final class MigrationDataConsistencyChecker implements PipelineDataConsis
         return jobProgress.values().stream().filter(Objects::nonNull).mapToLong(TransmissionJobItemProgress::getInventoryRecordsCount).sum();
     }
     
-    private List<TableCheckRangePosition> splitCrossTables() {
+    private long getRangeSplitSize(final Properties algorithmProps) {
+        String rangeSplitSizeText = null == algorithmProps ? null : algorithmProps.getProperty(RANGE_SPLIT_SIZE_KEY);
+        if (Strings.isNullOrEmpty(rangeSplitSizeText)) {
+            return DEFAULT_RANGE_SPLIT_SIZE;
+        }
+        long result;
+        try {
+            result = Long.parseLong(rangeSplitSizeText);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException("'range-split-size' is not a valid number: `" + rangeSplitSizeText + "`");
+        }
+        ShardingSpherePreconditions.checkState(result > 0L,
+                () -> new PipelineInvalidParameterException("Invalid 'range-split-size' value: `" + rangeSplitSizeText + "`, it should be a positive integer."));
+        return result;
+    }
+    
+    private int getCheckConcurrency(final Properties algorithmProps) {
+        String checkConcurrencyText = null == algorithmProps ? null : algorithmProps.getProperty(CHECK_CONCURRENCY_KEY);
+        if (Strings.isNullOrEmpty(checkConcurrencyText)) {
+            return DEFAULT_CHECK_CONCURRENCY;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(checkConcurrencyText);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException("'check-concurrency' is not a valid number: `" + checkConcurrencyText + "`");
+        }
+        ShardingSpherePreconditions.checkState(result > 0,
+                () -> new PipelineInvalidParameterException("Invalid 'check-concurrency' value: `" + checkConcurrencyText + "`, it should be a positive integer."));
+        return result;
+    }
+    
+    private List<TableCheckRangePosition> splitCrossTables(final PipelineDataSourceManager dataSourceManager, final long rangeSplitSize, final boolean splitByUniqueKeyRange) {
         List<TableCheckRangePosition> result = new LinkedList<>();
         int splittingItem = 0;
         for (JobDataNodeLine each : jobConfig.getJobShardingDataNodes()) {
             for (JobDataNodeEntry entry : each.getEntries()) {
                 for (DataNode dataNode : entry.getDataNodes()) {
-                    result.add(new TableCheckRangePosition(splittingItem++, dataNode.format(), entry.getLogicTableName(),
-                            new UnsupportedKeyIngestPosition(), new UnsupportedKeyIngestPosition(), null));
+                    List<PrimaryKeyIngestPosition<?>> ranges = splitByUniqueKeyRange
+                            ? splitByUniqueKeyRange(dataNode, dataSourceManager, rangeSplitSize)
+                            : Collections.singletonList(new UnsupportedKeyIngestPosition());
+                    for (PrimaryKeyIngestPosition<?> range : ranges) {
+                        result.add(new TableCheckRangePosition(splittingItem++, dataNode.format(), entry.getLogicTableName(), range, range, null));
+                    }
                 }
             }
         }
         return result;
     }
     
+    private List<PrimaryKeyIngestPosition<?>> splitByUniqueKeyRange(final DataNode dataNode, final PipelineDataSourceManager dataSourceManager, final long rangeSplitSize) {
+        PipelineDataSource sourceDataSource = dataSourceManager.getDataSource(jobConfig.getSources().get(dataNode.getDataSourceName()));
+        List<PipelineColumnMetaData> uniqueKeys = PipelineTableMetaDataUtils.getUniqueKeyColumns(
+                dataNode.getSchemaName(), dataNode.getTableName(), new StandardPipelineTableMetaDataLoader(sourceDataSource));
+        return new TableCheckRangeSplitter(sourceDataSource, rangeSplitSize).split(new QualifiedTable(dataNode.getSchemaName(), dataNode.getTableName()), uniqueKeys);
+    }
+    
     private TableDataConsistencyCheckResult checkSingleTableInventoryData(final TableCheckRangePosition checkRangePosition,
                                                                           final TableDataConsistencyChecker tableChecker, final PipelineDataSourceManager dataSourceManager) {
+        if (checkRangePosition.isFinished() && null != checkRangePosition.getMatched()) {
+            log.info("Skip finished check range, jobId: {}, checkRangePosition: {}", jobConfig.getJobId(), checkRangePosition);
+            return new TableDataConsistencyCheckResult(checkRangePosition.getMatched());
+        }
         log.info("checkSingleTableInventoryData, jobId: {}, checkRangePosition: {}", jobConfig.getJobId(), checkRangePosition);
         DataNode dataNode = DataNodeUtils.parseWithSchema(checkRangePosition.getSourceDataNode());
         QualifiedTable sourceTable = new QualifiedTable(dataNode.getSchemaName(), dataNode.getTableName());
@@ -162,19 +246,21 @@ public final class MigrationDataConsistencyChecker implements PipelineDataConsis
                 jobConfig.getJobId(), checkRangePosition.getSplittingItem(), sourceDataSource, targetDataSource, sourceTable, targetTable, columnNames, uniqueKeys,
                 readRateLimitAlgorithm, progressContext, checkRangePosition.getQueryCondition());
         TableInventoryChecker tableInventoryChecker = tableChecker.buildTableInventoryChecker(param);
-        currentTableInventoryChecker.set(tableInventoryChecker);
-        Optional<TableDataConsistencyCheckResult> preCheckResult = tableInventoryChecker.preCheck();
-        TableDataConsistencyCheckResult result = preCheckResult.orElseGet(tableInventoryChecker::checkSingleTableInventoryData);
-        tableInventoryChecker.cancel();
-        currentTableInventoryChecker.set(null);
-        return result;
+        runningTableInventoryCheckers.add(tableInventoryChecker);
+        try {
+            Optional<TableDataConsistencyCheckResult> preCheckResult = tableInventoryChecker.preCheck();
+            return preCheckResult.orElseGet(tableInventoryChecker::checkSingleTableInventoryData);
+        } finally {
+            tableInventoryChecker.cancel();
+            runningTableInventoryCheckers.remove(tableInventoryChecker);
+        }
     }
     
     @Override
     public void cancel() {
         canceling.set(true);
-        Optional.ofNullable(currentTableInventoryChecker.get()).ifPresent(TableInventoryChecker::cancel);
-        currentTableInventoryChecker.set(null);
+        runningTableInventoryCheckers.forEach(TableInventoryChecker::cancel);
+        runningTableInventoryCheckers.clear();
     }
     
     @Override
@@ -111,6 +111,10 @@ BATCH_SIZE
     : B A T C H UL_ S I Z E
     ;
 
+BULK_INSERT_MODE
+    : B U L K UL_ I N S E R T UL_ M O D E
+    ;
+
 SHARDING_SIZE
     : S H A R D I N G UL_ S I Z E
     ;
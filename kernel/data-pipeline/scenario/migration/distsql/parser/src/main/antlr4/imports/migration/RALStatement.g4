@@ -36,7 +36,7 @@ readDefinition
     ;
 
 writeDefinition
-    : WRITE LP_ workerThread? (COMMA_? batchSize)? (COMMA_? rateLimiter)? RP_
+    : WRITE LP_ workerThread? (COMMA_? batchSize)? (COMMA_? bulkInsertMode)? (COMMA_? rateLimiter)? RP_
     ;
 
 workerThread
@@ -51,6 +51,10 @@ shardingSize
     : SHARDING_SIZE EQ_ intValue
     ;
 
+bulkInsertMode
+    : BULK_INSERT_MODE EQ_ STRING_
+    ;
+
 rateLimiter
     : RATE_LIMITER LP_ algorithmDefinition RP_
     ;
@@ -43,6 +43,7 @@ import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatemen
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.AlgorithmDefinitionContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.AlterMigrationRuleContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.BatchSizeContext;
+import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.BulkInsertModeContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.CheckMigrationContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.CommitMigrationContext;
 import org.apache.shardingsphere.distsql.parser.autogen.MigrationDistSQLStatementParser.DropMigrationCheckContext;
@@ -128,7 +129,7 @@ public final class MigrationDistSQLStatementVisitor extends MigrationDistSQLStat
     
     @Override
     public ASTNode visitWriteDefinition(final WriteDefinitionContext ctx) {
-        return new ReadOrWriteSegment(getWorkerThread(ctx.workerThread()), getBatchSize(ctx.batchSize()), getAlgorithmSegment(ctx.rateLimiter()));
+        return new ReadOrWriteSegment(getWorkerThread(ctx.workerThread()), getBatchSize(ctx.batchSize()), getBulkInsertMode(ctx.bulkInsertMode()), getAlgorithmSegment(ctx.rateLimiter()));
     }
     
     private AlgorithmSegment getAlgorithmSegment(final RateLimiterContext ctx) {
@@ -157,6 +158,10 @@ public final class MigrationDistSQLStatementVisitor extends MigrationDistSQLStat
         return null == ctx ? null : Integer.parseInt(ctx.intValue().getText());
     }
     
+    private String getBulkInsertMode(final BulkInsertModeContext ctx) {
+        return null == ctx ? null : getIdentifierValue(ctx.STRING_());
+    }
+    
     @Override
     public ASTNode visitMigrateTable(final MigrateTableContext ctx) {
         String targetDatabaseName = getTargetDatabaseName(ctx.targetTableName());
@@ -80,6 +80,7 @@ public final class JDBCDataRowEnumerator implements Enumerator<Object> {
     @Override
     public void close() {
         try {
+            queryResult.close();
             for (Statement each : statements) {
                 each.close();
             }
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 class SQLParserRuleTest {
@@ -42,6 +43,11 @@ class SQLParserRuleTest {
         assertNotNull(sqlParserRule.getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "SQL92")));
     }
     
+    @Test
+    void assertParseWithAutoParameterizationDisabled() {
+        assertFalse(sqlParserRule.getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "SQL92")).parseWithAutoParameterization("SELECT * FROM t_order WHERE order_id = 1").isPresent());
+    }
+    
     @Test
     void assertFields() {
         assertThat(sqlParserRule.getConfiguration().getParseTreeCache().getInitialCapacity(), is(2));
@@ -52,5 +58,6 @@ class SQLParserRuleTest {
         assertThat(sqlParserRule.getParseTreeCache().getMaximumSize(), is(4L));
         assertThat(sqlParserRule.getSqlStatementCache().getInitialCapacity(), is(3));
         assertThat(sqlParserRule.getSqlStatementCache().getMaximumSize(), is(7L));
+        assertFalse(sqlParserRule.isAutoParameterizationEnabled());
     }
 }
@@ -41,7 +41,7 @@ public final class AlterSQLParserRuleExecutor implements GlobalRuleDefinitionExe
         CacheOption sqlStatementCache = null == sqlStatement.getSqlStatementCache()
                 ? rule.getConfiguration().getSqlStatementCache()
                 : createCacheOption(rule.getConfiguration().getSqlStatementCache(), sqlStatement.getSqlStatementCache());
-        return new SQLParserRuleConfiguration(parseTreeCache, sqlStatementCache);
+        return new SQLParserRuleConfiguration(parseTreeCache, sqlStatementCache, rule.getConfiguration().isAutoParameterizationEnabled());
     }
     
     private CacheOption createCacheOption(final CacheOption cacheOption, final CacheOptionSegment segment) {
@@ -18,12 +18,10 @@
 package org.apache.shardingsphere.distsql.segment;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Read or Write configuration segment.
  */
-@RequiredArgsConstructor
 @Getter
 public final class ReadOrWriteSegment implements DistSQLSegment {
     
@@ -33,12 +31,27 @@ public final class ReadOrWriteSegment implements DistSQLSegment {
     
     private final Integer shardingSize;
     
+    private final String bulkInsertMode;
+    
     private final AlgorithmSegment rateLimiter;
     
+    public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final Integer shardingSize, final AlgorithmSegment rateLimiter) {
+        this.workerThread = workerThread;
+        this.batchSize = batchSize;
+        this.shardingSize = shardingSize;
+        bulkInsertMode = null;
+        this.rateLimiter = rateLimiter;
+    }
+    
     public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final AlgorithmSegment rateLimiter) {
+        this(workerThread, batchSize, (String) null, rateLimiter);
+    }
+    
+    public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final String bulkInsertMode, final AlgorithmSegment rateLimiter) {
         this.workerThread = workerThread;
         this.batchSize = batchSize;
         shardingSize = 10000000;
+        this.bulkInsertMode = bulkInsertMode;
         this.rateLimiter = rateLimiter;
     }
 }
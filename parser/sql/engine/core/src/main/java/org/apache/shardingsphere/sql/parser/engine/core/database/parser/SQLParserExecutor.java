@@ -17,11 +17,12 @@
 
 package org.apache.shardingsphere.sql.parser.engine.core.database.parser;
 
-import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
@@ -33,11 +34,21 @@ import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
 /**
  * SQL parser executor.
  */
-@RequiredArgsConstructor
 public final class SQLParserExecutor {
     
     private final DatabaseType databaseType;
     
+    private final boolean fallbackRecorded;
+    
+    public SQLParserExecutor(final DatabaseType databaseType) {
+        this(databaseType, true);
+    }
+    
+    public SQLParserExecutor(final DatabaseType databaseType, final boolean fallbackRecorded) {
+        this.databaseType = databaseType;
+        this.fallbackRecorded = fallbackRecorded;
+    }
+    
     /**
      * Parse SQL.
      *
@@ -65,10 +76,23 @@ public final class SQLParserExecutor {
             ((Parser) sqlParser).removeErrorListeners();
             ((Parser) sqlParser).addErrorListener(SQLParserErrorListener.getInstance());
             try {
-                return (ParseASTNode) sqlParser.parse();
+                ParseASTNode result = (ParseASTNode) sqlParser.parse();
+                recordFallback(getStatementType((Parser) sqlParser, result.getRootNode()));
+                return result;
             } catch (final ParseCancellationException exception) {
+                recordFallback(SQLParserFallbackStatistics.UNRECOGNIZED_STATEMENT_TYPE);
                 throw new SQLParsingException(sql + ", " + exception.getMessage());
             }
         }
     }
+    
+    private void recordFallback(final String statementType) {
+        if (fallbackRecorded) {
+            SQLParserFallbackStatistics.record(databaseType.getType(), statementType);
+        }
+    }
+    
+    private String getStatementType(final Parser parser, final ParseTree rootNode) {
+        return rootNode instanceof ParserRuleContext ? parser.getRuleNames()[((ParserRuleContext) rootNode).getRuleIndex()] : SQLParserFallbackStatistics.UNRECOGNIZED_STATEMENT_TYPE;
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.parser;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL parser fallback statistics.
+ *
+ * <p>Counts how many SQLs of each database type and statement rule can not be predicted by {@code SLL} mode and have to be parsed again with {@code LL} mode.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParserFallbackStatistics {
+    
+    /**
+     * Statement type for SQLs which still can not be parsed after falling back.
+     */
+    public static final String UNRECOGNIZED_STATEMENT_TYPE = "unrecognized";
+    
+    private static final Map<String, Map<String, LongAdder>> FALLBACK_COUNTS = new ConcurrentHashMap<>();
+    
+    /**
+     * Record fallback.
+     *
+     * @param databaseType database type
+     * @param statementType statement type
+     */
+    public static void record(final String databaseType, final String statementType) {
+        FALLBACK_COUNTS.computeIfAbsent(databaseType, key -> new ConcurrentHashMap<>()).computeIfAbsent(statementType, key -> new LongAdder()).increment();
+    }
+    
+    /**
+     * Get fallback counts.
+     *
+     * @return fallback counts, key is database type, value is fallback counts of each statement type
+     */
+    public static Map<String, Map<String, Long>> getFallbackCounts() {
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>(FALLBACK_COUNTS.size(), 1F);
+        for (Entry<String, Map<String, LongAdder>> entry : FALLBACK_COUNTS.entrySet()) {
+            Map<String, Long> statementTypeCounts = new LinkedHashMap<>(entry.getValue().size(), 1F);
+            entry.getValue().forEach((key, value) -> statementTypeCounts.put(key, value.sum()));
+            result.put(entry.getKey(), statementTypeCounts);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    /**
+     * Reset all fallback counts.
+     */
+    public static void reset() {
+        FALLBACK_COUNTS.clear();
+    }
+}
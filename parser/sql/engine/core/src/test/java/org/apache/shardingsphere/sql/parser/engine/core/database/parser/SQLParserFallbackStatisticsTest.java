@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.parser;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLParserFallbackStatisticsTest {
+    
+    @AfterEach
+    void reset() {
+        SQLParserFallbackStatistics.reset();
+    }
+    
+    @Test
+    void assertRecord() {
+        SQLParserFallbackStatistics.record("FIXTURE", "select");
+        SQLParserFallbackStatistics.record("FIXTURE", "select");
+        SQLParserFallbackStatistics.record("FIXTURE", "insert");
+        Map<String, Map<String, Long>> actual = SQLParserFallbackStatistics.getFallbackCounts();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("FIXTURE").get("select"), is(2L));
+        assertThat(actual.get("FIXTURE").get("insert"), is(1L));
+    }
+    
+    @Test
+    void assertReset() {
+        SQLParserFallbackStatistics.record("FIXTURE", "select");
+        SQLParserFallbackStatistics.reset();
+        assertThat(SQLParserFallbackStatistics.getFallbackCounts().size(), is(0));
+    }
+}
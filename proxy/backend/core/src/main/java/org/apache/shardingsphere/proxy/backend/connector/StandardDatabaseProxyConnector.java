@@ -47,6 +47,7 @@ import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.Statemen
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.stream.IteratorStreamMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
@@ -124,6 +125,10 @@ public final class StandardDatabaseProxyConnector implements DatabaseProxyConnec
     
     private MergedResult mergedResult;
     
+    private QueryResult passThroughQueryResult;
+    
+    private ResultSet passThroughResultSet;
+    
     public StandardDatabaseProxyConnector(final JDBCDriverType driverType, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
         this.driverType = driverType;
         this.queryContext = queryContext;
@@ -284,16 +289,25 @@ public final class StandardDatabaseProxyConnector implements DatabaseProxyConnec
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
             queryHeaders.add(queryHeaderBuilderEngine.build(new JDBCQueryResultMetaData(resultSet.getMetaData()), database, columnIndex));
         }
-        mergedResult = new IteratorStreamMergedResult(Collections.singletonList(new JDBCStreamQueryResult(resultSet)));
+        List<QueryResult> queryResults = Collections.singletonList(new JDBCStreamQueryResult(resultSet));
+        mergedResult = new IteratorStreamMergedResult(queryResults);
+        preparePassThrough(queryResults);
         return new QueryResponseHeader(queryHeaders);
     }
     
     private QueryResponseHeader processExecuteQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(sqlStatementContext, queryResultSample);
         mergedResult = mergeQuery(queryResults);
+        preparePassThrough(queryResults);
         return new QueryResponseHeader(queryHeaders);
     }
     
+    private void preparePassThrough(final List<QueryResult> queryResults) {
+        boolean passThrough = 1 == queryResults.size() && (mergedResult instanceof TransparentMergedResult || mergedResult instanceof IteratorStreamMergedResult);
+        passThroughQueryResult = passThrough ? queryResults.get(0) : null;
+        passThroughResultSet = passThroughQueryResult instanceof JDBCStreamQueryResult ? ((JDBCStreamQueryResult) passThroughQueryResult).getResultSet() : null;
+    }
+    
     private List<QueryHeader> createQueryHeaders(final SQLStatementContext sqlStatementContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(sqlStatementContext, queryResultSample);
         List<QueryHeader> result = new ArrayList<>(columnCount);
@@ -348,6 +362,9 @@ public final class StandardDatabaseProxyConnector implements DatabaseProxyConnec
     
     @Override
     public boolean next() throws SQLException {
+        if (null != passThroughQueryResult) {
+            return passThroughQueryResult.next();
+        }
         return null != mergedResult && mergedResult.next();
     }
     
@@ -355,15 +372,32 @@ public final class StandardDatabaseProxyConnector implements DatabaseProxyConnec
     public QueryResponseRow getRowData() throws SQLException {
         List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
-            Object data = mergedResult.getValue(columnIndex, Object.class);
+            Object data = getValue(columnIndex);
             cells.add(new QueryResponseCell(queryHeaders.get(columnIndex - 1).getColumnType(), data, queryHeaders.get(columnIndex - 1).getColumnTypeName()));
         }
         return new QueryResponseRow(cells);
     }
     
+    @Override
+    public List<Object> getRowValues() throws SQLException {
+        List<Object> result = new ArrayList<>(queryHeaders.size());
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            result.add(getValue(columnIndex));
+        }
+        return result;
+    }
+    
+    private Object getValue(final int columnIndex) throws SQLException {
+        if (null != passThroughResultSet) {
+            return passThroughResultSet.getObject(columnIndex);
+        }
+        return null == passThroughQueryResult ? mergedResult.getValue(columnIndex, Object.class) : passThroughQueryResult.getValue(columnIndex, Object.class);
+    }
+    
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -375,6 +409,20 @@ public final class StandardDatabaseProxyConnector implements DatabaseProxyConnec
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Optional.empty();
+        }
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            return Optional.of(ex);
+        } finally {
+            mergedResult = null;
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
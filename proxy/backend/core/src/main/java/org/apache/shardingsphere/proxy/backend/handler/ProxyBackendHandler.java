@@ -22,6 +22,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Proxy backend handler.
@@ -56,6 +57,18 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Get row values.
+     *
+     * <p>Only values of the row are returned, which saves response cells for protocols which do not need column types of each row.</p>
+     *
+     * @return row values
+     * @throws SQLException SQL exception
+     */
+    default List<Object> getRowValues() throws SQLException {
+        return getRowData().getData();
+    }
+    
     /**
      * Close.
      *
@@ -68,6 +68,7 @@ import java.sql.SQLFeatureNotSupportedException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -91,6 +92,23 @@ public final class ProxyBackendHandlerFactory {
      */
     public static ProxyBackendHandler newInstance(final DatabaseType databaseType, final String sql, final SQLStatement sqlStatement,
                                                   final ConnectionSession connectionSession, final HintValueContext hintValueContext) throws SQLException {
+        return newInstance(databaseType, sql, Collections.emptyList(), sqlStatement, connectionSession, hintValueContext);
+    }
+    
+    /**
+     * Create new instance of backend handler.
+     *
+     * @param databaseType database type
+     * @param sql SQL to be executed
+     * @param params SQL parameters
+     * @param sqlStatement SQL statement
+     * @param connectionSession connection session
+     * @param hintValueContext hint query context
+     * @return created instance
+     * @throws SQLException SQL exception
+     */
+    public static ProxyBackendHandler newInstance(final DatabaseType databaseType, final String sql, final List<Object> params, final SQLStatement sqlStatement,
+                                                  final ConnectionSession connectionSession, final HintValueContext hintValueContext) throws SQLException {
         if (sqlStatement instanceof EmptyStatement) {
             return new SkipProxyBackendHandler(sqlStatement);
         }
@@ -98,7 +116,7 @@ public final class ProxyBackendHandlerFactory {
         SQLStatementContext sqlStatementContext = sqlStatement instanceof DistSQLStatement
                 ? new DistSQLStatementContext((DistSQLStatement) sqlStatement)
                 : new SQLBindEngine(metaData, connectionSession.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement);
-        QueryContext queryContext = new QueryContext(sqlStatementContext, sql, Collections.emptyList(), hintValueContext, connectionSession.getConnectionContext(), metaData);
+        QueryContext queryContext = new QueryContext(sqlStatementContext, sql, params, hintValueContext, connectionSession.getConnectionContext(), metaData);
         return newInstance(databaseType, queryContext, connectionSession, false);
     }
     
@@ -21,6 +21,7 @@ import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.parameterized.AutoParameterizedSQLStatement;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -28,6 +29,8 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatemen
 import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dal.EmptyStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.util.SQLUtils;
 
+import java.util.Optional;
+
 /**
  * Proxy SQL com query parser.
  */
@@ -51,6 +54,30 @@ public final class ProxySQLComQueryParser {
         return rule.getSQLParserEngine(parserDatabaseType).parse(sql, false);
     }
     
+    /**
+     * Parse SQL with literals replaced by parameter markers.
+     *
+     * @param sql SQL to be parsed
+     * @param databaseType database type
+     * @param connectionSession connection session
+     * @return auto parameterized SQL statement, empty if auto parameterization is disabled, parser dialect is not MySQL or SQL can not be parameterized
+     */
+    public static Optional<AutoParameterizedSQLStatement> parseWithAutoParameterization(final String sql, final DatabaseType databaseType, final ConnectionSession connectionSession) {
+        if (SQLUtils.trimComment(sql).isEmpty()) {
+            return Optional.empty();
+        }
+        SQLParserRule rule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        if (!rule.isAutoParameterizationEnabled()) {
+            return Optional.empty();
+        }
+        DatabaseType parserDatabaseType = getParserDatabaseType(databaseType, connectionSession);
+        return isMySQLDialect(parserDatabaseType) ? rule.getSQLParserEngine(parserDatabaseType).parseWithAutoParameterization(sql) : Optional.empty();
+    }
+    
+    private static boolean isMySQLDialect(final DatabaseType databaseType) {
+        return "MySQL".equals(databaseType.getTrunkDatabaseType().orElse(databaseType).getType());
+    }
+    
     private static DatabaseType getParserDatabaseType(final DatabaseType defaultDatabaseType, final ConnectionSession connectionSession) {
         String databaseName = connectionSession.getUsedDatabaseName();
         return Strings.isNullOrEmpty(databaseName) || !ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().containsDatabase(databaseName)
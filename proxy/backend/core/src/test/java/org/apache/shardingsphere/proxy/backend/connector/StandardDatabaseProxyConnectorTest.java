@@ -22,12 +22,20 @@ import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoa
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.IteratorStreamMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
@@ -49,6 +57,7 @@ import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.fixture.QueryHeaderBuilderFixture;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilder;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -61,6 +70,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
+import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -71,6 +81,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -83,12 +94,19 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @ExtendWith(AutoMockExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -167,6 +185,79 @@ class StandardDatabaseProxyConnectorTest {
         }
     }
     
+    @Test
+    void assertExecuteWithPassThroughSingleQueryResult() throws SQLException {
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getObject(1)).thenReturn(1);
+        QueryResult queryResult = new JDBCStreamQueryResult(resultSet);
+        MergedResult mergedResult = spy(new IteratorStreamMergedResult(Collections.singletonList(queryResult)));
+        DatabaseProxyConnector engine = executeQuery(Collections.singletonList(queryResult), mergedResult);
+        assertTrue(engine.next());
+        assertThat(engine.getRowValues(), is(Collections.<Object>singletonList(1)));
+        assertThat(engine.getRowData().getData(), is(Collections.<Object>singletonList(1)));
+        assertFalse(engine.next());
+        verify(mergedResult, never()).next();
+        verify(mergedResult, never()).getValue(1, Object.class);
+    }
+    
+    @Test
+    void assertExecuteWithDecoratedMergedResult() throws SQLException {
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getObject(1)).thenReturn("cipher_value");
+        MergedResult decoratedMergedResult = mock(MergedResult.class);
+        when(decoratedMergedResult.next()).thenReturn(true, false);
+        when(decoratedMergedResult.getValue(1, Object.class)).thenReturn("plain_value");
+        DatabaseProxyConnector engine = executeQuery(Collections.singletonList(new JDBCStreamQueryResult(resultSet)), decoratedMergedResult);
+        assertTrue(engine.next());
+        assertThat(engine.getRowValues(), is(Collections.<Object>singletonList("plain_value")));
+        assertFalse(engine.next());
+        verify(resultSet, never()).getObject(1);
+    }
+    
+    @Test
+    void assertExecuteWithMultipleQueryResults() throws SQLException {
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getObject(1)).thenReturn(1);
+        ResultSet anotherResultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(anotherResultSet.next()).thenReturn(true, false);
+        when(anotherResultSet.getObject(1)).thenReturn(2);
+        List<QueryResult> queryResults = Arrays.asList(new JDBCStreamQueryResult(resultSet), new JDBCStreamQueryResult(anotherResultSet));
+        MergedResult mergedResult = spy(new IteratorStreamMergedResult(queryResults));
+        DatabaseProxyConnector engine = executeQuery(queryResults, mergedResult);
+        assertTrue(engine.next());
+        assertThat(engine.getRowValues(), is(Collections.<Object>singletonList(1)));
+        assertTrue(engine.next());
+        assertThat(engine.getRowValues(), is(Collections.<Object>singletonList(2)));
+        assertFalse(engine.next());
+        verify(mergedResult, times(3)).next();
+    }
+    
+    private SQLStatementContext mockQuerySQLStatementContext() {
+        SQLStatementContext result = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getTablesContext().getDatabaseNames()).thenReturn(Collections.emptyList());
+        when(result.getSqlStatement().getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        return result;
+    }
+    
+    private DatabaseProxyConnector executeQuery(final List<QueryResult> queryResults, final MergedResult mergedResult) throws SQLException {
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(1);
+        ExecutionContext executionContext = mock(ExecutionContext.class, RETURNS_DEEP_STUBS);
+        when(executionContext.getExecutionUnits()).thenReturn(Collections.singleton(mock(ExecutionUnit.class)));
+        List<ExecuteResult> executeResults = new ArrayList<>(queryResults);
+        try (
+                MockedConstruction<ProxySQLExecutor> ignoredProxySQLExecutor = mockConstruction(ProxySQLExecutor.class, withSettings().defaultAnswer(RETURNS_DEEP_STUBS),
+                        (mock, context) -> when(mock.execute(executionContext)).thenReturn(executeResults));
+                MockedConstruction<KernelProcessor> ignoredKernelProcessor = mockConstruction(KernelProcessor.class,
+                        (mock, context) -> when(mock.generateExecutionContext(any(), any(), any())).thenReturn(executionContext));
+                MockedConstruction<MergeEngine> ignoredMergeEngine = mockConstruction(MergeEngine.class, (mock, context) -> when(mock.merge(any(), any())).thenReturn(mergedResult));
+                MockedConstruction<QueryHeaderBuilderEngine> ignoredQueryHeaderBuilderEngine = mockConstruction(QueryHeaderBuilderEngine.class,
+                        (mock, context) -> when(mock.build(any(QueryResultMetaData.class), any(), anyInt())).thenReturn(mock(QueryHeader.class)))) {
+            DatabaseProxyConnector result = createDatabaseProxyConnector(JDBCDriverType.STATEMENT, createQueryContext(mockQuerySQLStatementContext()));
+            result.execute();
+            return result;
+        }
+    }
+    
     private DatabaseProxyConnector createDatabaseProxyConnector(final JDBCDriverType driverType, final QueryContext queryContext) {
         DatabaseProxyConnector result = new StandardDatabaseProxyConnector(driverType, queryContext, databaseConnectionManager);
         databaseConnectionManager.add(result);
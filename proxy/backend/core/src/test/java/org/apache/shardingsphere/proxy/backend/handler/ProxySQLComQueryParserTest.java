@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.parameterized.AutoParameterizedSQLStatement;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+class ProxySQLComQueryParserTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = 1";
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private SQLParserEngine sqlParserEngine;
+    
+    @Test
+    void assertParseWithAutoParameterizationWhenDisabled() {
+        SQLParserRule rule = mockSQLParserRule(false);
+        assertFalse(ProxySQLComQueryParser.parseWithAutoParameterization(SQL, TypedSPILoader.getService(DatabaseType.class, "MySQL"), connectionSession).isPresent());
+        verify(rule, never()).getSQLParserEngine(any());
+    }
+    
+    @Test
+    void assertParseWithAutoParameterizationWithMySQLDialect() {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        SQLParserRule rule = mockSQLParserRule(true);
+        when(rule.getSQLParserEngine(databaseType)).thenReturn(sqlParserEngine);
+        AutoParameterizedSQLStatement expected = new AutoParameterizedSQLStatement("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(1L), mock(SQLStatement.class));
+        when(sqlParserEngine.parseWithAutoParameterization(SQL)).thenReturn(Optional.of(expected));
+        assertThat(ProxySQLComQueryParser.parseWithAutoParameterization(SQL, databaseType, connectionSession), is(Optional.of(expected)));
+    }
+    
+    @Test
+    void assertParseWithAutoParameterizationWithOtherDialectStorage() {
+        SQLParserRule rule = mockSQLParserRule(true);
+        when(connectionSession.getUsedDatabaseName()).thenReturn("foo_db");
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().containsDatabase("foo_db")).thenReturn(true);
+        when(ProxyContext.getInstance().getContextManager().getDatabase("foo_db").getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
+        assertFalse(ProxySQLComQueryParser.parseWithAutoParameterization(SQL, TypedSPILoader.getService(DatabaseType.class, "MySQL"), connectionSession).isPresent());
+        verify(rule, never()).getSQLParserEngine(any());
+    }
+    
+    private SQLParserRule mockSQLParserRule(final boolean autoParameterizationEnabled) {
+        SQLParserRule result = mock(SQLParserRule.class);
+        when(result.isAutoParameterizationEnabled()).thenReturn(autoParameterizationEnabled);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData()).thenReturn(new RuleMetaData(Collections.singleton(result)));
+        return result;
+    }
+}
@@ -52,7 +52,7 @@ class ShowDistVariablesExecutorTest {
         executor.setConnectionContext(new DistSQLConnectionContext(mock(QueryContext.class), 1,
                 mock(DatabaseType.class), mock(DatabaseConnectionManager.class), mock(ExecutorStatementManager.class)));
         Collection<LocalDataQueryResultRow> actual = executor.getRows(mock(ShowDistVariablesStatement.class), contextManager);
-        assertThat(actual.size(), is(22));
+        assertThat(actual.size(), is(31));
         LocalDataQueryResultRow row = actual.iterator().next();
         assertThat(row.getCell(1), is("agent_plugins_enabled"));
         assertThat(row.getCell(2), is("false"));
@@ -76,10 +76,10 @@ class ShowDistVariablesExecutorTest {
         ShowDistVariablesExecutor executor = new ShowDistVariablesExecutor();
         ShowDistVariablesStatement sqlStatement = new ShowDistVariablesStatement(true, null);
         Collection<LocalDataQueryResultRow> actual = executor.getRows(sqlStatement, contextManager);
-        assertThat(actual.size(), is(3));
+        assertThat(actual.size(), is(5));
         LocalDataQueryResultRow row = actual.iterator().next();
-        assertThat(row.getCell(1), is("proxy_meta_data_collector_cron"));
-        assertThat(row.getCell(2), is("0 0/1 * * * ?"));
+        assertThat(row.getCell(1), is("pipeline_mysql_binlog_rows_decode_worker_count"));
+        assertThat(row.getCell(2), is("0"));
     }
     
     @Test
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.initializer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.frontend.protocol.FrontDatabaseProtocolTypeFactory;
+import org.apache.shardingsphere.sql.parser.engine.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.engine.exception.SQLParsingException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * SQL parser warm-up initializer.
+ *
+ * <p>Replays the configured SQL file into SQL parsers of each dialect, so that ANTLR prediction caches shared by parser instances are filled before serving traffic.
+ * Fallbacks during warm-up are not counted into SQL parser fallback statistics.</p>
+ */
+@Slf4j
+public final class SQLParserWarmUpInitializer {
+    
+    /**
+     * Initialize.
+     *
+     * @param contextManager context manager
+     */
+    public void init(final ContextManager contextManager) {
+        String warmUpFile = contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_FILE);
+        if (warmUpFile.trim().isEmpty()) {
+            return;
+        }
+        Collection<String> sqls;
+        try {
+            sqls = loadSQLs(warmUpFile.trim());
+        } catch (final IOException ex) {
+            log.warn("Can not load SQL parser warm-up file `{}`, skip warm-up.", warmUpFile, ex);
+            return;
+        }
+        for (DatabaseType each : getDatabaseTypes(contextManager)) {
+            long startTimeMillis = System.currentTimeMillis();
+            int parsedCount = warmUp(each, sqls);
+            log.info("SQL parser warm-up of `{}` finished, {} of {} SQLs parsed in {} ms.", each.getType(), parsedCount, sqls.size(), System.currentTimeMillis() - startTimeMillis);
+        }
+    }
+    
+    private Collection<String> loadSQLs(final String warmUpFile) throws IOException {
+        Collection<String> result = new LinkedList<>();
+        for (String each : Files.readAllLines(Paths.get(warmUpFile), StandardCharsets.UTF_8)) {
+            if (!each.trim().isEmpty()) {
+                result.add(each.trim());
+            }
+        }
+        return result;
+    }
+    
+    private Collection<DatabaseType> getDatabaseTypes(final ContextManager contextManager) {
+        Map<String, DatabaseType> result = new LinkedHashMap<>();
+        DatabaseType frontendDatabaseType = FrontDatabaseProtocolTypeFactory.getDatabaseType();
+        result.put(frontendDatabaseType.getType(), frontendDatabaseType);
+        for (ShardingSphereDatabase each : contextManager.getMetaDataContexts().getMetaData().getAllDatabases()) {
+            result.putIfAbsent(each.getProtocolType().getType(), each.getProtocolType());
+        }
+        return result.values();
+    }
+    
+    /**
+     * Warm up SQL parser.
+     *
+     * @param databaseType database type
+     * @param sqls SQLs to be parsed
+     * @return parsed SQL count
+     */
+    public int warmUp(final DatabaseType databaseType, final Collection<String> sqls) {
+        SQLParserExecutor sqlParserExecutor = new SQLParserExecutor(databaseType, false);
+        int result = 0;
+        for (String each : sqls) {
+            try {
+                sqlParserExecutor.parse(each);
+                result++;
+            } catch (final SQLParsingException ex) {
+                log.debug("Skip SQL which can not be parsed by `{}` during SQL parser warm-up: {}", databaseType.getType(), each, ex);
+            }
+        }
+        return result;
+    }
+}
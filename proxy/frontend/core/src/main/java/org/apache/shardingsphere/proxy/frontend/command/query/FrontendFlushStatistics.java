@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command.query;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Frontend flush statistics.
+ *
+ * <p>Counts flushes, flushed rows and encoded bytes of query rows written in {@code ADAPTIVE} flush mode, so that bytes and rows per flush can be observed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FrontendFlushStatistics {
+    
+    private static final LongAdder FLUSH_COUNT = new LongAdder();
+    
+    private static final LongAdder FLUSHED_ROWS = new LongAdder();
+    
+    private static final LongAdder ENCODED_BYTES = new LongAdder();
+    
+    /**
+     * Record flush.
+     *
+     * @param rows flushed rows
+     */
+    public static void recordFlush(final int rows) {
+        FLUSH_COUNT.increment();
+        FLUSHED_ROWS.add(rows);
+    }
+    
+    /**
+     * Record encoded bytes.
+     *
+     * @param bytes encoded bytes
+     */
+    public static void recordEncodedBytes(final int bytes) {
+        ENCODED_BYTES.add(bytes);
+    }
+    
+    /**
+     * Get flush count.
+     *
+     * @return flush count
+     */
+    public static long getFlushCount() {
+        return FLUSH_COUNT.sum();
+    }
+    
+    /**
+     * Get flushed rows.
+     *
+     * @return flushed rows
+     */
+    public static long getFlushedRows() {
+        return FLUSHED_ROWS.sum();
+    }
+    
+    /**
+     * Get encoded bytes.
+     *
+     * @return encoded bytes
+     */
+    public static long getEncodedBytes() {
+        return ENCODED_BYTES.sum();
+    }
+    
+    /**
+     * Reset all statistics.
+     */
+    public static void reset() {
+        FLUSH_COUNT.reset();
+        FLUSHED_ROWS.reset();
+        ENCODED_BYTES.reset();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command.query;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacketBatch;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.FrontendFlushMode;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionResourceLock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Query row packet writer.
+ *
+ * <p>In {@code COUNT} flush mode, every row packet is written alone and the channel is flushed each {@code proxy-frontend-flush-threshold} rows.
+ * In {@code ADAPTIVE} flush mode, row packets are coalesced into batches which are encoded into one pooled buffer each, the rows of a batch follow the encoded bytes of previous batches,
+ * and the channel is flushed once written bytes reach {@code proxy-frontend-flush-bytes-threshold} or the channel becomes unwritable.</p>
+ */
+public final class QueryRowPacketWriter {
+    
+    private static final int MAX_BATCH_BYTES = 64 * 1024;
+    
+    private static final int MAX_BATCH_ROWS = 4096;
+    
+    private static final int INITIAL_ROW_BYTES = 128;
+    
+    private final ChannelHandlerContext context;
+    
+    private final ConnectionResourceLock connectionResourceLock;
+    
+    private final FrontendFlushMode flushMode;
+    
+    private final int flushThreshold;
+    
+    private final int flushBytesThreshold;
+    
+    private final int batchBytes;
+    
+    private volatile int averageRowBytes = INITIAL_ROW_BYTES;
+    
+    private List<DatabasePacket> batch = new ArrayList<>();
+    
+    private int unflushedRows;
+    
+    private long unflushedBytes;
+    
+    public QueryRowPacketWriter(final ChannelHandlerContext context, final ConnectionResourceLock connectionResourceLock, final ConfigurationProperties props) {
+        this.context = context;
+        this.connectionResourceLock = connectionResourceLock;
+        flushMode = props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_MODE);
+        flushThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        flushBytesThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD);
+        batchBytes = Math.max(1, Math.min(MAX_BATCH_BYTES, flushBytesThreshold));
+    }
+    
+    /**
+     * Write query row packet.
+     *
+     * @param rowPacket query row packet
+     */
+    public void write(final DatabasePacket rowPacket) {
+        connectionResourceLock.doAwait(context);
+        unflushedRows++;
+        if (FrontendFlushMode.COUNT == flushMode) {
+            context.write(rowPacket);
+            if (flushThreshold == unflushedRows) {
+                context.flush();
+                unflushedRows = 0;
+            }
+            return;
+        }
+        batch.add(rowPacket);
+        if (batch.size() < getBatchRows()) {
+            return;
+        }
+        writeBatch();
+        if (unflushedBytes >= flushBytesThreshold || !context.channel().isWritable()) {
+            context.flush();
+            FrontendFlushStatistics.recordFlush(unflushedRows);
+            unflushedRows = 0;
+            unflushedBytes = 0L;
+        }
+    }
+    
+    private int getBatchRows() {
+        return Math.max(1, Math.min(MAX_BATCH_ROWS, batchBytes / averageRowBytes));
+    }
+    
+    private void writeBatch() {
+        int rows = batch.size();
+        int estimatedBytes = rows * averageRowBytes;
+        context.write(new DatabasePacketBatch(batch, estimatedBytes, encodedBytes -> onBatchEncoded(rows, encodedBytes)));
+        unflushedBytes += estimatedBytes;
+        batch = new ArrayList<>(getBatchRows());
+    }
+    
+    private void onBatchEncoded(final int rows, final int encodedBytes) {
+        averageRowBytes = Math.max(1, encodedBytes / rows);
+        FrontendFlushStatistics.recordEncodedBytes(encodedBytes);
+    }
+    
+    /**
+     * Write remaining query row packets.
+     *
+     * <p>Remaining row packets are flushed together with the end packets of the query by command executor task.</p>
+     */
+    public void finish() {
+        if (FrontendFlushMode.ADAPTIVE != flushMode || 0 == unflushedRows) {
+            return;
+        }
+        if (!batch.isEmpty()) {
+            writeBatch();
+        }
+        FrontendFlushStatistics.recordFlush(unflushedRows);
+        unflushedRows = 0;
+        unflushedBytes = 0L;
+    }
+}
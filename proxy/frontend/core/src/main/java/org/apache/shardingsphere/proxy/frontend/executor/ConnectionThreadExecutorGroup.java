@@ -19,13 +19,17 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Connection thread executor group.
@@ -33,15 +37,21 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensures XA transaction framework processed by current thread id.
+ * With virtual thread type, the thread of each connection is a virtual thread which lives as long as the connection, so idle connections do not occupy OS threads.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class ConnectionThreadExecutorGroup {
     
     private static final ConnectionThreadExecutorGroup INSTANCE = new ConnectionThreadExecutorGroup();
     
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+    
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private final AtomicBoolean virtualThreadUnsupportedWarned = new AtomicBoolean();
+    
     /**
      * Get connection thread executor group.
      *
@@ -57,13 +67,50 @@ public final class ConnectionThreadExecutorGroup {
      * @param connectionId connection id
      */
     public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+        register(connectionId, ExecutorThreadType.PLATFORM);
+    }
+    
+    /**
+     * Register connection.
+     *
+     * @param connectionId connection id
+     * @param threadType thread type, fall back to platform thread if virtual thread is not supported by current JDK
+     */
+    public void register(final int connectionId, final ExecutorThreadType threadType) {
+        executorServices.put(connectionId, ExecutorThreadType.VIRTUAL == threadType && isVirtualThreadSupported()
+                ? newVirtualThreadExecutorService(connectionId)
+                : newSingleThreadExecutorService(connectionId));
+    }
+    
+    private boolean isVirtualThreadSupported() {
+        if (null == VIRTUAL_THREAD_FACTORY && virtualThreadUnsupportedWarned.compareAndSet(false, true)) {
+            log.warn("Virtual thread is not supported by current JDK, use platform thread for connections instead.");
+        }
+        return null != VIRTUAL_THREAD_FACTORY;
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
         return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
     }
     
+    private ExecutorService newVirtualThreadExecutorService(final int connectionId) {
+        VirtualThreadPinnedMonitor.start();
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread result = VIRTUAL_THREAD_FACTORY.newThread(runnable);
+            result.setName(String.format("Connection-%d-VirtualThreadExecutor", connectionId));
+            return result;
+        });
+    }
+    
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (final ReflectiveOperationException ignored) {
+            return null;
+        }
+    }
+    
     /**
      * Get executor service of connection.
      *
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Virtual thread pinned monitor.
+ *
+ * <p>Streams {@code jdk.VirtualThreadPinned} events of JFR and reports virtual threads which pin their carrier threads, such as blocking inside synchronized blocks of backend drivers.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class VirtualThreadPinnedMonitor {
+    
+    private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+    
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20L);
+    
+    private static final AtomicBoolean STARTED = new AtomicBoolean();
+    
+    /**
+     * Start monitor, only the first invocation takes effect.
+     */
+    public static void start() {
+        if (!STARTED.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Class<?> recordingStreamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+            Class<?> eventSettingsClass = Class.forName("jdk.jfr.EventSettings");
+            Object recordingStream = recordingStreamClass.getConstructor().newInstance();
+            Object eventSettings = recordingStreamClass.getMethod("enable", String.class).invoke(recordingStream, PINNED_EVENT_NAME);
+            eventSettingsClass.getMethod("withThreshold", Duration.class).invoke(eventSettings, PINNED_THRESHOLD);
+            eventSettingsClass.getMethod("withStackTrace").invoke(eventSettings);
+            Consumer<Object> pinnedEventConsumer = VirtualThreadPinnedMonitor::report;
+            recordingStreamClass.getMethod("onEvent", String.class, Consumer.class).invoke(recordingStream, PINNED_EVENT_NAME, pinnedEventConsumer);
+            recordingStreamClass.getMethod("startAsync").invoke(recordingStream);
+        } catch (final ReflectiveOperationException ignored) {
+            log.warn("JFR event streaming is not supported by current JDK, carrier thread pinning of virtual threads will not be reported.");
+        }
+    }
+    
+    private static void report(final Object pinnedEvent) {
+        log.warn("Virtual thread pinned its carrier thread longer than {} ms, synchronized blocks on this path reduce connection concurrency: {}", PINNED_THRESHOLD.toMillis(), pinnedEvent);
+    }
+}
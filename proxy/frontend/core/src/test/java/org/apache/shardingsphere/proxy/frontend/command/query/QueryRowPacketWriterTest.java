@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command.query;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacketBatch;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionResourceLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QueryRowPacketWriterTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private ConnectionResourceLock connectionResourceLock;
+    
+    @AfterEach
+    void reset() {
+        FrontendFlushStatistics.reset();
+    }
+    
+    @Test
+    void assertWriteWithCountFlushMode() {
+        QueryRowPacketWriter writer = new QueryRowPacketWriter(context, connectionResourceLock,
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "2"))));
+        DatabasePacket rowPacket = mock(DatabasePacket.class);
+        for (int i = 0; i < 3; i++) {
+            writer.write(rowPacket);
+        }
+        writer.finish();
+        verify(connectionResourceLock, times(3)).doAwait(context);
+        verify(context, times(3)).write(rowPacket);
+        verify(context).flush();
+        assertThat(FrontendFlushStatistics.getFlushCount(), is(0L));
+    }
+    
+    @Test
+    void assertWriteWithAdaptiveFlushMode() {
+        QueryRowPacketWriter writer = new QueryRowPacketWriter(context, connectionResourceLock, new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_MODE.getKey(), "adaptive"), new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), "256"))));
+        DatabasePacket rowPacket = mock(DatabasePacket.class);
+        writer.write(rowPacket);
+        writer.write(rowPacket);
+        ArgumentCaptor<DatabasePacketBatch> batchCaptor = ArgumentCaptor.forClass(DatabasePacketBatch.class);
+        verify(context).write(batchCaptor.capture());
+        verify(context).flush();
+        DatabasePacketBatch firstBatch = batchCaptor.getValue();
+        assertThat(firstBatch.getPackets().size(), is(2));
+        assertThat(firstBatch.getEstimatedBytes(), is(256));
+        firstBatch.getEncodedBytesConsumer().accept(64);
+        for (int i = 0; i < 7; i++) {
+            writer.write(rowPacket);
+        }
+        verify(context).write(isA(DatabasePacketBatch.class));
+        writer.finish();
+        verify(context, times(2)).write(batchCaptor.capture());
+        List<DatabasePacketBatch> batches = batchCaptor.getAllValues();
+        assertThat(batches.get(batches.size() - 1).getPackets().size(), is(7));
+        assertThat(batches.get(batches.size() - 1).getEstimatedBytes(), is(224));
+        verify(context).flush();
+        assertThat(FrontendFlushStatistics.getFlushCount(), is(2L));
+        assertThat(FrontendFlushStatistics.getFlushedRows(), is(9L));
+        assertThat(FrontendFlushStatistics.getEncodedBytes(), is(64L));
+    }
+}
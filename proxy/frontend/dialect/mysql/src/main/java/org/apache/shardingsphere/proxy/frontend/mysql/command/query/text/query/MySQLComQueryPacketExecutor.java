@@ -25,6 +25,7 @@ import org.apache.shardingsphere.database.protocol.mysql.packet.command.admin.My
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.parser.sql.parameterized.AutoParameterizedSQLStatement;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
@@ -47,6 +48,7 @@ import org.apache.shardingsphere.sql.parser.statement.core.util.MultiSQLSplitter
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Optional;
 
 /**
  * COM_QUERY command packet executor for MySQL.
@@ -65,11 +67,20 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         this.connectionSession = connectionSession;
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        proxyBackendHandler = createProxyBackendHandler(packet, databaseType, connectionSession);
+        characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+    }
+    
+    private ProxyBackendHandler createProxyBackendHandler(final MySQLComQueryPacket packet, final DatabaseType databaseType, final ConnectionSession connectionSession) throws SQLException {
+        Optional<AutoParameterizedSQLStatement> autoParameterizedSQLStatement = ProxySQLComQueryParser.parseWithAutoParameterization(packet.getSQL(), databaseType, connectionSession);
+        if (autoParameterizedSQLStatement.isPresent()) {
+            return ProxyBackendHandlerFactory.newInstance(databaseType, autoParameterizedSQLStatement.get().getSql(), autoParameterizedSQLStatement.get().getParameters(),
+                    autoParameterizedSQLStatement.get().getSqlStatement(), connectionSession, packet.getHintValueContext());
+        }
         SQLStatement sqlStatement = ProxySQLComQueryParser.parse(packet.getSQL(), databaseType, connectionSession);
-        proxyBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSQL())
+        return areMultiStatements(connectionSession, sqlStatement, packet.getSQL())
                 ? new MySQLMultiStatementsProxyBackendHandler(connectionSession, sqlStatement, packet.getSQL())
                 : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSQL(), sqlStatement, connectionSession, packet.getHintValueContext());
-        characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
     }
     
     private boolean areMultiStatements(final ConnectionSession connectionSession, final SQLStatement sqlStatement, final String sql) {
@@ -130,7 +141,7 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowData().getData());
+        return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowValues());
     }
     
     @Override
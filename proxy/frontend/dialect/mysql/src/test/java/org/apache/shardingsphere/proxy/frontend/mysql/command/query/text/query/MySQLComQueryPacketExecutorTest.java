@@ -35,10 +35,12 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.MultiStatementsUpdateResponseHeader;
@@ -46,6 +48,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResp
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
 import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
@@ -55,6 +58,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.plugins.MemberAccessor;
@@ -73,8 +77,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.isA;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -160,11 +169,32 @@ class MySQLComQueryPacketExecutorTest {
         assertThat(iterator.next(), isA(MySQLOKPacket.class));
     }
     
+    @Test
+    void assertNewInstanceWithAutoParameterizedSQL() throws SQLException {
+        when(connectionSession.getCurrentDatabaseName()).thenReturn("foo_db");
+        when(packet.getSQL()).thenReturn("SELECT * FROM t WHERE id = 1");
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        SQLParserRuleConfiguration sqlParserRuleConfig = new DefaultSQLParserRuleConfigurationBuilder().build();
+        MetaDataContexts metaDataContexts = mockMetaDataContexts(new SQLParserRuleConfiguration(sqlParserRuleConfig.getParseTreeCache(), sqlParserRuleConfig.getSqlStatementCache(), true));
+        when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        try (MockedStatic<ProxyBackendHandlerFactory> proxyBackendHandlerFactory = mockStatic(ProxyBackendHandlerFactory.class)) {
+            proxyBackendHandlerFactory.when(() -> ProxyBackendHandlerFactory.newInstance(any(), anyString(), anyList(), any(), any(), any())).thenReturn(proxyBackendHandler);
+            new MySQLComQueryPacketExecutor(packet, connectionSession);
+            proxyBackendHandlerFactory.verify(() -> ProxyBackendHandlerFactory.newInstance(
+                    eq(databaseType), eq("SELECT * FROM t WHERE id = ?"), eq(Collections.<Object>singletonList(1L)), any(SelectStatement.class), eq(connectionSession), any()));
+        }
+    }
+    
     private MetaDataContexts mockMetaDataContexts() {
+        return mockMetaDataContexts(new DefaultSQLParserRuleConfigurationBuilder().build());
+    }
+    
+    private MetaDataContexts mockMetaDataContexts(final SQLParserRuleConfiguration sqlParserRuleConfig) {
         MetaDataContexts result = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);
         when(result.getMetaData().getDatabase("foo_db").getProtocolType()).thenReturn(databaseType);
         RuleMetaData globalRuleMetaData = new RuleMetaData(
-                Arrays.asList(new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()), new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build())));
+                Arrays.asList(new SQLParserRule(sqlParserRuleConfig), new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build())));
         when(result.getMetaData().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
         Properties props = new Properties();
         props.setProperty(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "1");
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Benchmark sharding environment.
+ *
+ * <p>Shards {@code t_order} over {@code ds_0 .. ds_(N-1)} in-memory H2 databases with {@code user_id % N} and {@code t_order_0 .. t_order_(M-1)} tables with {@code order_id % M}.</p>
+ */
+@Getter
+public final class BenchmarkShardingEnvironment implements AutoCloseable {
+    
+    public static final String DATABASE_NAME = "benchmark_db";
+    
+    private final int dataSourceCount;
+    
+    private final int tableCount;
+    
+    private final Map<String, DataSource> dataSourceMap;
+    
+    private final ShardingSphereDataSource dataSource;
+    
+    private final ContextManager contextManager;
+    
+    public BenchmarkShardingEnvironment(final int dataSourceCount, final int tableCount, final int rowsPerTable) throws SQLException {
+        this.dataSourceCount = dataSourceCount;
+        this.tableCount = tableCount;
+        dataSourceMap = createDataSourceMap();
+        initActualTables(rowsPerTable);
+        dataSource = new ShardingSphereDataSource(DATABASE_NAME, null, dataSourceMap, Collections.singleton(createShardingRuleConfiguration()), new Properties());
+        try (Connection connection = dataSource.getConnection()) {
+            contextManager = connection.unwrap(ShardingSphereConnection.class).getContextManager();
+        }
+    }
+    
+    private Map<String, DataSource> createDataSourceMap() {
+        Map<String, DataSource> result = new LinkedHashMap<>(dataSourceCount, 1F);
+        for (int i = 0; i < dataSourceCount; i++) {
+            result.put("ds_" + i, createDataSource("benchmark_ds_" + i));
+        }
+        return result;
+    }
+    
+    private DataSource createDataSource(final String name) {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", name));
+        result.setUsername("sa");
+        result.setPassword("");
+        result.setMaximumPoolSize(64);
+        result.setMinimumIdle(4);
+        return result;
+    }
+    
+    private void initActualTables(final int rowsPerTable) throws SQLException {
+        int dataSourceIndex = 0;
+        for (DataSource each : dataSourceMap.values()) {
+            try (Connection connection = each.getConnection()) {
+                for (int tableIndex = 0; tableIndex < tableCount; tableIndex++) {
+                    initActualTable(connection, dataSourceIndex, tableIndex, rowsPerTable);
+                }
+            }
+            dataSourceIndex++;
+        }
+    }
+    
+    private void initActualTable(final Connection connection, final int dataSourceIndex, final int tableIndex, final int rowsPerTable) throws SQLException {
+        String tableName = "t_order_" + tableIndex;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format("DROP TABLE IF EXISTS %s", tableName));
+            statement.execute(String.format("CREATE TABLE %s (order_id BIGINT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(45), amount DECIMAL(10, 2))", tableName));
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (order_id, user_id, status, amount) VALUES (?, ?, ?, ?)", tableName))) {
+            for (int i = 0; i < rowsPerTable; i++) {
+                preparedStatement.setLong(1, (long) i * tableCount + tableIndex);
+                preparedStatement.setInt(2, i * dataSourceCount + dataSourceIndex);
+                preparedStatement.setString(3, 0 == i % 2 ? "OK" : "INIT");
+                preparedStatement.setBigDecimal(4, BigDecimal.valueOf(i % 1000, 2));
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("t_order", String.format("ds_${0..%d}.t_order_${0..%d}", dataSourceCount - 1, tableCount - 1));
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "table_inline"));
+        result.getTables().add(tableRuleConfig);
+        result.getShardingAlgorithms().put("database_inline", createInlineAlgorithmConfiguration(String.format("ds_${user_id %% %d}", dataSourceCount)));
+        result.getShardingAlgorithms().put("table_inline", createInlineAlgorithmConfiguration(String.format("t_order_${order_id %% %d}", tableCount)));
+        return result;
+    }
+    
+    private AlgorithmConfiguration createInlineAlgorithmConfiguration(final String algorithmExpression) {
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", algorithmExpression);
+        props.setProperty("allow-range-query-with-inline-sharding", Boolean.TRUE.toString());
+        return new AlgorithmConfiguration("INLINE", props);
+    }
+    
+    /**
+     * Get meta data.
+     *
+     * @return meta data
+     */
+    public ShardingSphereMetaData getMetaData() {
+        return contextManager.getMetaDataContexts().getMetaData();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        dataSource.close();
+    }
+}
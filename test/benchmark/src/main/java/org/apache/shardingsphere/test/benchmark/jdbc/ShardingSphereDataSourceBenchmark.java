@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.jdbc;
+
+import org.apache.shardingsphere.test.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ShardingSphere data source benchmark, executes SQL end to end through ShardingSphere-JDBC against in-memory H2 shards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseG1GC")
+@Threads(4)
+public class ShardingSphereDataSourceBenchmark {
+    
+    /**
+     * Environment state shared by all benchmark threads.
+     */
+    @State(Scope.Benchmark)
+    public static class EnvironmentState {
+        
+        @Param("2")
+        private int dataSourceCount;
+        
+        @Param("4")
+        private int tableCount;
+        
+        @Param("10000")
+        private int rowsPerTable;
+        
+        private BenchmarkShardingEnvironment environment;
+        
+        /**
+         * Set up.
+         *
+         * @throws SQLException SQL exception
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws SQLException {
+            environment = new BenchmarkShardingEnvironment(dataSourceCount, tableCount, rowsPerTable);
+        }
+        
+        /**
+         * Tear down.
+         *
+         * @throws SQLException SQL exception
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            environment.close();
+        }
+    }
+    
+    /**
+     * Connection state owned by one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class ConnectionState {
+        
+        private Connection connection;
+        
+        private PreparedStatement pointSelectStatement;
+        
+        private PreparedStatement rangeSelectStatement;
+        
+        private PreparedStatement aggregationSelectStatement;
+        
+        private int maxOrderId;
+        
+        /**
+         * Set up.
+         *
+         * @param environmentState environment state
+         * @throws SQLException SQL exception
+         */
+        @Setup(Level.Trial)
+        public void setUp(final EnvironmentState environmentState) throws SQLException {
+            connection = environmentState.environment.getDataSource().getConnection();
+            pointSelectStatement = connection.prepareStatement("SELECT order_id, user_id, status, amount FROM t_order WHERE user_id = ? AND order_id = ?");
+            rangeSelectStatement = connection.prepareStatement("SELECT order_id, user_id, status, amount FROM t_order WHERE order_id BETWEEN ? AND ? ORDER BY order_id");
+            aggregationSelectStatement = connection.prepareStatement("SELECT status, COUNT(*) AS cnt, SUM(amount) AS total FROM t_order GROUP BY status");
+            maxOrderId = environmentState.rowsPerTable * environmentState.tableCount;
+        }
+        
+        /**
+         * Tear down.
+         *
+         * @throws SQLException SQL exception
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            pointSelectStatement.close();
+            rangeSelectStatement.close();
+            aggregationSelectStatement.close();
+            connection.close();
+        }
+    }
+    
+    /**
+     * Benchmark point select routed to a single data node.
+     *
+     * @param state connection state
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void pointSelect(final ConnectionState state, final Blackhole blackhole) throws SQLException {
+        int orderId = ThreadLocalRandom.current().nextInt(state.maxOrderId);
+        state.pointSelectStatement.setInt(1, ThreadLocalRandom.current().nextInt(state.maxOrderId));
+        state.pointSelectStatement.setLong(2, orderId);
+        consume(state.pointSelectStatement, blackhole);
+    }
+    
+    /**
+     * Benchmark range select with order by, routed to all data nodes and merged by stream.
+     *
+     * @param state connection state
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void rangeSelectWithOrderBy(final ConnectionState state, final Blackhole blackhole) throws SQLException {
+        long startOrderId = ThreadLocalRandom.current().nextInt(state.maxOrderId - 100);
+        state.rangeSelectStatement.setLong(1, startOrderId);
+        state.rangeSelectStatement.setLong(2, startOrderId + 100L);
+        consume(state.rangeSelectStatement, blackhole);
+    }
+    
+    /**
+     * Benchmark aggregation select with group by, routed to all data nodes and merged in memory.
+     *
+     * @param state connection state
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void aggregationSelect(final ConnectionState state, final Blackhole blackhole) throws SQLException {
+        consume(state.aggregationSelectStatement, blackhole);
+    }
+    
+    private void consume(final PreparedStatement preparedStatement, final Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            int columnCount = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                for (int i = 1; i <= columnCount; i++) {
+                    blackhole.consume(resultSet.getObject(i));
+                }
+            }
+        }
+    }
+}
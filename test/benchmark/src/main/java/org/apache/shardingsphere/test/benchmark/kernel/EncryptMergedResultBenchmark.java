@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
+import org.apache.shardingsphere.encrypt.config.EncryptRuleConfiguration;
+import org.apache.shardingsphere.encrypt.config.rule.EncryptColumnItemRuleConfiguration;
+import org.apache.shardingsphere.encrypt.config.rule.EncryptColumnRuleConfiguration;
+import org.apache.shardingsphere.encrypt.config.rule.EncryptTableRuleConfiguration;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encrypt merged result benchmark, decrypts and fully iterates wide encrypted query results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseG1GC")
+public class EncryptMergedResultBenchmark {
+    
+    private static final String DATABASE_NAME = "benchmark_encrypt_db";
+    
+    private static final String TABLE_NAME = "t_encrypt_wide";
+    
+    private static final String AES_KEY = "123456abc";
+    
+    @Param({"8", "64"})
+    private int columnCount;
+    
+    @Param("1000")
+    private int rowCount;
+    
+    private ShardingSphereDataSource dataSource;
+    
+    private MergeEngine mergeEngine;
+    
+    private QueryContext queryContext;
+    
+    private RawQueryResultMetaData queryResultMetaData;
+    
+    private List<MemoryQueryResultDataRow> rows;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        HikariDataSource actualDataSource = createActualDataSource();
+        dataSource = new ShardingSphereDataSource(DATABASE_NAME, null, Collections.singletonMap("ds_0", actualDataSource), Collections.singleton(createEncryptRuleConfiguration()), new Properties());
+        ShardingSphereMetaData metaData;
+        try (Connection connection = dataSource.getConnection()) {
+            metaData = connection.unwrap(ShardingSphereConnection.class).getContextManager().getMetaDataContexts().getMetaData();
+        }
+        ShardingSphereDatabase database = metaData.getDatabase(DATABASE_NAME);
+        ConnectionContext connectionContext = new ConnectionContext(Collections::emptyList);
+        connectionContext.setCurrentDatabaseName(DATABASE_NAME);
+        String sql = createSelectSQL();
+        SQLStatementParserEngine parserEngine = new SQLStatementParserEngine(database.getProtocolType(), new CacheOption(1, 1L), new CacheOption(1, 1L));
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, DATABASE_NAME, new HintValueContext()).bind(parserEngine.parse(sql, false));
+        queryContext = new QueryContext(sqlStatementContext, sql, Collections.emptyList(), new HintValueContext(), connectionContext, metaData);
+        mergeEngine = new MergeEngine(metaData, database, metaData.getProps(), connectionContext);
+        queryResultMetaData = createQueryResultMetaData();
+        rows = createRows();
+    }
+    
+    private HikariDataSource createActualDataSource() throws SQLException {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", DATABASE_NAME));
+        result.setUsername("sa");
+        result.setPassword("");
+        StringBuilder columnDefinitions = new StringBuilder("id BIGINT PRIMARY KEY");
+        for (int i = 0; i < columnCount; i++) {
+            columnDefinitions.append(", c_").append(i).append("_cipher VARCHAR(255)");
+        }
+        try (
+                Connection connection = result.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(String.format("DROP TABLE IF EXISTS %s", TABLE_NAME));
+            statement.execute(String.format("CREATE TABLE %s (%s)", TABLE_NAME, columnDefinitions));
+        }
+        return result;
+    }
+    
+    private EncryptRuleConfiguration createEncryptRuleConfiguration() {
+        Collection<EncryptColumnRuleConfiguration> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columns.add(new EncryptColumnRuleConfiguration("c_" + i, new EncryptColumnItemRuleConfiguration("c_" + i + "_cipher", "aes_encryptor")));
+        }
+        Properties props = PropertiesBuilder.build(new Property("aes-key-value", AES_KEY), new Property("digest-algorithm-name", "SHA-1"));
+        return new EncryptRuleConfiguration(Collections.singleton(new EncryptTableRuleConfiguration(TABLE_NAME, columns)),
+                Collections.singletonMap("aes_encryptor", new AlgorithmConfiguration("AES", props)));
+    }
+    
+    private String createSelectSQL() {
+        StringBuilder result = new StringBuilder("SELECT id");
+        for (int i = 0; i < columnCount; i++) {
+            result.append(", c_").append(i);
+        }
+        return result.append(" FROM ").append(TABLE_NAME).toString();
+    }
+    
+    private RawQueryResultMetaData createQueryResultMetaData() {
+        List<RawQueryResultColumnMetaData> columns = new ArrayList<>(columnCount + 1);
+        columns.add(new RawQueryResultColumnMetaData(TABLE_NAME, "id", "id", Types.BIGINT, "BIGINT", 20, 0));
+        for (int i = 0; i < columnCount; i++) {
+            columns.add(new RawQueryResultColumnMetaData(TABLE_NAME, "c_" + i, "c_" + i, Types.VARCHAR, "VARCHAR", 255, 0));
+        }
+        return new RawQueryResultMetaData(columns);
+    }
+    
+    private List<MemoryQueryResultDataRow> createRows() {
+        EncryptAlgorithm encryptAlgorithm = TypedSPILoader.getService(EncryptAlgorithm.class, "AES",
+                PropertiesBuilder.build(new Property("aes-key-value", AES_KEY), new Property("digest-algorithm-name", "SHA-1")));
+        List<MemoryQueryResultDataRow> result = new ArrayList<>(rowCount);
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            List<Object> values = new ArrayList<>(columnCount + 1);
+            values.add((long) rowIndex);
+            for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+                values.add(encryptAlgorithm.encrypt("value_" + rowIndex + "_" + columnIndex, null));
+            }
+            result.add(new MemoryQueryResultDataRow(values));
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        dataSource.close();
+    }
+    
+    /**
+     * Benchmark decorate and iterate all decrypted rows.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void decryptAndIterate(final Blackhole blackhole) throws SQLException {
+        MergedResult mergedResult = mergeEngine.merge(Collections.singletonList(new RawMemoryQueryResult(queryResultMetaData, rows)), queryContext);
+        int totalColumnCount = queryResultMetaData.getColumnCount();
+        while (mergedResult.next()) {
+            for (int i = 1; i <= totalColumnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.expr.entry.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.CompiledInlineShardingExpression;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inline sharding algorithm benchmark, compares compiled inline sharding expression with Groovy evaluation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseG1GC")
+public class InlineShardingAlgorithmBenchmark {
+    
+    private static final String COLUMN_NAME = "order_id";
+    
+    private static final DataNodeInfo DATA_NODE_INFO = new DataNodeInfo("t_order_", 2, '0');
+    
+    @Param({"t_order_${order_id % 16}", "t_order_${Math.abs(order_id.hashCode()) % 16}"})
+    private String algorithmExpression;
+    
+    private StandardShardingAlgorithm<Comparable<?>> shardingAlgorithm;
+    
+    private CompiledInlineShardingExpression compiledExpression;
+    
+    private Collection<String> availableTargetNames;
+    
+    private long shardingValue;
+    
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        shardingAlgorithm = (StandardShardingAlgorithm<Comparable<?>>) TypedSPILoader.getService(ShardingAlgorithm.class, "INLINE", PropertiesBuilder.build(new Property("algorithm-expression", algorithmExpression)));
+        compiledExpression = CompiledInlineShardingExpression.compile(algorithmExpression).orElseThrow(() -> new IllegalStateException("Can not compile " + algorithmExpression));
+        availableTargetNames = new ArrayList<>(16);
+        for (int i = 0; i < 16; i++) {
+            availableTargetNames.add("t_order_" + i);
+        }
+    }
+    
+    /**
+     * Benchmark precise sharding through inline sharding algorithm.
+     *
+     * @return target name
+     */
+    @Benchmark
+    public String doSharding() {
+        return shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", COLUMN_NAME, DATA_NODE_INFO, nextShardingValue()));
+    }
+    
+    /**
+     * Benchmark compiled inline sharding expression evaluation.
+     *
+     * @return target name
+     */
+    @Benchmark
+    public String evaluateCompiled() {
+        return compiledExpression.evaluate(COLUMN_NAME, nextShardingValue()).orElse(null);
+    }
+    
+    /**
+     * Benchmark Groovy inline expression evaluation.
+     *
+     * @return target name
+     */
+    @Benchmark
+    public String evaluateGroovy() {
+        return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(Collections.singletonMap(COLUMN_NAME, nextShardingValue()));
+    }
+    
+    private Comparable<?> nextShardingValue() {
+        return ++shardingValue;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.test.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kernel path benchmark, measures each stage of parse, bind, route and rewrite separately and the whole kernel processor.
+ *
+ * <p>Every stage consumes the pre-computed output of the stage before it, so the score of a stage only contains its own cost.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseG1GC")
+public class KernelPathBenchmark {
+    
+    private static final String POINT_SELECT = "SELECT order_id, user_id, status, amount FROM t_order WHERE user_id = ? AND order_id = ?";
+    
+    private static final String RANGE_SELECT = "SELECT order_id, user_id, status, amount FROM t_order WHERE order_id BETWEEN ? AND ? ORDER BY order_id LIMIT ?, ?";
+    
+    private static final String AGGREGATION_SELECT = "SELECT user_id, COUNT(*) AS cnt, SUM(amount) AS total FROM t_order WHERE user_id IN (?, ?, ?) GROUP BY user_id";
+    
+    private static final String INSERT = "INSERT INTO t_order (order_id, user_id, status, amount) VALUES (?, ?, ?, ?), (?, ?, ?, ?)";
+    
+    @Param({"POINT_SELECT", "RANGE_SELECT", "AGGREGATION_SELECT", "INSERT"})
+    private String sqlType;
+    
+    @Param("2")
+    private int dataSourceCount;
+    
+    @Param("4")
+    private int tableCount;
+    
+    private BenchmarkShardingEnvironment environment;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private ShardingSphereDatabase database;
+    
+    private ConfigurationProperties props;
+    
+    private SQLStatementParserEngine parserEngine;
+    
+    private String sql;
+    
+    private List<Object> params;
+    
+    private SQLStatement sqlStatement;
+    
+    private QueryContext queryContext;
+    
+    private RouteContext routeContext;
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        environment = new BenchmarkShardingEnvironment(dataSourceCount, tableCount, 0);
+        metaData = environment.getMetaData();
+        database = metaData.getDatabase(BenchmarkShardingEnvironment.DATABASE_NAME);
+        props = metaData.getProps();
+        DatabaseType databaseType = database.getProtocolType();
+        parserEngine = new SQLStatementParserEngine(databaseType, new CacheOption(128, 1024L), new CacheOption(128, 1024L));
+        sql = getSQL();
+        params = getParameters();
+        sqlStatement = parserEngine.parse(sql, false);
+        queryContext = createQueryContext(bind());
+        routeContext = route();
+    }
+    
+    private String getSQL() {
+        switch (sqlType) {
+            case "POINT_SELECT":
+                return POINT_SELECT;
+            case "RANGE_SELECT":
+                return RANGE_SELECT;
+            case "AGGREGATION_SELECT":
+                return AGGREGATION_SELECT;
+            default:
+                return INSERT;
+        }
+    }
+    
+    private List<Object> getParameters() {
+        switch (sqlType) {
+            case "POINT_SELECT":
+                return new ArrayList<>(Arrays.asList(1, 5L));
+            case "RANGE_SELECT":
+                return new ArrayList<>(Arrays.asList(100L, 10000L, 20, 10));
+            case "AGGREGATION_SELECT":
+                return new ArrayList<>(Arrays.asList(1, 2, 3));
+            default:
+                return new ArrayList<>(Arrays.asList(1L, 1, "OK", 10, 2L, 2, "INIT", 20));
+        }
+    }
+    
+    private QueryContext createQueryContext(final SQLStatementContext sqlStatementContext) {
+        ConnectionContext connectionContext = new ConnectionContext(Collections::emptyList);
+        connectionContext.setCurrentDatabaseName(BenchmarkShardingEnvironment.DATABASE_NAME);
+        return new QueryContext(sqlStatementContext, sql, params, new HintValueContext(), connectionContext, metaData);
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        environment.close();
+    }
+    
+    /**
+     * Benchmark parse without SQL statement cache.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parse() {
+        return parserEngine.parse(sql, false);
+    }
+    
+    /**
+     * Benchmark parse with SQL statement cache hit.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseWithCache() {
+        return parserEngine.parse(sql, true);
+    }
+    
+    /**
+     * Benchmark bind.
+     *
+     * @return SQL statement context
+     */
+    @Benchmark
+    public SQLStatementContext bind() {
+        return new SQLBindEngine(metaData, BenchmarkShardingEnvironment.DATABASE_NAME, new HintValueContext()).bind(sqlStatement);
+    }
+    
+    /**
+     * Benchmark route.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext route() {
+        return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(queryContext, metaData.getGlobalRuleMetaData(), database);
+    }
+    
+    /**
+     * Benchmark rewrite.
+     *
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult rewrite() {
+        return new SQLRewriteEntry(database, metaData.getGlobalRuleMetaData(), props).rewrite(queryContext, routeContext);
+    }
+    
+    /**
+     * Benchmark whole kernel processor, includes check, route, rewrite and execution context building.
+     *
+     * @return execution context
+     */
+    @Benchmark
+    public ExecutionContext kernelProcess() {
+        return kernelProcessor.generateExecutionContext(queryContext, metaData.getGlobalRuleMetaData(), props);
+    }
+    
+    /**
+     * Benchmark parse, bind and kernel processor together.
+     *
+     * @return execution context
+     */
+    @Benchmark
+    public ExecutionContext parseBindAndKernelProcess() {
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, BenchmarkShardingEnvironment.DATABASE_NAME, new HintValueContext()).bind(parserEngine.parse(sql, true));
+        return kernelProcessor.generateExecutionContext(createQueryContext(sqlStatementContext), metaData.getGlobalRuleMetaData(), props);
+    }
+}
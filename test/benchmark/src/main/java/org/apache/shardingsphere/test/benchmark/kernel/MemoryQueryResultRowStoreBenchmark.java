@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRowStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Memory query result row store benchmark, loads and fully iterates group by rows with object array rows or columnar row store.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation per operation of both layouts.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+UseG1GC", "-Xms2g", "-Xmx2g"})
+public class MemoryQueryResultRowStoreBenchmark {
+    
+    private static final int COLUMN_COUNT = 4;
+    
+    private static final String[] STATUSES = {"INIT", "PAID", "SHIPPED", "FINISHED"};
+    
+    @Param({"OBJECT_ARRAY", "COLUMNAR"})
+    private String layout;
+    
+    @Param({"10000", "1000000"})
+    private int rowCount;
+    
+    /**
+     * Benchmark load rows into memory and iterate all cells.
+     *
+     * @param blackhole blackhole
+     * @return loaded rows
+     */
+    @Benchmark
+    public List<MemoryQueryResultRow> loadAndIterate(final Blackhole blackhole) {
+        MemoryQueryResultRowStore store = "COLUMNAR".equals(layout) ? new MemoryQueryResultRowStore(COLUMN_COUNT) : null;
+        List<MemoryQueryResultRow> result = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            Object[] data = createRowData(i);
+            result.add(null == store ? new MemoryQueryResultRow(data) : store.append(data));
+        }
+        for (MemoryQueryResultRow each : result) {
+            for (int i = 1; i <= COLUMN_COUNT; i++) {
+                blackhole.consume(each.getCell(i));
+            }
+        }
+        return result;
+    }
+    
+    private Object[] createRowData(final int rowIndex) {
+        return new Object[]{(long) rowIndex * 1024L, rowIndex % 100000, new String(STATUSES[rowIndex % STATUSES.length]), rowIndex * 0.01D};
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.apache.shardingsphere.test.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merge engine benchmark, merges and fully iterates stub shard query results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseG1GC")
+public class MergeEngineBenchmark {
+    
+    private static final String ORDER_BY_SELECT = "SELECT order_id, user_id, status, amount FROM t_order ORDER BY order_id";
+    
+    private static final String GROUP_BY_SELECT = "SELECT user_id, COUNT(*) AS cnt, SUM(amount) AS total FROM t_order GROUP BY user_id ORDER BY total";
+    
+    private static final String ITERATOR_SELECT = "SELECT order_id, user_id, status, amount FROM t_order";
+    
+    @Param({"ORDER_BY", "GROUP_BY", "ITERATOR"})
+    private String mergeType;
+    
+    @Param({"8", "64"})
+    private int shardCount;
+    
+    @Param("1000")
+    private int rowsPerShard;
+    
+    private BenchmarkShardingEnvironment environment;
+    
+    private MergeEngine mergeEngine;
+    
+    private QueryContext queryContext;
+    
+    private RawQueryResultMetaData queryResultMetaData;
+    
+    private List<List<MemoryQueryResultDataRow>> shardRows;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        environment = new BenchmarkShardingEnvironment(2, 4, 0);
+        ShardingSphereMetaData metaData = environment.getMetaData();
+        ShardingSphereDatabase database = metaData.getDatabase(BenchmarkShardingEnvironment.DATABASE_NAME);
+        ConnectionContext connectionContext = new ConnectionContext(Collections::emptyList);
+        connectionContext.setCurrentDatabaseName(BenchmarkShardingEnvironment.DATABASE_NAME);
+        String sql = "GROUP_BY".equals(mergeType) ? GROUP_BY_SELECT : "ORDER_BY".equals(mergeType) ? ORDER_BY_SELECT : ITERATOR_SELECT;
+        SQLStatementParserEngine parserEngine = new SQLStatementParserEngine(database.getProtocolType(), new CacheOption(1, 1L), new CacheOption(1, 1L));
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, BenchmarkShardingEnvironment.DATABASE_NAME, new HintValueContext()).bind(parserEngine.parse(sql, false));
+        queryContext = new QueryContext(sqlStatementContext, sql, Collections.emptyList(), new HintValueContext(), connectionContext, metaData);
+        mergeEngine = new MergeEngine(metaData, database, metaData.getProps(), connectionContext);
+        queryResultMetaData = "GROUP_BY".equals(mergeType) ? createGroupByMetaData() : createOrderMetaData();
+        shardRows = createShardRows();
+    }
+    
+    private RawQueryResultMetaData createOrderMetaData() {
+        return new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("t_order", "order_id", "order_id", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("t_order", "status", "status", Types.VARCHAR, "VARCHAR", 45, 0),
+                new RawQueryResultColumnMetaData("t_order", "amount", "amount", Types.DECIMAL, "DECIMAL", 10, 2)));
+    }
+    
+    private RawQueryResultMetaData createGroupByMetaData() {
+        return new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("", "cnt", "cnt", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("", "total", "total", Types.DECIMAL, "DECIMAL", 20, 2)));
+    }
+    
+    private List<List<MemoryQueryResultDataRow>> createShardRows() {
+        List<List<MemoryQueryResultDataRow>> result = new ArrayList<>(shardCount);
+        for (int shardIndex = 0; shardIndex < shardCount; shardIndex++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(rowsPerShard);
+            for (int rowIndex = 0; rowIndex < rowsPerShard; rowIndex++) {
+                rows.add(new MemoryQueryResultDataRow("GROUP_BY".equals(mergeType)
+                        ? Arrays.asList(rowIndex, 1L, BigDecimal.valueOf(shardIndex + rowIndex, 2))
+                        : Arrays.asList((long) rowIndex * shardCount + shardIndex, rowIndex, "OK", BigDecimal.valueOf(rowIndex, 2))));
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        environment.close();
+    }
+    
+    /**
+     * Benchmark merge and iterate all merged rows.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeAndIterate(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (List<MemoryQueryResultDataRow> each : shardRows) {
+            queryResults.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext);
+        int columnCount = queryResultMetaData.getColumnCount();
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.test.benchmark.pipeline;
+
+import org.apache.shardingsphere.data.pipeline.api.type.StandardPipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineBulkInsertMode;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.type.PipelineDataSourceSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.TableAndSchemaNameMapper;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipeline data source sink benchmark, writes insert records into in-memory H2 with every bulk insert mode.
+ *
+ * <p>The {@code rows} counter reports written rows per second.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseG1GC")
+public class PipelineDataSourceSinkBenchmark {
+    
+    private static final String TABLE_NAME = "t_order";
+    
+    @Param({"BATCH", "MULTI_VALUES"})
+    private String bulkInsertMode;
+    
+    @Param({"100", "1000"})
+    private int batchSize;
+    
+    private PipelineDataSourceManager dataSourceManager;
+    
+    private StandardPipelineDataSourceConfiguration dataSourceConfig;
+    
+    private PipelineDataSourceSink sink;
+    
+    private long nextOrderId;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Map<String, Object> poolProps = new HashMap<>(3, 1F);
+        poolProps.put("url", "jdbc:h2:mem:pipeline_sink_benchmark;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL");
+        poolProps.put("username", "root");
+        poolProps.put("password", "");
+        dataSourceConfig = new StandardPipelineDataSourceConfiguration(poolProps);
+        dataSourceManager = new PipelineDataSourceManager();
+        executeSQL(String.format("CREATE TABLE IF NOT EXISTS %s (order_id BIGINT PRIMARY KEY, user_id INT, status VARCHAR(45), amount DECIMAL(10, 2))", TABLE_NAME));
+        ImporterConfiguration importerConfig = new ImporterConfiguration(dataSourceConfig, Collections.singletonMap(new ShardingSphereIdentifier(TABLE_NAME),
+                Arrays.asList("order_id", "user_id", "status", "amount")), new TableAndSchemaNameMapper(Collections.emptyMap()), batchSize, null, 0, 1, PipelineBulkInsertMode.valueOf(bulkInsertMode));
+        sink = new PipelineDataSourceSink(importerConfig, dataSourceManager);
+    }
+    
+    /**
+     * Clean written rows.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Iteration)
+    public void cleanRows() throws SQLException {
+        executeSQL(String.format("TRUNCATE TABLE %s", TABLE_NAME));
+    }
+    
+    private void executeSQL(final String sql) throws SQLException {
+        try (
+                Connection connection = dataSourceManager.getDataSource(dataSourceConfig).getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+    
+    /**
+     * Tear down.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        executeSQL(String.format("DROP TABLE IF EXISTS %s", TABLE_NAME));
+        sink.close();
+        dataSourceManager.close();
+    }
+    
+    /**
+     * Benchmark write one batch of insert records.
+     *
+     * @param rowCounter row counter
+     */
+    @Benchmark
+    public void write(final RowCounter rowCounter) {
+        rowCounter.rows += sink.write("", createInsertRecords()).getProcessedRecordsCount();
+    }
+    
+    private Collection<Record> createInsertRecords() {
+        List<Record> result = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            long orderId = nextOrderId++;
+            DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, TABLE_NAME, new IngestPlaceholderPosition(), 4);
+            dataRecord.addColumn(new NormalColumn("order_id", orderId, true, true));
+            dataRecord.addColumn(new NormalColumn("user_id", (int) (orderId % 1000L), true, false));
+            dataRecord.addColumn(new NormalColumn("status", "OK", true, false));
+            dataRecord.addColumn(new NormalColumn("amount", BigDecimal.valueOf(orderId % 100000L, 2), true, false));
+            result.add(dataRecord);
+        }
+        return result;
+    }
+    
+    /**
+     * Row counter.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RowCounter {
+        
+        public long rows;
+        
+        /**
+         * Reset counter.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0L;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.jdbc.jmh_generated;
+public class ShardingSphereDataSourceBenchmark_ConnectionState_jmhType extends ShardingSphereDataSourceBenchmark_ConnectionState_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.jdbc.jmh_generated;
+public class ShardingSphereDataSourceBenchmark_EnvironmentState_jmhType extends ShardingSphereDataSourceBenchmark_EnvironmentState_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.kernel.jmh_generated;
+public class EncryptMergedResultBenchmark_jmhType extends EncryptMergedResultBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.kernel.jmh_generated;
+public class InlineShardingAlgorithmBenchmark_jmhType extends InlineShardingAlgorithmBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.kernel.jmh_generated;
+public class KernelPathBenchmark_jmhType extends KernelPathBenchmark_jmhType_B3 {
+}
+
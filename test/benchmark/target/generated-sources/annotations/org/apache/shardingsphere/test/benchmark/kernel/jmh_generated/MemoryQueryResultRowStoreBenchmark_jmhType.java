@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.kernel.jmh_generated;
+public class MemoryQueryResultRowStoreBenchmark_jmhType extends MemoryQueryResultRowStoreBenchmark_jmhType_B3 {
+}
+
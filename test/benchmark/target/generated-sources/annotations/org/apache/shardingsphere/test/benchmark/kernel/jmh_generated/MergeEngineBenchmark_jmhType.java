@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.kernel.jmh_generated;
+public class MergeEngineBenchmark_jmhType extends MergeEngineBenchmark_jmhType_B3 {
+}
+
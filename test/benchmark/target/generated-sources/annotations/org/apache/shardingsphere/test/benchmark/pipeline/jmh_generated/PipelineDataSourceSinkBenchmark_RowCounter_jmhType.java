@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.pipeline.jmh_generated;
+public class PipelineDataSourceSinkBenchmark_RowCounter_jmhType extends PipelineDataSourceSinkBenchmark_RowCounter_jmhType_B3 {
+}
+
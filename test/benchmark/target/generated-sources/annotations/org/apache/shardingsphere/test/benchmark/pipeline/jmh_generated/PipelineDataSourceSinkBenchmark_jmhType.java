@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.pipeline.jmh_generated;
+public class PipelineDataSourceSinkBenchmark_jmhType extends PipelineDataSourceSinkBenchmark_jmhType_B3 {
+}
+
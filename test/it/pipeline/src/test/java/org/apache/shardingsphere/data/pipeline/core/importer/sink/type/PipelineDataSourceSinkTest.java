@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperatio
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.importer.SingleChannelConsumerImporter;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineBulkInsertMode;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.TableAndSchemaNameMapper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
@@ -37,6 +38,8 @@ import org.apache.shardingsphere.test.it.data.pipeline.core.fixture.algorithm.Fi
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -54,9 +57,13 @@ import java.util.Map;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -85,13 +92,17 @@ class PipelineDataSourceSinkTest {
         poolProps.put("username", "root");
         poolProps.put("password", "root");
         dataSourceConfig = new StandardPipelineDataSourceConfiguration(poolProps);
-        PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(), mockPipelineDataSourceManager());
-        importer = new SingleChannelConsumerImporter(channel, 100, 1000L, pipelineSink, new FixtureTransmissionJobItemContext());
+        importer = createImporter(PipelineBulkInsertMode.BATCH);
     }
     
-    private ImporterConfiguration mockImporterConfiguration() {
+    private SingleChannelConsumerImporter createImporter(final PipelineBulkInsertMode bulkInsertMode) throws SQLException {
+        PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(bulkInsertMode), mockPipelineDataSourceManager());
+        return new SingleChannelConsumerImporter(channel, 100, 1000L, pipelineSink, new FixtureTransmissionJobItemContext());
+    }
+    
+    private ImporterConfiguration mockImporterConfiguration(final PipelineBulkInsertMode bulkInsertMode) {
         Map<ShardingSphereIdentifier, Collection<String>> tableAndRequiredColumnsMap = Collections.singletonMap(new ShardingSphereIdentifier("test_table"), Collections.singleton("user"));
-        return new ImporterConfiguration(dataSourceConfig, tableAndRequiredColumnsMap, new TableAndSchemaNameMapper(Collections.emptyMap()), 1000, null, 3, 3);
+        return new ImporterConfiguration(dataSourceConfig, tableAndRequiredColumnsMap, new TableAndSchemaNameMapper(Collections.emptyMap()), 1000, null, 3, 3, bulkInsertMode);
     }
     
     private PipelineDataSourceManager mockPipelineDataSourceManager() throws SQLException {
@@ -112,6 +123,50 @@ class PipelineDataSourceSinkTest {
         verify(preparedStatement).addBatch();
     }
     
+    @ParameterizedTest
+    @EnumSource(value = PipelineBulkInsertMode.class, names = {"MULTI_VALUES", "COPY"})
+    void assertWriteInsertDataRecordsWithMultiValues(final PipelineBulkInsertMode bulkInsertMode) throws SQLException {
+        List<Record> records = new LinkedList<>();
+        records.add(getInsertDataRecord(1, 10));
+        records.add(getInsertDataRecord(2, 20));
+        records.add(new FinishedRecord(new IngestFinishedPosition()));
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        createImporter(bulkInsertMode).run();
+        verify(connection).prepareStatement(startsWith("INSERT INTO \"test_table\"(\"id\",\"user\",\"status\") VALUES(?,?,?),(?,?,?)"));
+        verify(preparedStatement).setObject(anyInt(), eq(1));
+        verify(preparedStatement).setObject(anyInt(), eq(10));
+        verify(preparedStatement).setObject(anyInt(), eq(2));
+        verify(preparedStatement).setObject(anyInt(), eq(20));
+        verify(preparedStatement).executeUpdate();
+        verify(preparedStatement, never()).addBatch();
+        verify(connection).commit();
+    }
+    
+    @Test
+    void assertWriteInsertDataRecordsWithMultiValuesInPowerOfTwoChunks() throws SQLException {
+        List<Record> records = new LinkedList<>();
+        records.add(getInsertDataRecord(1, 10));
+        records.add(getInsertDataRecord(2, 20));
+        records.add(getInsertDataRecord(3, 30));
+        records.add(new FinishedRecord(new IngestFinishedPosition()));
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        createImporter(PipelineBulkInsertMode.MULTI_VALUES).run();
+        verify(connection).prepareStatement(startsWith("INSERT INTO \"test_table\"(\"id\",\"user\",\"status\") VALUES(?,?,?),(?,?,?)"));
+        verify(connection).prepareStatement("INSERT INTO \"test_table\"(\"id\",\"user\",\"status\") VALUES(?,?,?)");
+        verify(preparedStatement, times(2)).executeUpdate();
+        verify(connection).commit();
+    }
+    
+    private DataRecord getInsertDataRecord(final int id, final int user) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+        result.addColumn(new NormalColumn("id", null, id, false, true));
+        result.addColumn(new NormalColumn("user", null, user, true, false));
+        result.addColumn(new NormalColumn("status", null, PipelineSQLOperationType.INSERT, true, false));
+        return result;
+    }
+    
     @Test
     void assertDeleteDataRecord() throws SQLException {
         DataRecord deleteRecord = getDataRecord(PipelineSQLOperationType.DELETE);
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourc
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.DumperCommonContext;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.InventoryDumperContext;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtils;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
@@ -45,6 +46,8 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InventoryTaskSplitterTest {
@@ -102,6 +105,19 @@ class InventoryTaskSplitterTest {
         assertThat(((IntegerPrimaryKeyIngestPosition) task.getTaskProgress().getPosition()).getEndValue(), is(100L));
     }
     
+    @Test
+    void assertSplitWithSkewedIntPrimaryWithoutSamplingSQL() throws SQLException {
+        initSkewedIntPrimaryEnvironment(dumperContext.getCommonContext());
+        List<InventoryTask> actual = inventoryTaskSplitter.split(jobItemContext);
+        assertThat(actual.size(), is(10));
+        IntegerPrimaryKeyIngestPosition position = (IntegerPrimaryKeyIngestPosition) actual.get(0).getTaskProgress().getPosition();
+        assertThat(position.getBeginValue(), is(1L));
+        assertThat(position.getEndValue(), is(100005L));
+        position = (IntegerPrimaryKeyIngestPosition) actual.get(9).getTaskProgress().getPosition();
+        assertThat(position.getBeginValue(), is(900046L));
+        assertThat(position.getEndValue(), is(1000050L));
+    }
+    
     @Test
     void assertSplitWithCharPrimary() throws SQLException {
         initCharPrimaryEnvironment(dumperContext.getCommonContext());
@@ -113,6 +129,21 @@ class InventoryTaskSplitterTest {
         assertThat(keyPosition.getEndValue(), is(999L));
     }
     
+    @Test
+    void assertSplitWithStringPrimary() throws SQLException {
+        initStringPrimaryEnvironment(dumperContext.getCommonContext());
+        dumperContext.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.split(jobItemContext);
+        assertThat(actual.size(), is(10));
+        StringPrimaryKeyIngestPosition firstPosition = (StringPrimaryKeyIngestPosition) actual.get(0).getTaskProgress().getPosition();
+        assertNull(firstPosition.getBeginValue());
+        assertThat(firstPosition.getEndValue(), is("010"));
+        StringPrimaryKeyIngestPosition lastPosition = (StringPrimaryKeyIngestPosition) actual.get(9).getTaskProgress().getPosition();
+        assertThat(lastPosition.getBeginValue(), is("090"));
+        assertFalse(lastPosition.isBeginValueInclusive());
+        assertNull(lastPosition.getEndValue());
+    }
+    
     @Test
     void assertSplitWithoutPrimaryButWithUniqueIndex() throws SQLException {
         initUniqueIndexOnNotNullColumnEnvironment(dumperContext.getCommonContext());
@@ -165,6 +196,19 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initSkewedIntPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 50; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x'), (%d, 'x')", i, 1000000 + i));
+            }
+        }
+    }
+    
     private void initCharPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
         try (
@@ -176,6 +220,19 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initStringPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(3) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 100; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES ('%03d', 'xxx')", i));
+            }
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
         try (
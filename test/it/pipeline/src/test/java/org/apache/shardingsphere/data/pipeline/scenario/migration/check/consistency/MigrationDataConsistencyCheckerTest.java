@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.scenario.migration.check.consist
 
 import org.apache.shardingsphere.data.pipeline.api.PipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.position.TableCheckRangePosition;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckIgnoredType;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContextManager;
@@ -31,6 +32,8 @@ import org.apache.shardingsphere.data.pipeline.scenario.migration.config.Migrati
 import org.apache.shardingsphere.data.pipeline.scenario.migration.config.yaml.swapper.YamlMigrationJobConfigurationSwapper;
 import org.apache.shardingsphere.data.pipeline.scenario.migration.context.MigrationJobItemContext;
 import org.apache.shardingsphere.elasticjob.infra.pojo.JobConfigurationPOJO;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.test.it.data.pipeline.core.util.JobConfigurationBuilder;
@@ -42,6 +45,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -74,7 +78,24 @@ class MigrationDataConsistencyCheckerTest {
         assertThat(actual.getIgnoredType(), is(TableDataConsistencyCheckIgnoredType.NO_UNIQUE_KEY));
     }
     
+    @Test
+    void assertDataMatchCheckWithRangeSplit() throws SQLException {
+        MigrationJobConfiguration jobConfig = createJobConfiguration(true);
+        ConsistencyCheckJobItemProgressContext progressContext = createConsistencyCheckJobItemProgressContext(jobConfig.getJobId());
+        Map<String, TableDataConsistencyCheckResult> checkResultMap = check(jobConfig, "DATA_MATCH", PropertiesBuilder.build(new Property("range-split-size", "1"), new Property("check-concurrency", "2")), progressContext);
+        TableDataConsistencyCheckResult actual = checkResultMap.get("t_order");
+        assertTrue(actual.isMatched());
+        assertFalse(actual.isIgnored());
+        assertThat(progressContext.getTableCheckRangePositions().size(), is(2));
+        assertTrue(progressContext.getTableCheckRangePositions().stream().allMatch(TableCheckRangePosition::isFinished));
+    }
+    
     private Map<String, TableDataConsistencyCheckResult> check(final MigrationJobConfiguration jobConfig, final String algorithmType) {
+        return check(jobConfig, algorithmType, null, createConsistencyCheckJobItemProgressContext(jobConfig.getJobId()));
+    }
+    
+    private Map<String, TableDataConsistencyCheckResult> check(final MigrationJobConfiguration jobConfig, final String algorithmType, final Properties algorithmProps,
+                                                               final ConsistencyCheckJobItemProgressContext progressContext) {
         JobConfigurationPOJO jobConfigurationPOJO = new JobConfigurationPOJO();
         jobConfigurationPOJO.setJobParameter(YamlEngine.marshal(new YamlMigrationJobConfigurationSwapper().swapToYamlConfiguration(jobConfig)));
         jobConfigurationPOJO.setJobName(jobConfig.getJobId());
@@ -82,8 +103,7 @@ class MigrationDataConsistencyCheckerTest {
         PipelineGovernanceFacade governanceFacade = PipelineAPIFactory.getPipelineGovernanceFacade(PipelineContextUtils.getContextKey());
         getClusterPersistRepository().persist(String.format("/pipeline/jobs/%s/config", jobConfig.getJobId()), YamlEngine.marshal(jobConfigurationPOJO));
         governanceFacade.getJobItemFacade().getProcess().persist(jobConfig.getJobId(), 0, "");
-        return new MigrationDataConsistencyChecker(jobConfig, new TransmissionProcessContext(jobConfig.getJobId(), null),
-                createConsistencyCheckJobItemProgressContext(jobConfig.getJobId())).check(algorithmType, null);
+        return new MigrationDataConsistencyChecker(jobConfig, new TransmissionProcessContext(jobConfig.getJobId(), null), progressContext).check(algorithmType, algorithmProps);
     }
     
     private ClusterPersistRepository getClusterPersistRepository() {
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.test.it.data.pipeline.core.util.PipelineContext
 import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * Pipeline SQL builder for H2.
@@ -36,6 +37,11 @@ public final class H2PipelineSQLBuilder implements DialectPipelineSQLBuilder {
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
     }
     
+    @Override
+    public Optional<String> buildUniqueKeyBoundaryProbingSQL(final String qualifiedTableName, final String uniqueKey) {
+        return Optional.of(String.format("SELECT %s FROM %s WHERE %s > ? ORDER BY %s ASC LIMIT 1 OFFSET ?", uniqueKey, qualifiedTableName, uniqueKey, uniqueKey));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) {
         ShardingSpherePreconditions.checkState("t_order".equalsIgnoreCase(tableName), () -> new CreateTableSQLGenerateException(tableName));